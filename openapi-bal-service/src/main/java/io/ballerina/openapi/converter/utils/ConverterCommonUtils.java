@@ -65,7 +65,6 @@ import io.swagger.v3.oas.models.media.NumberSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.media.StringSchema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 import org.apache.commons.io.FilenameUtils;
@@ -356,6 +355,19 @@ public class ConverterCommonUtils {
      * @return {@link OASResult}  OpenAPI model
      */
     public static OASResult parseOpenAPIFile(String definitionURI) {
+        return parseOpenAPIFile(definitionURI, null);
+    }
+
+    /**
+     * Parse and get the {@link OpenAPI} for the given OpenAPI contract, reusing the snapshot of an unchanged contract
+     * in the given directory.
+     *
+     * @param definitionURI     URI for the OpenAPI contract
+     * @param snapshotDirectory directory of the snapshots of the parsed contracts, see {@link OpenAPIParseCache}, or
+     *                          {@code null} to keep the snapshots in memory only
+     * @return {@link OASResult}  OpenAPI model
+     */
+    public static OASResult parseOpenAPIFile(String definitionURI, Path snapshotDirectory) {
         List<OpenAPIConverterDiagnostic> diagnostics = new ArrayList<>();
         Path contractPath = Paths.get(definitionURI);
         ParseOptions parseOptions = new ParseOptions();
@@ -384,8 +396,7 @@ public class ConverterCommonUtils {
                     , error.getDescription(), null, e.toString());
             diagnostics.add(diagnostic);
         }
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null,
-                parseOptions);
+        SwaggerParseResult parseResult = OpenAPIParseCache.parse(openAPIFileContent, parseOptions, snapshotDirectory);
         if (!parseResult.getMessages().isEmpty()) {
             DiagnosticMessages error = DiagnosticMessages.OAS_CONVERTOR_112;
             ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(error.getCode()
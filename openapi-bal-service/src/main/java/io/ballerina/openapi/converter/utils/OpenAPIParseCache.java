@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Parses OpenAPI definitions, reusing the definitions parsed before for the same content and parse options.
+ * <p>
+ * The parsed definitions are kept as compact JSON snapshots in an in-process LRU cache of at most
+ * {@value #MAX_SNAPSHOT_BYTES} bytes of snapshots, keyed by the SHA-256 of the content and the parse options. A
+ * snapshot is turned back into a definition without resolving or flattening it, so each caller gets its own copy of
+ * the definition to modify. The snapshots are also written to the snapshot directory given by the caller, if any, so
+ * that the next builds of an unchanged definition skip the resolution as well.
+ * <p>
+ * Taking a snapshot serializes the whole definition, so the definitions are only cached when the snapshot may be
+ * used again: when the caller gives a snapshot directory, or when the process parses the same definitions again, see
+ * {@link #setKeepInMemory(boolean)}. A one-shot parse is not cached. Neither are the definitions of more than
+ * {@value #MAX_SNAPSHOT_BYTES} characters, whose snapshots would not fit in memory.
+ * <p>
+ * The definitions with errors are not cached, so their errors are reported on each parse. Neither are the
+ * definitions that refer to other files, as a change of a referred file does not change the key of the definition.
+ * <p>
+ * A definition that is parsed from its file rather than from its content, e.g. a large JSON definition that is
+ * parsed as it is streamed, is cached with {@link #getKey(MessageDigest, ParseOptions)}, {@link #get} and
+ * {@link #put}, digesting the file as it is read. The key of a UTF-8 file is the key of its content, so the
+ * definitions parsed either way are shared.
+ *
+ * @since 1.3.0
+ */
+public final class OpenAPIParseCache {
+
+    private static final long MAX_SNAPSHOT_BYTES = 64L * 1024 * 1024;
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String SNAPSHOT_EXTENSION = ".json.gz";
+    private static final String REFERENCE = "$ref";
+    private static final String LOCAL_REFERENCE_PREFIX = "#";
+    private static final Pattern EXTERNAL_REFERENCE_PATTERN =
+            Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?(?!#)[^\\s\"']");
+
+    // In access order, guarded by itself
+    private static final Map<String, byte[]> SNAPSHOTS = new LinkedHashMap<>(16, 0.75f, true);
+    private static long snapshotBytes;
+    private static volatile boolean keepInMemory;
+
+    private OpenAPIParseCache() {
+    }
+
+    /**
+     * Set whether to cache the definitions parsed without a snapshot directory in memory, for a process that parses
+     * the same definitions again, e.g. the daemon, a batch generation or a watch. Off by default, so that a process
+     * that parses each definition once does not pay for the snapshots.
+     *
+     * @param keepInMemory true for a long-lived process
+     */
+    public static void setKeepInMemory(boolean keepInMemory) {
+        OpenAPIParseCache.keepInMemory = keepInMemory;
+    }
+
+    /**
+     * Returns whether a definition of the given size, parsed with the given snapshot directory, is cached.
+     *
+     * @param contentSize       size of the content of the definition, in characters or bytes
+     * @param snapshotDirectory directory of the snapshots, or {@code null}
+     */
+    public static boolean isCacheable(long contentSize, Path snapshotDirectory) {
+        return contentSize <= MAX_SNAPSHOT_BYTES && (snapshotDirectory != null || keepInMemory);
+    }
+
+    /**
+     * Parse the given OpenAPI definition content, as {@link OpenAPIV3Parser#readContents} does, keeping the snapshot
+     * of the definition in memory only.
+     *
+     * @param content      content of the definition
+     * @param parseOptions options of the parser
+     * @return result of the parse, whose definition is not shared with any other caller
+     */
+    public static SwaggerParseResult parse(String content, ParseOptions parseOptions) {
+        return parse(content, parseOptions, null);
+    }
+
+    /**
+     * Parse the given OpenAPI definition content, as {@link OpenAPIV3Parser#readContents} does.
+     *
+     * @param content           content of the definition
+     * @param parseOptions      options of the parser
+     * @param snapshotDirectory directory the snapshot of the definition is written to and read from, e.g. a
+     *                          directory in the target directory of the project, or {@code null} to keep the
+     *                          snapshot in memory only, if at all
+     * @return result of the parse, whose definition is not shared with any other caller
+     */
+    public static SwaggerParseResult parse(String content, ParseOptions parseOptions, Path snapshotDirectory) {
+        if (content == null || !isCacheable(content.length(), snapshotDirectory) ||
+                EXTERNAL_REFERENCE_PATTERN.matcher(content).find()) {
+            return new OpenAPIV3Parser().readContents(content, null, parseOptions);
+        }
+        MessageDigest digest = createDigest();
+        digest.update(content.getBytes(StandardCharsets.UTF_8));
+        String key = getKey(digest, parseOptions);
+        SwaggerParseResult cachedResult = restore(key, snapshotDirectory);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(content, null, parseOptions);
+        if (parseResult.getOpenAPI() != null && parseResult.getMessages().isEmpty()) {
+            putSnapshot(key, parseResult.getOpenAPI(), snapshotDirectory);
+        }
+        return parseResult;
+    }
+
+    /**
+     * Returns a new digest for the content of a definition, whose key is then given by
+     * {@link #getKey(MessageDigest, ParseOptions)}.
+     */
+    public static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the key of the definition whose content is digested by the given digest, parsed with the given options.
+     * The digest is reset. The key of the bytes of a UTF-8 file is the key of its content.
+     *
+     * @param digest       digest created by {@link #createDigest()}, which has digested the whole content
+     * @param parseOptions options of the parser
+     * @return key of the definition
+     */
+    public static String getKey(MessageDigest digest, ParseOptions parseOptions) {
+        digest.update(("\u0000resolve=" + parseOptions.isResolve() +
+                ",resolveFully=" + parseOptions.isResolveFully() +
+                ",flatten=" + parseOptions.isFlatten()).getBytes(StandardCharsets.UTF_8));
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Returns a copy of the definition cached with the given key, which was parsed without errors.
+     *
+     * @param key               key of the definition, see {@link #getKey(MessageDigest, ParseOptions)}
+     * @param snapshotDirectory directory the snapshot of the definition is read from, or {@code null}
+     * @return the definition, which is not shared with any other caller, or null when it is not cached
+     */
+    public static OpenAPI get(String key, Path snapshotDirectory) {
+        SwaggerParseResult cachedResult = restore(key, snapshotDirectory);
+        return cachedResult == null ? null : cachedResult.getOpenAPI();
+    }
+
+    /**
+     * Cache the given definition, which was parsed without errors, with the given key, if a definition of its size
+     * is cached, see {@link #isCacheable(long, Path)}. The definition is not kept, so the caller may modify it.
+     *
+     * @param key               key of the definition, see {@link #getKey(MessageDigest, ParseOptions)}
+     * @param openAPI           parsed definition, which does not refer to other files, see
+     *                          {@link #refersToOtherFiles(JsonNode)}
+     * @param contentSize       size of the content the definition was parsed from
+     * @param snapshotDirectory directory the snapshot of the definition is written to, or {@code null} to keep the
+     *                          snapshot in memory only
+     */
+    public static void put(String key, OpenAPI openAPI, long contentSize, Path snapshotDirectory) {
+        if (isCacheable(contentSize, snapshotDirectory)) {
+            putSnapshot(key, openAPI, snapshotDirectory);
+        }
+    }
+
+    /**
+     * Returns whether the given JSON tree of an unresolved definition refers to other files, which makes the
+     * definition unfit to be cached.
+     */
+    public static boolean refersToOtherFiles(JsonNode rootNode) {
+        Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.add(rootNode);
+        while (!nodes.isEmpty()) {
+            JsonNode node = nodes.pop();
+            JsonNode reference = node.get(REFERENCE);
+            if (reference != null && reference.isTextual() && !reference.asText().startsWith(LOCAL_REFERENCE_PREFIX)) {
+                return true;
+            }
+            node.forEach(nodes::add);
+        }
+        return false;
+    }
+
+    /**
+     * Remove the snapshots kept in memory.
+     */
+    public static void clear() {
+        synchronized (SNAPSHOTS) {
+            SNAPSHOTS.clear();
+            snapshotBytes = 0;
+        }
+    }
+
+    private static SwaggerParseResult restore(String key, Path snapshotDirectory) {
+        byte[] snapshot = getSnapshot(key, snapshotDirectory);
+        if (snapshot == null) {
+            return null;
+        }
+        SwaggerParseResult cachedResult = new OpenAPIV3Parser().readContents(
+                new String(snapshot, StandardCharsets.UTF_8), null, new ParseOptions());
+        return cachedResult.getOpenAPI() != null && cachedResult.getMessages().isEmpty() ? cachedResult : null;
+    }
+
+    private static byte[] getSnapshot(String key, Path directory) {
+        synchronized (SNAPSHOTS) {
+            byte[] snapshot = SNAPSHOTS.get(key);
+            if (snapshot != null) {
+                return snapshot;
+            }
+        }
+        if (directory == null) {
+            return null;
+        }
+        Path snapshotPath = directory.resolve(key + SNAPSHOT_EXTENSION);
+        if (!Files.isRegularFile(snapshotPath)) {
+            return null;
+        }
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(snapshotPath))) {
+            byte[] snapshot = inputStream.readAllBytes();
+            putInMemory(key, snapshot);
+            return snapshot;
+        } catch (IOException e) {
+            // A corrupted snapshot is replaced by the snapshot of the new parse
+            return null;
+        }
+    }
+
+    private static void putSnapshot(String key, OpenAPI openAPI, Path directory) {
+        byte[] snapshot;
+        try {
+            snapshot = Json.mapper().writeValueAsBytes(openAPI);
+        } catch (IOException e) {
+            // e.g. the fully resolved definitions with recursive schemas, which are parsed each time
+            return;
+        }
+        putInMemory(key, snapshot);
+        if (directory == null) {
+            return;
+        }
+        Path tempPath = null;
+        try {
+            Files.createDirectories(directory);
+            // The snapshot is moved in place once written, so that a concurrent build never reads a partial one
+            tempPath = Files.createTempFile(directory, key, null);
+            try (OutputStream outputStream = new GZIPOutputStream(Files.newOutputStream(tempPath))) {
+                outputStream.write(snapshot);
+            }
+            Files.move(tempPath, directory.resolve(key + SNAPSHOT_EXTENSION), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // The snapshot is kept in memory only
+            deleteQuietly(tempPath);
+        }
+    }
+
+    /**
+     * Keep the given snapshot in memory, removing the least recently used snapshots until the snapshots fit in
+     * {@value #MAX_SNAPSHOT_BYTES} bytes. A larger snapshot is not kept in memory.
+     */
+    private static void putInMemory(String key, byte[] snapshot) {
+        if (snapshot.length > MAX_SNAPSHOT_BYTES) {
+            return;
+        }
+        synchronized (SNAPSHOTS) {
+            byte[] previous = SNAPSHOTS.put(key, snapshot);
+            snapshotBytes += snapshot.length - (previous == null ? 0 : previous.length);
+            Iterator<byte[]> snapshots = SNAPSHOTS.values().iterator();
+            while (snapshotBytes > MAX_SNAPSHOT_BYTES) {
+                snapshotBytes -= snapshots.next().length;
+                snapshots.remove();
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            // Left for the next clean of the target directory
+        }
+    }
+}
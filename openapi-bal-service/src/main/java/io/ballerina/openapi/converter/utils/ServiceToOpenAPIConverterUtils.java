@@ -228,9 +228,27 @@ public class ServiceToOpenAPIConverterUtils {
     public static OASResult generateOAS(ServiceDeclarationNode serviceDefinition,
                                         List<ListenerDeclarationNode> endpoints, SemanticModel semanticModel,
                                         String openApiFileName, Path ballerinaFilePath) {
+        return generateOAS(serviceDefinition, endpoints, semanticModel, openApiFileName, ballerinaFilePath, null);
+    }
+
+    /**
+     * Provides an instance of {@code OASResult}, reusing the snapshot of an unchanged contract of the service in the
+     * given directory, see {@link OpenAPIParseCache}.
+     *
+     * @param serviceDefinition     Service Node related to ballerina service
+     * @param endpoints             Listener endpoints that bind to service
+     * @param semanticModel         Semantic model for given ballerina file
+     * @param openApiFileName       OpenAPI file name
+     * @param ballerinaFilePath     Input ballerina file Path
+     * @param snapshotDirectory     Directory of the snapshots of the parsed contracts, or {@code null}
+     * @return {@code OASResult}
+     */
+    public static OASResult generateOAS(ServiceDeclarationNode serviceDefinition,
+                                        List<ListenerDeclarationNode> endpoints, SemanticModel semanticModel,
+                                        String openApiFileName, Path ballerinaFilePath, Path snapshotDirectory) {
         // 01.Fill the openAPI info section
         OASResult oasResult = fillOpenAPIInfoSection(serviceDefinition, semanticModel, openApiFileName,
-                ballerinaFilePath);
+                ballerinaFilePath, snapshotDirectory);
         if (oasResult.getOpenAPI().isPresent() && oasResult.getDiagnostics().isEmpty()) {
             OpenAPI openapi = oasResult.getOpenAPI().get();
             if (openapi.getPaths() == null) {
@@ -254,7 +272,7 @@ public class ServiceToOpenAPIConverterUtils {
      * This function is for completing the OpenAPI info section with package details and annotation details.
      *
      * First check the given service node has metadata with annotation details with `openapi:serviceInfo`,
-     * if it is there, then {@link #parseServiceInfoAnnotationAttachmentDetails(List, AnnotationNode, Path)}
+     * if it is there, then {@link #parseServiceInfoAnnotationAttachmentDetails(List, AnnotationNode, Path, Path)}
      * function extracts the annotation details and store details in {@code OpenAPIInfo} model using
      * {@link #updateOpenAPIInfoModel(SeparatedNodeList)} function. If the annotation contains the valid contract
      * path then we complete given OpenAPI specification using annotation details. if not we create new OpenAPI
@@ -268,10 +286,12 @@ public class ServiceToOpenAPIConverterUtils {
      * @param semanticModel Semantic model for relevant project.
      * @param openapiFileName OpenAPI generated file name.
      * @param ballerinaFilePath Ballerina file path.
+     * @param snapshotDirectory Directory of the snapshots of the parsed contracts, or {@code null}.
      * @return {@code OASResult}
      */
     private static OASResult fillOpenAPIInfoSection(ServiceDeclarationNode serviceNode, SemanticModel semanticModel,
-                                                    String openapiFileName, Path ballerinaFilePath) {
+                                                    String openapiFileName, Path ballerinaFilePath,
+                                                    Path snapshotDirectory) {
         Optional<MetadataNode> metadata = serviceNode.metadata();
         List<OpenAPIConverterDiagnostic> diagnostics = new ArrayList<>();
         OpenAPI openAPI = new OpenAPI();
@@ -287,7 +307,7 @@ public class ServiceToOpenAPIConverterUtils {
                     String annotationName = ref.modulePrefix().text() + ":" + ref.identifier().text();
                     if (annotationName.equals(OPENAPI_ANNOTATION)) {
                         OASResult oasResult = parseServiceInfoAnnotationAttachmentDetails(diagnostics, annotation,
-                                ballerinaFilePath);
+                                ballerinaFilePath, snapshotDirectory);
                         return normalizeInfoSection(openapiFileName, currentServiceName, version, oasResult);
                     } else {
                         openAPI.setInfo(new Info().version(version).title(normalizeTitle(currentServiceName)));
@@ -374,7 +394,8 @@ public class ServiceToOpenAPIConverterUtils {
     // Set annotation details  for info section.
     private static OASResult parseServiceInfoAnnotationAttachmentDetails(List<OpenAPIConverterDiagnostic> diagnostics,
                                                                          AnnotationNode annotation,
-                                                                         Path ballerinaFilePath) {
+                                                                         Path ballerinaFilePath,
+                                                                         Path snapshotDirectory) {
         Location location = annotation.location();
         OpenAPI openAPI = new OpenAPI();
         Optional<MappingConstructorExpressionNode> content = annotation.annotValue();
@@ -386,7 +407,8 @@ public class ServiceToOpenAPIConverterUtils {
                // If in case ballerina file path is getting null, then openAPI specification will be generated for
                // given services.
                if (openAPIInfo.getContractPath().isPresent() && ballerinaFilePath != null) {
-                   return updateExistingContractOpenAPI(diagnostics, location, openAPIInfo, ballerinaFilePath);
+                   return updateExistingContractOpenAPI(diagnostics, location, openAPIInfo, ballerinaFilePath,
+                           snapshotDirectory);
                } else if (openAPIInfo.getTitle().isPresent() && openAPIInfo.getVersion().isPresent()) {
                    openAPI.setInfo(new Info().version(openAPIInfo.getVersion().get()).title(normalizeTitle
                            (openAPIInfo.getTitle().get())));
@@ -402,9 +424,10 @@ public class ServiceToOpenAPIConverterUtils {
 
     private static OASResult updateExistingContractOpenAPI(List<OpenAPIConverterDiagnostic> diagnostics,
                                                            Location location, OpenAPIInfo openAPIInfo,
-                                                           Path ballerinaFilePath) {
+                                                           Path ballerinaFilePath, Path snapshotDirectory) {
 
-        OASResult oasResult = resolveContractPath(diagnostics, location, openAPIInfo, ballerinaFilePath);
+        OASResult oasResult = resolveContractPath(diagnostics, location, openAPIInfo, ballerinaFilePath,
+                snapshotDirectory);
         Optional<OpenAPI> contract = oasResult.getOpenAPI();
         if (contract.isEmpty()) {
             return oasResult;
@@ -458,7 +481,7 @@ public class ServiceToOpenAPIConverterUtils {
         return infoBuilder.build();
     }
     private static OASResult resolveContractPath(List<OpenAPIConverterDiagnostic> diagnostics, Location location,
-                                     OpenAPIInfo openAPIInfo, Path ballerinaFilePath) {
+                                     OpenAPIInfo openAPIInfo, Path ballerinaFilePath, Path snapshotDirectory) {
         OASResult oasResult;
         OpenAPI openAPI = null;
         Path openapiPath = Paths.get(openAPIInfo.getContractPath().get().replaceAll("\"", "").trim());
@@ -484,7 +507,7 @@ public class ServiceToOpenAPIConverterUtils {
             }
         }
         if (relativePath != null && Files.exists(relativePath)) {
-            oasResult = ConverterCommonUtils.parseOpenAPIFile(relativePath.toString());
+            oasResult = ConverterCommonUtils.parseOpenAPIFile(relativePath.toString(), snapshotDirectory);
             if (oasResult.getOpenAPI().isPresent()) {
                 openAPI = oasResult.getOpenAPI().get();
             }
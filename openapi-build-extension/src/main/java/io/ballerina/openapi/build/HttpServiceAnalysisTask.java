@@ -51,6 +51,7 @@ import java.util.Optional;
 
 import static io.ballerina.openapi.build.PluginConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.build.PluginConstants.OPENAPI;
+import static io.ballerina.openapi.build.PluginConstants.OPENAPI_CACHE;
 import static io.ballerina.openapi.build.PluginConstants.UNDERSCORE;
 import static io.ballerina.openapi.converter.Constants.HYPHEN;
 import static io.ballerina.openapi.converter.Constants.OPENAPI_SUFFIX;
@@ -102,8 +103,10 @@ public class HttpServiceAnalysisTask implements AnalysisTask<SyntaxNodeAnalysisC
             Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceNode);
             if (serviceSymbol.isPresent() && serviceSymbol.get() instanceof ServiceDeclarationSymbol) {
                 extractListenersAndServiceNodes(syntaxTree.rootNode(), endpoints, services, semanticModel);
+                // The contracts of the services are parsed once for the builds of the project, until they change
                 OASResult oasResult = ServiceToOpenAPIConverterUtils.generateOAS(serviceNode, endpoints,
-                        semanticModel, services.get(serviceSymbol.get().hashCode()), inputPath);
+                        semanticModel, services.get(serviceSymbol.get().hashCode()), inputPath,
+                        outPath.resolve(OPENAPI_CACHE));
                 oasResult.setServiceName(constructFileName(syntaxTree, services, serviceSymbol.get()));
                 writeOpenAPIYaml(outPath, oasResult, diagnostics);
             }
@@ -24,4 +24,5 @@ public class PluginConstants {
     public static final String OPENAPI = "openapi";
     public static final String OAS_PATH_SEPARATOR = "/";
     public static final String UNDERSCORE = "_";
+    public static final String OPENAPI_CACHE = "openapi-cache";
 }
@@ -18,39 +18,64 @@
 
 package io.ballerina.openapi.cmd;
 
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.ParallelFormatter;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.client.model.RemoteFunctionDependencies;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.OASFingerprints;
+import io.ballerina.openapi.core.model.OASOperation;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
+import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
-import org.ballerinalang.formatter.core.Formatter;
+import io.swagger.v3.oas.models.media.Schema;
+import org.apache.commons.io.FileUtils;
 import org.ballerinalang.formatter.core.FormatterException;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import static io.ballerina.openapi.cmd.CmdConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.CONFIG_FILE_NAME;
@@ -66,6 +91,8 @@ import static io.ballerina.openapi.cmd.CmdConstants.TYPE_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.UNTITLED_SERVICE;
 import static io.ballerina.openapi.cmd.CmdConstants.UTIL_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdUtils.setGeneratedFileName;
+import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP;
 
 /**
  * This class generates Ballerina Services/Clients for a provided OAS definition.
@@ -76,8 +103,18 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private boolean incremental;
+    private GenerationFingerprints clientFingerprints;
 
-    private static final PrintStream outStream = System.err;
+    private PrintStream outStream = System.err;
+    private GenerationProfiler profiler = new GenerationProfiler(false);
+    private String shardBy;
+    private boolean splitByTag;
+    private boolean lazyResolve;
+    private boolean lean;
+    private boolean interactive = true;
+    private boolean keepEditedFiles;
+    private final List<String> keptFiles = new ArrayList<>();
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -96,18 +133,10 @@ public class BallerinaCodeGenerator {
         // Normalize OpenAPI definition, in the client generation we suppose to terminate code generation when the
         // absence of the operationId in operation. Therefor we enable client flag true as default code generation.
         // if resource is enabled, we avoid checking operationId.
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIPath, !isResource);
-
-        // Generate service
-        String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
-        String srcFile = concatTitle + "_service.bal";
-        BallerinaServiceGenerator serviceGenerator = new BallerinaServiceGenerator(openAPIDef, filter);
-        String serviceContent = Formatter.format
-                (serviceGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, serviceContent));
-
-        // Generate client.
-        // Generate ballerina client remote.
+        profiler.startPhase(GenerationProfiler.PARSE);
+        OpenAPI openAPIDef = parseDefinition(openAPIPath, filter);
+        profiler.startPhase(GenerationProfiler.NORMALIZE);
+        openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource);
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
                 .withFilters(filter)
@@ -115,47 +144,83 @@ public class BallerinaCodeGenerator {
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
                 .withResourceMode(isResource).build();
+        // Service, client and types of this generation share the same context.
+        GenerationContext generationContext = oasClientConfig.getGenerationContext();
 
+        // Generate the client and the service in a single traversal of the operations, the client generator adds the
+        // resource function of each operation to the service generator.
+        BallerinaServiceGenerator serviceGenerator = new BallerinaServiceGenerator(generationContext, filter);
         BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, clientContent));
-        String utilContent = Formatter.format(clientGenerator
-                .getBallerinaUtilGenerator()
-                .generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
-        }
+        clientGenerator.setServiceGenerator(serviceGenerator);
+        profiler.startPhase(GenerationProfiler.CLIENT);
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+
+        profiler.startPhase(GenerationProfiler.SERVICE);
+        SyntaxTree serviceSyntaxTree = serviceGenerator.generateSyntaxTree();
+        profiler.startPhase(GenerationProfiler.UTILS);
+        SyntaxTree utilSyntaxTree = clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
 
         // Generate ballerina types.
         // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIDef, nullable);
+        profiler.startPhase(GenerationProfiler.TYPES);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(generationContext);
 
-        //Update type definition list
-        List<TypeDefinitionNode> typeInclusionRecords = serviceGenerator.getTypeInclusionRecords();
-        List<TypeDefinitionNode> typeDefinitionNodeList = clientGenerator.getTypeDefinitionNodeList();
-        List<TypeDefinitionNode> externalTypeDefNodes = new ArrayList<>();
-        externalTypeDefNodes.addAll(typeInclusionRecords);
-        externalTypeDefNodes.addAll(typeDefinitionNodeList);
+        //Update type definition registry with the types generated by the service and the client
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        typeDefinitionRegistry.registerAll(serviceGenerator.getTypeInclusionRecords());
+        typeDefinitionRegistry.registerAll(clientGenerator.getTypeDefinitionNodeList());
 
-        ballerinaSchemaGenerator.setTypeDefinitionNodeList(externalTypeDefNodes);
+        ballerinaSchemaGenerator.setTypeDefinitionRegistry(typeDefinitionRegistry);
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
+        printTypeConflicts(typeDefinitionRegistry.getConflicts());
+
+        List<SyntaxTree> syntaxTrees = new ArrayList<>(
+                List.of(serviceSyntaxTree, clientSyntaxTree, utilSyntaxTree, schemaSyntaxTree));
+        BallerinaTestGenerator ballerinaTestGenerator = null;
+        if (this.includeTestFiles) {
+            profiler.startPhase(GenerationProfiler.TESTS);
+            ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
+            syntaxTrees.add(ballerinaTestGenerator.generateSyntaxTree());
+        }
+        // The trees are independent of each other, so they are formatted concurrently. The formatted trees are
+        // written to the files directly, without creating their sources.
+        profiler.startPhase(GenerationProfiler.FORMAT);
+        List<SyntaxTree> formattedSyntaxTrees = ParallelFormatter.formatSyntaxTrees(syntaxTrees);
 
+        // Generate service
+        String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
+        String srcFile = concatTitle + "_service.bal";
+        GenSrcFile serviceFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
+                formattedSyntaxTrees.get(0));
+        sourceFiles.add(serviceFile);
+
+        // Generate client.
+        // Generate ballerina client remote.
+        GenSrcFile clientFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                formattedSyntaxTrees.get(1));
+        sourceFiles.add(clientFile);
+        GenSrcFile utilFile = new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                formattedSyntaxTrees.get(2));
+        if (!utilFile.isBlank()) {
+            sourceFiles.add(utilFile);
+        }
+
+        GenSrcFile schemaFile = new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                formattedSyntaxTrees.get(3));
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, clientContent, schemaContent,
-                    serviceContent);
+            profiler.startPhase(GenerationProfiler.REMOVE_UNUSED_ENTITIES);
+            schemaFile.setContent(GeneratorUtils.removeUnusedEntities(schemaFile.getContent(),
+                    clientFile.getContent(), serviceFile.getContent()));
         }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+        if (!schemaFile.isBlank()) {
+            sourceFiles.add(schemaFile);
         }
 
         // Generate test boilerplate code for test cases
-        if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(clientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
+        if (ballerinaTestGenerator != null) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
+                    formattedSyntaxTrees.get(4)));
 
             String configContent = ballerinaTestGenerator.getConfigTomlFile();
             if (!configContent.isBlank()) {
@@ -164,17 +229,24 @@ public class BallerinaCodeGenerator {
             }
         }
 
-        List<GenSrcFile> newGenFiles = sourceFiles.stream()
-                .filter(distinctByKey(GenSrcFile::getFileName))
-                .collect(Collectors.toList());
+        // Keep the first source generated for each file name.
+        Map<String, GenSrcFile> newGenFiles = new LinkedHashMap<>();
+        for (GenSrcFile sourceFile : sourceFiles) {
+            newGenFiles.putIfAbsent(sourceFile.getFileName(), sourceFile);
+        }
 
-        writeGeneratedSources(newGenFiles, srcPath, implPath, GEN_BOTH);
+        writeGeneratedSources(new ArrayList<>(newGenFiles.values()), srcPath, implPath, GEN_BOTH);
     }
 
-    public static <T> Predicate<T> distinctByKey(
-            Function<? super T, ?> keyExtractor) {
-        Map<Object, Boolean> seen = new ConcurrentHashMap<>();
-        return t -> seen.putIfAbsent(keyExtractor.apply(t), Boolean.TRUE) == null;
+    /**
+     * Warn about the type names that were generated with different definitions, as only one definition of each is
+     * written to the types file, see {@link TypeDefinitionRegistry}.
+     */
+    private void printTypeConflicts(Set<String> typeNames) {
+        for (String typeName : typeNames) {
+            outStream.printf("WARNING: more than one definition was generated for the type `%s`, only the " +
+                    "definition of the component schema, or else the first definition, is kept%n", typeName);
+        }
     }
 
     /**
@@ -195,8 +267,26 @@ public class BallerinaCodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
-        List<GenSrcFile> genFiles = generateClientFiles(Paths.get(definitionPath), filter, nullable, isResource);
+        if (shardBy != null) {
+            // The contents of the large files are kept in temporary files until they are written
+            Path workDirectory = Files.createTempDirectory("openapi-shards");
+            try {
+                List<GenSrcFile> genFiles = generateShardedClientFiles(Paths.get(definitionPath), filter, nullable,
+                        isResource, workDirectory);
+                writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
+            } finally {
+                FileUtils.deleteDirectory(workDirectory.toFile());
+            }
+            return;
+        }
+        List<GenSrcFile> genFiles = generateClientFiles(Paths.get(definitionPath), filter, nullable, isResource,
+                srcPath, implPath);
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
+        if (clientFingerprints != null) {
+            // Saved only after the files are written, so that the fingerprints always describe the files on disk
+            clientFingerprints.save(srcPath);
+            clientFingerprints = null;
+        }
     }
 
     /**
@@ -223,6 +313,9 @@ public class BallerinaCodeGenerator {
     private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
                                        CmdConstants.GenType type)
             throws IOException {
+        profiler.startPhase(GenerationProfiler.WRITE);
+        // Content hashes of the files generated in the previous generation
+        GeneratedSourcesManifest manifest = GeneratedSourcesManifest.load(srcPath);
         //  Remove old generated file with same name
         List<File> listFiles = new ArrayList<>();
         if (Files.exists(srcPath)) {
@@ -240,10 +333,16 @@ public class BallerinaCodeGenerator {
             }
         }
 
+        List<GenSrcFile> keptSources = new ArrayList<>();
         for (File file : listFiles) {
             for (GenSrcFile gFile : sources) {
-                if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
+                // There is no need to ask before overriding a generated file that was not edited since
+                if (file.getName().equals(gFile.getFileName()) && !(gFile.getType().isOverwritable() &&
+                        manifest.isUnedited(getOverwritableFilePath(gFile, srcPath)))) {
+                    if (keepEditedFiles && gFile.getType().isOverwritable()) {
+                        keptSources.add(gFile);
+                        keptFiles.add(file.getPath());
+                    } else if (interactive && System.console() != null) {
                         String userInput = System.console().readLine("There is already a/an " + file.getName() +
                                 " in the location. Do you want to override the file? [y/N] ");
                         if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
@@ -256,6 +355,9 @@ public class BallerinaCodeGenerator {
         }
 
         for (GenSrcFile file : sources) {
+            if (keptSources.contains(file)) {
+                continue;
+            }
             Path filePath;
 
             // We only overwrite files of overwritable type.
@@ -263,27 +365,22 @@ public class BallerinaCodeGenerator {
             if (!file.getType().isOverwritable()) {
                 filePath = implPath.resolve(file.getFileName());
                 if (Files.notExists(filePath)) {
-                    String fileContent = file.getFileName().endsWith(".bal") ?
-                            (licenseHeader + file.getContent()) : file.getContent();
-                    CodegenUtils.writeFile(filePath, fileContent);
+                    try (Writer writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+                        writeFileContent(file, writer);
+                    }
                 }
             } else {
-                boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
-                        file.getFileName().matches("Config.+[0-9]+.toml");
-                if (file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
-                        isDuplicatedFileInTests) {
+                if (isTestFile(file)) {
                     // Create test directory if not exists in the path. If exists do not throw an error
                     Files.createDirectories(Paths.get(srcPath + OAS_PATH_SEPARATOR + TEST_DIR));
-                    filePath = Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
-                            file.getFileName()).toFile().getCanonicalPath());
-                } else {
-                    filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
                 }
-                String fileContent = file.getFileName().endsWith(".bal") ?
-                        (licenseHeader + file.getContent()) : file.getContent();
-                CodegenUtils.writeFile(filePath, fileContent);
+                filePath = getOverwritableFilePath(file, srcPath);
+                // Files with the same content as in the previous generation are left untouched
+                manifest.writeFile(filePath, writer -> writeFileContent(file, writer));
             }
         }
+        manifest.save();
+        profiler.endPhase();
 
         //This will print the generated files to the console
         if (type.equals(GEN_SERVICE)) {
@@ -295,8 +392,47 @@ public class BallerinaCodeGenerator {
         outStream.println("Following files were created.");
         Iterator<GenSrcFile> iterator = sources.iterator();
         while (iterator.hasNext()) {
-            outStream.println("-- " + iterator.next().getFileName());
+            GenSrcFile file = iterator.next();
+            if (!keptSources.contains(file)) {
+                outStream.println("-- " + file.getFileName());
+            }
+        }
+        if (!keptSources.isEmpty()) {
+            outStream.println("Following files were edited and are not overwritten.");
+            for (GenSrcFile file : keptSources) {
+                outStream.println("-- " + file.getFileName());
+            }
+        }
+    }
+
+    private static boolean isTestFile(GenSrcFile file) {
+        boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
+                file.getFileName().matches("Config.+[0-9]+.toml");
+        return file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
+                isDuplicatedFileInTests;
+    }
+
+    private static Path getOverwritableFilePath(GenSrcFile file, Path srcPath) throws IOException {
+        if (isTestFile(file)) {
+            return Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
+                    file.getFileName()).toFile().getCanonicalPath());
+        }
+        return Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
+    }
+
+    private String getFileContent(GenSrcFile file) {
+        return file.getFileName().endsWith(".bal") ? (licenseHeader + file.getContent()) : file.getContent();
+    }
+
+    /**
+     * Write the content of the given file as {@link #getFileContent(GenSrcFile)} would return it, without creating
+     * the content of the files held as syntax trees.
+     */
+    private void writeFileContent(GenSrcFile file, Writer writer) throws IOException {
+        if (file.getFileName().endsWith(".bal")) {
+            writer.write(licenseHeader);
         }
+        file.writeContent(writer);
     }
 
     /**
@@ -305,14 +441,18 @@ public class BallerinaCodeGenerator {
      * @return generated source files as a list of {@link GenSrcFile}
      * @throws IOException when code generation with specified templates fails
      */
-    private List<GenSrcFile> generateClientFiles(Path openAPI, Filter filter, boolean nullable, boolean isResource)
+    private List<GenSrcFile> generateClientFiles(Path openAPI, Filter filter, boolean nullable, boolean isResource,
+                                                 Path srcPath, Path implPath)
             throws IOException, BallerinaOpenApiException, FormatterException {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_CLIENT_PKG;
         }
         List<GenSrcFile> sourceFiles = new ArrayList<>();
         // Normalize OpenAPI definition
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, !isResource);
+        profiler.startPhase(GenerationProfiler.PARSE);
+        OpenAPI openAPIDef = parseDefinition(openAPI, filter);
+        profiler.startPhase(GenerationProfiler.NORMALIZE);
+        openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource);
         // Generate ballerina service and resources.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
@@ -323,34 +463,79 @@ public class BallerinaCodeGenerator {
                 .withResourceMode(isResource)
                 .withLicense(licenseHeader)
                 .build();
-        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
+        if (splitByTag) {
+            SplitClientGenerator splitClientGenerator = new SplitClientGenerator(oasClientConfig, srcPackage,
+                    profiler);
+            List<GenSrcFile> splitSourceFiles = splitClientGenerator.generate();
+            printTypeConflicts(splitClientGenerator.getTypeConflicts());
+            return splitSourceFiles;
         }
+        // Test files and tag filtered types depend on the whole client, so these are always generated from scratch.
+        OASFingerprints fingerprints = null;
+        if (incremental && !includeTestFiles && filter.getTags().isEmpty()) {
+            profiler.startPhase(GenerationProfiler.INCREMENTAL);
+            fingerprints = OASFingerprints.from(oasClientConfig.getGenerationContext(),
+                    getGenerationOptions(filter, nullable, isResource));
+            Optional<GenerationFingerprints> previous = GenerationFingerprints.load(srcPath);
+            if (previous.isPresent() &&
+                    previous.get().getDefinitionFingerprint().equals(fingerprints.getDefinitionFingerprint())) {
+                List<GenSrcFile> changedSourceFiles = generateChangedClientFiles(oasClientConfig, fingerprints,
+                        previous.get(), srcPath, implPath);
+                if (changedSourceFiles != null) {
+                    return changedSourceFiles;
+                }
+            }
+        }
+        profiler.startPhase(GenerationProfiler.CLIENT);
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        profiler.startPhase(GenerationProfiler.UTILS);
+        SyntaxTree utilSyntaxTree = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree();
 
         // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIDef, nullable);
+        profiler.startPhase(GenerationProfiler.TYPES);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
+                ballerinaClientGenerator.getGenerationContext());
         ballerinaSchemaGenerator.setTypeDefinitionNodeList(ballerinaClientGenerator.getTypeDefinitionNodeList());
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
+        printTypeConflicts(ballerinaSchemaGenerator.getTypeDefinitionRegistry().getConflicts());
+
+        List<SyntaxTree> syntaxTrees = new ArrayList<>(List.of(clientSyntaxTree, utilSyntaxTree, schemaSyntaxTree));
+        BallerinaTestGenerator ballerinaTestGenerator = null;
+        if (this.includeTestFiles) {
+            profiler.startPhase(GenerationProfiler.TESTS);
+            ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
+            syntaxTrees.add(ballerinaTestGenerator.generateSyntaxTree());
+        }
+        // The trees are independent of each other, so they are formatted concurrently. The formatted trees are
+        // written to the files directly, without creating their sources.
+        profiler.startPhase(GenerationProfiler.FORMAT);
+        List<SyntaxTree> formattedSyntaxTrees = ParallelFormatter.formatSyntaxTrees(syntaxTrees);
+
+        GenSrcFile clientFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                formattedSyntaxTrees.get(0));
+        sourceFiles.add(clientFile);
+        GenSrcFile utilFile = new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                formattedSyntaxTrees.get(1));
+        if (!utilFile.isBlank()) {
+            sourceFiles.add(utilFile);
+        }
+        GenSrcFile schemaFile = new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                formattedSyntaxTrees.get(2));
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, mainContent, schemaContent, null);
+            profiler.startPhase(GenerationProfiler.REMOVE_UNUSED_ENTITIES);
+            schemaFile.setContent(GeneratorUtils.removeUnusedEntities(schemaFile.getContent(),
+                    clientFile.getContent(), null));
         }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+        if (!schemaFile.isBlank()) {
+            sourceFiles.add(schemaFile);
         }
 
         // Generate test boilerplate code for test cases
-        if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
+        if (ballerinaTestGenerator != null) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
+                    formattedSyntaxTrees.get(3)));
 
             String configContent = ballerinaTestGenerator.getConfigTomlFile();
             if (!configContent.isBlank()) {
@@ -358,10 +543,406 @@ public class BallerinaCodeGenerator {
                         CONFIG_FILE_NAME, configContent));
             }
         }
+        if (fingerprints != null) {
+            clientFingerprints = createGenerationFingerprints(fingerprints,
+                    ballerinaSchemaGenerator.getSchemaTypeNames(),
+                    getTypeNames(ballerinaClientGenerator.getTypeDefinitionNodeList()),
+                    getFunctionDependencies(ballerinaClientGenerator), sourceFiles);
+        }
 
         return sourceFiles;
     }
 
+    private OpenAPI parseDefinition(Path openAPI, Filter filter) throws IOException, BallerinaOpenApiException {
+        return GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPI,
+                lazyResolve ? filter : new Filter(new ArrayList<>(), new ArrayList<>()), lean);
+    }
+
+    /**
+     * Generate code for ballerina client in shards of operations, see {@link ShardedClientGenerator}.
+     *
+     * @return generated source files as a list of {@link GenSrcFile}
+     * @throws IOException when code generation with specified templates fails
+     */
+    private List<GenSrcFile> generateShardedClientFiles(Path openAPI, Filter filter, boolean nullable,
+                                                        boolean isResource, Path workDirectory)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        if (srcPackage == null || srcPackage.isEmpty()) {
+            srcPackage = DEFAULT_CLIENT_PKG;
+        }
+        profiler.startPhase(GenerationProfiler.PARSE);
+        OpenAPI openAPIDef = parseDefinition(openAPI, filter);
+        profiler.startPhase(GenerationProfiler.NORMALIZE);
+        openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIDef, !isResource);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withNullable(nullable)
+                .withPlugin(false)
+                .withOpenAPI(openAPIDef)
+                .withResourceMode(isResource)
+                .withLicense(licenseHeader)
+                .build();
+        ShardedClientGenerator shardedClientGenerator = new ShardedClientGenerator(oasClientConfig, shardBy,
+                srcPackage, includeTestFiles, profiler);
+        List<GenSrcFile> sourceFiles = shardedClientGenerator.generate(workDirectory);
+        printTypeConflicts(shardedClientGenerator.getTypeConflicts());
+        return sourceFiles;
+    }
+
+    /**
+     * Generate the client files for a definition that was generated into the given directory before, regenerating
+     * only the parts of the definition whose fingerprint changed.
+     * <p>
+     * The client is kept as it is when no operation changed. Otherwise, the client class is generated with the
+     * functions of the changed operations only, and the formatted functions are spliced in between the existing
+     * functions of the unchanged operations. The imports, util functions and inline types the client needs are
+     * found from the dependencies recorded for each function, and the utils are generated again only when the util
+     * functions needed by the functions change. The types of the unchanged component schemas are copied from the
+     * existing types file, and only the types of the changed schemas are generated and formatted.
+     *
+     * @return generated source files, or null if the previously generated files cannot be reused
+     */
+    private List<GenSrcFile> generateChangedClientFiles(OASClientConfig oasClientConfig, OASFingerprints fingerprints,
+                                                        GenerationFingerprints previous, Path srcPath,
+                                                        Path implPath)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        GenerationContext generationContext = oasClientConfig.getGenerationContext();
+        List<OASOperation> operations = generationContext.getOASIndex().getOperations(oasClientConfig.getFilters());
+        Map<String, RemoteFunctionDependencies> previousFunctions = previous.getFunctionDependencies();
+        Optional<String> previousTypes = readGeneratedFile(previous, srcPath.resolve(TYPE_FILE_NAME));
+        Optional<String> previousClient = readGeneratedFile(previous, srcPath.resolve(CLIENT_FILE_NAME));
+        if (previousTypes.isEmpty() || previousClient.isEmpty() ||
+                (previousFunctions.isEmpty() && !operations.isEmpty())) {
+            return null;
+        }
+        Map<String, TypeDefinitionNode> previousTypeDefinitions = new HashMap<>();
+        ModulePartNode previousTypesModule = SyntaxTree.from(TextDocuments.from(previousTypes.get())).rootNode();
+        for (ModuleMemberDeclarationNode member : previousTypesModule.members()) {
+            if (member.kind() != SyntaxKind.TYPE_DEFINITION) {
+                return null;
+            }
+            previousTypeDefinitions.put(((TypeDefinitionNode) member).typeName().text(), (TypeDefinitionNode) member);
+        }
+
+        // The functions of the operations are the last members of the client class, in the order they were recorded
+        String previousClientContent = previousClient.get();
+        ClassDefinitionNode previousClass = ShardedClientGenerator.getClientClass(
+                SyntaxTree.from(TextDocuments.from(previousClientContent)).rootNode());
+        NodeList<Node> previousMembers = previousClass.members();
+        if (previousMembers.size() < previousFunctions.size()) {
+            return null;
+        }
+        Map<String, String> previousFunctionContents = new HashMap<>();
+        int memberIndex = previousMembers.size() - previousFunctions.size();
+        for (String operationKey : previousFunctions.keySet()) {
+            previousFunctionContents.put(operationKey,
+                    getSourceWithMinutiae(previousClientContent, previousMembers.get(memberIndex++)));
+        }
+        List<OASOperation> changedOperations = new ArrayList<>();
+        for (OASOperation operation : operations) {
+            String operationKey = getOperationKey(operation);
+            if (!previousFunctionContents.containsKey(operationKey) ||
+                    !Objects.equals(previous.getOperationFingerprints().get(operationKey),
+                            fingerprints.getOperationFingerprints().get(operationKey))) {
+                changedOperations.add(operation);
+            }
+        }
+
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
+        // Type definitions generated in this generation, as opposed to the ones read from the existing types file
+        Set<TypeDefinitionNode> generatedTypes = Collections.newSetFromMap(new IdentityHashMap<>());
+        Map<String, RemoteFunctionDependencies> functionDependencies = new LinkedHashMap<>();
+        Map<String, TypeDefinitionNode> changedClientTypes = new HashMap<>();
+        boolean clientChanged = !changedOperations.isEmpty() ||
+                !new ArrayList<>(previousFunctions.keySet()).equals(getOperationKeys(operations));
+        if (clientChanged) {
+            BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree(changedOperations);
+            Map<OASOperation, RemoteFunctionDependencies> changedFunctions =
+                    ballerinaClientGenerator.getFunctionDependencies();
+            for (OASOperation operation : operations) {
+                RemoteFunctionDependencies dependencies = changedFunctions.get(operation);
+                functionDependencies.put(getOperationKey(operation), dependencies != null ? dependencies :
+                        previousFunctions.get(getOperationKey(operation)));
+            }
+            syntaxTrees.add(withImports(clientSyntaxTree, functionDependencies.values()));
+            for (TypeDefinitionNode clientType : ballerinaClientGenerator.getTypeDefinitionNodeList()) {
+                changedClientTypes.put(clientType.typeName().text(), clientType);
+            }
+            generatedTypes.addAll(changedClientTypes.values());
+        } else {
+            functionDependencies.putAll(previousFunctions);
+        }
+
+        // The utils are kept as they are unless the functions need other util functions
+        Set<String> requiredUtils = new TreeSet<>();
+        Set<String> previousRequiredUtils = new TreeSet<>();
+        Set<String> clientTypeNames = new LinkedHashSet<>();
+        for (RemoteFunctionDependencies dependencies : functionDependencies.values()) {
+            requiredUtils.addAll(dependencies.getRequiredUtils());
+            clientTypeNames.addAll(dependencies.getTypeNames());
+        }
+        for (RemoteFunctionDependencies dependencies : previousFunctions.values()) {
+            previousRequiredUtils.addAll(dependencies.getRequiredUtils());
+        }
+        String utilContent = null;
+        if (!requiredUtils.equals(previousRequiredUtils)) {
+            BallerinaUtilGenerator ballerinaUtilGenerator = new BallerinaUtilGenerator();
+            ballerinaUtilGenerator.addRequiredUtils(requiredUtils);
+            syntaxTrees.add(ballerinaUtilGenerator.generateUtilSyntaxTree());
+        } else if (previous.hasFile(UTIL_FILE_NAME)) {
+            // The utils file is never overwritten, so only its presence matters
+            Path utilPath = implPath.resolve(UTIL_FILE_NAME);
+            if (!Files.exists(utilPath)) {
+                return null;
+            }
+            String existingUtilContent = Files.readString(utilPath);
+            utilContent = existingUtilContent.startsWith(licenseHeader) ?
+                    existingUtilContent.substring(licenseHeader.length()) : existingUtilContent;
+        } else {
+            utilContent = "";
+        }
+
+        List<TypeDefinitionNode> clientTypes = new ArrayList<>();
+        for (String typeName : clientTypeNames) {
+            TypeDefinitionNode clientType = changedClientTypes.getOrDefault(typeName,
+                    previousTypeDefinitions.get(typeName));
+            if (clientType == null) {
+                return null;
+            }
+            clientTypes.add(clientType);
+        }
+
+        // Reuse the types of the unchanged schemas and generate the types of the changed ones
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(generationContext);
+        List<TypeDefinitionNode> inlineTypes = new ArrayList<>(clientTypes);
+        List<TypeDefinitionNode> schemaTypes = new ArrayList<>();
+        Map<String, List<String>> schemaTypeNames = new LinkedHashMap<>();
+        Map<String, Schema> schemas = generationContext.getOpenAPI().getComponents() == null ? null :
+                generationContext.getOpenAPI().getComponents().getSchemas();
+        if (schemas != null) {
+            for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+                String schemaName = schema.getKey();
+                if (!GeneratorUtils.isValidSchemaName(schemaName.trim())) {
+                    continue;
+                }
+                List<TypeDefinitionNode> typeDefinitions = null;
+                List<String> previousTypeNames = previous.getSchemaTypeNames(schemaName);
+                if (previousTypeNames != null && Objects.equals(previous.getSchemaFingerprints().get(schemaName),
+                        fingerprints.getSchemaFingerprints().get(schemaName))) {
+                    typeDefinitions = getTypeDefinitions(previousTypeNames, previousTypeDefinitions);
+                }
+                if (typeDefinitions == null) {
+                    typeDefinitions = ballerinaSchemaGenerator.generateSchemaTypeDefinitions(schemaName,
+                            schema.getValue());
+                    generatedTypes.addAll(typeDefinitions);
+                }
+                inlineTypes.addAll(typeDefinitions.subList(0, typeDefinitions.size() - 1));
+                schemaTypes.add(typeDefinitions.get(typeDefinitions.size() - 1));
+                schemaTypeNames.put(schemaName, getTypeNames(typeDefinitions));
+            }
+        }
+        ModulePartNode typesModule = ballerinaSchemaGenerator.generateSyntaxTree(inlineTypes, schemaTypes).rootNode();
+        printTypeConflicts(ballerinaSchemaGenerator.getTypeDefinitionRegistry().getConflicts());
+        // The registry keeps the given nodes, unlike the syntax tree, so it tells the generated types apart
+        List<TypeDefinitionNode> typeDefinitions = ballerinaSchemaGenerator.getTypeDefinitionRegistry()
+                .getTypeDefinitions();
+
+        // Only the imports and the generated types are formatted
+        List<ModuleMemberDeclarationNode> changedTypes = new ArrayList<>();
+        for (TypeDefinitionNode member : typeDefinitions) {
+            if (generatedTypes.contains(member)) {
+                changedTypes.add(member);
+            }
+        }
+        ModulePartNode changedTypesModule = NodeFactory.createModulePartNode(typesModule.imports(),
+                AbstractNodeFactory.createNodeList(changedTypes.toArray(new ModuleMemberDeclarationNode[0])),
+                AbstractNodeFactory.createIdentifierToken(""));
+        syntaxTrees.add(SyntaxTree.from(TextDocuments.from("")).modifyWith(changedTypesModule));
+        List<String> contents = ParallelFormatter.format(syntaxTrees);
+        String mainContent = clientChanged ? spliceClientFunctions(contents.get(0), operations,
+                changedOperations, previousFunctionContents) : previousClientContent;
+        if (utilContent == null) {
+            utilContent = contents.get(clientChanged ? 1 : 0);
+        }
+        ModulePartNode formattedTypesModule = SyntaxTree.from(TextDocuments.from(contents.get(contents.size() - 1)))
+                .rootNode();
+
+        // Splice the formatted types in between the existing types, in the order of the generated types module
+        List<String> typeContents = new ArrayList<>();
+        Iterator<ModuleMemberDeclarationNode> formattedTypes = formattedTypesModule.members().iterator();
+        for (TypeDefinitionNode member : typeDefinitions) {
+            typeContents.add(generatedTypes.contains(member) ? formattedTypes.next().toSourceCode().strip() :
+                    member.toSourceCode().strip());
+        }
+        List<String> importContents = new ArrayList<>();
+        for (ImportDeclarationNode importNode : formattedTypesModule.imports()) {
+            importContents.add(importNode.toSourceCode().strip());
+        }
+        String schemaContent = "";
+        if (!typeContents.isEmpty()) {
+            schemaContent = (importContents.isEmpty() ? "" : String.join("\n", importContents) + "\n\n") +
+                    String.join("\n\n", typeContents) + "\n";
+        }
+
+        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, mainContent));
+        if (!utilContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
+        }
+        if (!schemaContent.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                    schemaContent));
+        }
+        clientFingerprints = createGenerationFingerprints(fingerprints, schemaTypeNames,
+                new ArrayList<>(clientTypeNames), functionDependencies, sourceFiles);
+        return sourceFiles;
+    }
+
+    /**
+     * Returns the given client syntax tree with the imports of the given functions, in the order of a full
+     * generation, as the client was generated with the functions of the changed operations only.
+     */
+    private static SyntaxTree withImports(SyntaxTree clientSyntaxTree,
+                                          Collection<RemoteFunctionDependencies> functionDependencies) {
+        Set<String> modules = new LinkedHashSet<>();
+        modules.add(HTTP);
+        for (RemoteFunctionDependencies dependencies : functionDependencies) {
+            modules.addAll(dependencies.getImports());
+        }
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        for (String module : modules) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINA, module));
+        }
+        ModulePartNode clientModule = clientSyntaxTree.rootNode();
+        return clientSyntaxTree.modifyWith(clientModule.modify()
+                .withImports(AbstractNodeFactory.createNodeList(imports)).apply());
+    }
+
+    /**
+     * Splice the functions of the changed operations of the given formatted client, which are the last members of
+     * its client class, in between the functions of the unchanged operations, in the order of the operations.
+     */
+    private static String spliceClientFunctions(String clientContent, List<OASOperation> operations,
+                                                List<OASOperation> changedOperations,
+                                                Map<String, String> previousFunctions) {
+        ClassDefinitionNode clientClass = ShardedClientGenerator.getClientClass(
+                SyntaxTree.from(TextDocuments.from(clientContent)).rootNode());
+        NodeList<Node> members = clientClass.members();
+        int memberIndex = members.size() - changedOperations.size();
+        int classEnd = clientClass.closeBrace().textRangeWithMinutiae().startOffset();
+        int functionsStart = changedOperations.isEmpty() ? classEnd :
+                members.get(memberIndex).textRangeWithMinutiae().startOffset();
+        Set<OASOperation> changedOperationSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        changedOperationSet.addAll(changedOperations);
+        StringBuilder content = new StringBuilder(clientContent.substring(0, functionsStart));
+        for (OASOperation operation : operations) {
+            content.append(changedOperationSet.contains(operation) ?
+                    getSourceWithMinutiae(clientContent, members.get(memberIndex++)) :
+                    previousFunctions.get(getOperationKey(operation)));
+        }
+        content.append(clientContent.substring(classEnd));
+        return content.toString();
+    }
+
+    private static String getSourceWithMinutiae(String content, Node node) {
+        return content.substring(node.textRangeWithMinutiae().startOffset(), node.textRangeWithMinutiae().endOffset());
+    }
+
+    private static String getOperationKey(OASOperation operation) {
+        return OASFingerprints.getOperationKey(operation.getMethod().name(), operation.getPath());
+    }
+
+    private static List<String> getOperationKeys(List<OASOperation> operations) {
+        List<String> operationKeys = new ArrayList<>();
+        for (OASOperation operation : operations) {
+            operationKeys.add(getOperationKey(operation));
+        }
+        return operationKeys;
+    }
+
+    /**
+     * Returns the dependencies of the functions of the given client generator keyed by the operation keys of
+     * {@link OASFingerprints}.
+     */
+    private static Map<String, RemoteFunctionDependencies> getFunctionDependencies(
+            BallerinaClientGenerator ballerinaClientGenerator) {
+        Map<String, RemoteFunctionDependencies> functionDependencies = new LinkedHashMap<>();
+        for (Map.Entry<OASOperation, RemoteFunctionDependencies> function :
+                ballerinaClientGenerator.getFunctionDependencies().entrySet()) {
+            functionDependencies.put(getOperationKey(function.getKey()), function.getValue());
+        }
+        return functionDependencies;
+    }
+
+    /**
+     * Read a file of the previous generation without the license header. The content is empty if the previous
+     * generation did not write the file.
+     *
+     * @return content of the file, or empty if the file was changed or removed since it was generated
+     */
+    private Optional<String> readGeneratedFile(GenerationFingerprints previous, Path filePath) throws IOException {
+        String fileName = filePath.getFileName().toString();
+        if (!previous.hasFile(fileName)) {
+            return Optional.of("");
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        String content = Files.readString(filePath);
+        if (!previous.isGeneratedContent(fileName, content) || !content.startsWith(licenseHeader)) {
+            return Optional.empty();
+        }
+        return Optional.of(content.substring(licenseHeader.length()));
+    }
+
+    private GenerationFingerprints createGenerationFingerprints(OASFingerprints fingerprints,
+                                                                Map<String, List<String>> schemaTypeNames,
+                                                                List<String> clientTypeNames,
+                                                                Map<String, RemoteFunctionDependencies>
+                                                                        functionDependencies,
+                                                                List<GenSrcFile> sourceFiles) {
+        GenerationFingerprints generationFingerprints = new GenerationFingerprints(fingerprints, schemaTypeNames,
+                clientTypeNames, functionDependencies);
+        for (GenSrcFile sourceFile : sourceFiles) {
+            generationFingerprints.addFile(sourceFile.getFileName(), getFileContent(sourceFile));
+        }
+        return generationFingerprints;
+    }
+
+    /**
+     * Returns the options that change the generated code as a whole, so that changing any of them invalidates the
+     * fingerprints of the previous generation.
+     */
+    private String getGenerationOptions(Filter filter, boolean nullable, boolean isResource) {
+        return "nullable=" + nullable + ";resource=" + isResource + ";operations=" + filter.getOperations() +
+                ";package=" + srcPackage + ";license=" + licenseHeader + ";lean=" + lean;
+    }
+
+    /**
+     * Returns the type definitions of the given names, or null if any of them is missing.
+     */
+    private static List<TypeDefinitionNode> getTypeDefinitions(List<String> typeNames,
+                                                               Map<String, TypeDefinitionNode> typeDefinitions) {
+        List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>();
+        for (String typeName : typeNames) {
+            TypeDefinitionNode typeDefinitionNode = typeDefinitions.get(typeName);
+            if (typeDefinitionNode == null) {
+                return null;
+            }
+            typeDefinitionNodes.add(typeDefinitionNode);
+        }
+        return typeDefinitionNodes;
+    }
+
+    private static List<String> getTypeNames(List<TypeDefinitionNode> typeDefinitionNodes) {
+        List<String> typeNames = new ArrayList<>();
+        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
+            typeNames.add(typeDefinitionNode.typeName().text());
+        }
+        return typeNames;
+    }
+
 
     public List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
                                                       Filter filter, boolean nullable)
@@ -369,7 +950,10 @@ public class BallerinaCodeGenerator {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_MOCK_PKG;
         }
-        OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, false);
+        profiler.startPhase(GenerationProfiler.PARSE);
+        OpenAPI openAPIDef = parseDefinition(openAPI, filter);
+        profiler.startPhase(GenerationProfiler.NORMALIZE);
+        openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIDef, false);
         if (openAPIDef.getInfo() == null) {
             throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
                     openAPI);
@@ -386,17 +970,25 @@ public class BallerinaCodeGenerator {
                 openAPIDef.getInfo().getTitle().toLowerCase(Locale.ENGLISH) :
                 serviceName.toLowerCase(Locale.ENGLISH);
         String srcFile = concatTitle + "_service.bal";
-        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(openAPIDef, filter);
-        String mainContent = Formatter.format(ballerinaServiceGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent));
+        GenerationContext generationContext = new GenerationContext(openAPIDef, nullable);
+        profiler.startPhase(GenerationProfiler.SERVICE);
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(generationContext, filter);
+        SyntaxTree serviceSyntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
 
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIDef, nullable);
+        profiler.startPhase(GenerationProfiler.TYPES);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(generationContext);
         ballerinaSchemaGenerator.setTypeDefinitionNodeList(ballerinaServiceGenerator.getTypeInclusionRecords());
-        String schemaContent = Formatter.format(
-                ballerinaSchemaGenerator.generateSyntaxTree()).toString();
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
+        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+        printTypeConflicts(ballerinaSchemaGenerator.getTypeDefinitionRegistry().getConflicts());
+        profiler.startPhase(GenerationProfiler.FORMAT);
+        List<SyntaxTree> formattedSyntaxTrees = ParallelFormatter.formatSyntaxTrees(
+                List.of(serviceSyntaxTree, schemaSyntaxTree));
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
+                formattedSyntaxTrees.get(0)));
+        GenSrcFile schemaFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME,
+                formattedSyntaxTrees.get(1));
+        if (!schemaFile.isBlank()) {
+            sourceFiles.add(schemaFile);
         }
         return sourceFiles;
     }
@@ -418,4 +1010,98 @@ public class BallerinaCodeGenerator {
     public void setIncludeTestFiles(boolean includeTestFiles) {
         this.includeTestFiles = includeTestFiles;
     }
+
+    /**
+     * Set the stream the progress of the generation is printed to.
+     *
+     * @param outStream output stream of the command
+     */
+    public void setOutStream(PrintStream outStream) {
+        this.outStream = outStream;
+    }
+
+    /**
+     * Set the profiler recording the phases of the generation.
+     *
+     * @param profiler profiler of the command
+     */
+    public void setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Set how the operations are partitioned to generate the client in shards, {@code null} to generate the client
+     * at once.
+     *
+     * @param shardBy {@value ShardedClientGenerator#SHARD_BY_TAG} or {@value ShardedClientGenerator#SHARD_BY_PATH}
+     */
+    public void setShardBy(String shardBy) {
+        this.shardBy = shardBy;
+    }
+
+    /**
+     * Set whether to generate a client class for each tag, see {@link SplitClientGenerator}.
+     *
+     * @param splitByTag value received from command line by "--split-by-tag"
+     */
+    public void setSplitByTag(boolean splitByTag) {
+        this.splitByTag = splitByTag;
+    }
+
+    /**
+     * Set whether to resolve only the operations selected by the filter and the components they refer to, see
+     * {@link GeneratorUtils#getOpenAPIFromOpenAPIV3Parser(Path, Filter)}.
+     *
+     * @param lazyResolve value received from command line by "--lazy-resolve"
+     */
+    public void setLazyResolve(boolean lazyResolve) {
+        this.lazyResolve = lazyResolve;
+    }
+
+    /**
+     * Set whether to generate the code without doc comments and display annotations, removing the documentation of
+     * the definition before it is deserialized, see {@link io.ballerina.openapi.core.DocumentationStripper}.
+     *
+     * @param lean value received from command line by "--lean"
+     */
+    public void setLean(boolean lean) {
+        this.lean = lean;
+    }
+
+    /**
+     * Set whether to ask before overwriting the edited files of a previous generation. A generation that is not
+     * interactive overwrites them, as a generation without a console does.
+     *
+     * @param interactive false when the generation runs in a batch or in the daemon
+     */
+    public void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+    }
+
+    /**
+     * Set whether to keep the generated files that were edited since the previous generation, instead of asking
+     * before overwriting them. The kept files are returned by {@link #getKeptFiles()}.
+     *
+     * @param keepEditedFiles true when the generation runs in a batch, which cannot ask
+     */
+    public void setKeepEditedFiles(boolean keepEditedFiles) {
+        this.keepEditedFiles = keepEditedFiles;
+    }
+
+    /**
+     * Returns the paths of the edited files that were kept instead of being overwritten, see
+     * {@link #setKeepEditedFiles(boolean)}.
+     */
+    public List<String> getKeptFiles() {
+        return keptFiles;
+    }
+
+    /**
+     * Set whether to regenerate only the changed parts of a previously generated client.
+     *
+     * @param incremental value received from command line by "--incremental"
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
 }
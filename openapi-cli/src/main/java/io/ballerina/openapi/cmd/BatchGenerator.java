@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.converter.utils.OpenAPIParseCache;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.Filter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.openapi.cmd.CmdConstants.BATCH_MANIFEST_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.CLIENT;
+import static io.ballerina.openapi.cmd.CmdConstants.JSON_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.REMOTE;
+import static io.ballerina.openapi.cmd.CmdConstants.RESOURCE;
+import static io.ballerina.openapi.cmd.CmdConstants.SERVICE;
+import static io.ballerina.openapi.cmd.CmdConstants.YAML_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.YML_EXTENSION;
+import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
+
+/**
+ * Generates the Ballerina sources of many OpenAPI definitions in a single JVM.
+ * <p>
+ * The definitions are given as a directory, a glob pattern, a list of files or a manifest file. Each line of a
+ * manifest names a definition followed by its own options ({@code --mode}, {@code --tags}, {@code --operations},
+ * {@code -o}, {@code -n}, {@code --client-methods} and {@code --service-name}); empty lines and lines starting with
+ * {@code #} are ignored. The definitions are generated on a bounded pool of workers, so that the class loading, the
+ * utils template and the formatter threads are shared by all of them. The other options of the command, e.g.
+ * {@code --shard-by}, {@code --split-by-tag}, {@code --lazy-resolve} and {@code --lean}, apply to every definition.
+ * The generations do not prompt: a generated file that was edited since the previous generation is kept, and its
+ * definition is reported as failed. The output of each generation is buffered and printed in the order of the
+ * definitions, followed by a summary of each definition.
+ * <p>
+ * The sources of a definition are generated into the directory of its path relative to the directory it was found
+ * in, without the extension, e.g. {@code apis/v1/petstore.yaml} of the {@code apis} directory is generated into
+ * {@code v1/petstore} of the output directory. Definitions that would be generated into the same directory are
+ * rejected.
+ *
+ * @since 1.3.0
+ */
+public class BatchGenerator {
+
+    private static final int MAX_WORKERS = 4;
+    private static final String COMMENT_PREFIX = "#";
+
+    private final PrintStream outStream;
+    private final String licenseHeader;
+    private final boolean includeTestFiles;
+    private final boolean incremental;
+    private GenerationProfiler profiler = new GenerationProfiler(false);
+    private String shardBy;
+    private boolean splitByTag;
+    private boolean lazyResolve;
+    private boolean lean;
+
+    public BatchGenerator(PrintStream outStream, String licenseHeader, boolean includeTestFiles,
+                          boolean incremental) {
+        this.outStream = outStream;
+        this.licenseHeader = licenseHeader;
+        this.includeTestFiles = includeTestFiles;
+        this.incremental = incremental;
+    }
+
+    /**
+     * Set the profiler recording the phases of the generations. The phases of a profiler are sequential, so the
+     * definitions are generated one at a time while profiling.
+     *
+     * @param profiler profiler of the command
+     */
+    public void setProfiler(GenerationProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Set the grouping of the operations into client shards of each definition, see
+     * {@link BallerinaCodeGenerator#setShardBy(String)}. Only the definitions generated in client mode can be sharded.
+     */
+    public void setShardBy(String shardBy) {
+        this.shardBy = shardBy;
+    }
+
+    /**
+     * Set whether to generate a client for each tag of each definition, see
+     * {@link BallerinaCodeGenerator#setSplitByTag(boolean)}. Only the definitions generated in client mode can be
+     * split.
+     */
+    public void setSplitByTag(boolean splitByTag) {
+        this.splitByTag = splitByTag;
+    }
+
+    /**
+     * Set whether to resolve only the selected operations of each definition, see
+     * {@link BallerinaCodeGenerator#setLazyResolve(boolean)}.
+     */
+    public void setLazyResolve(boolean lazyResolve) {
+        this.lazyResolve = lazyResolve;
+    }
+
+    /**
+     * Set whether to generate the code of each definition without its documentation, see
+     * {@link BallerinaCodeGenerator#setLean(boolean)}.
+     */
+    public void setLean(boolean lean) {
+        this.lean = lean;
+    }
+
+    /**
+     * Check whether the given input of the command refers to more than one definition.
+     */
+    public static boolean isBatchInput(String input) {
+        return Files.isDirectory(Paths.get(input)) || input.endsWith(BATCH_MANIFEST_EXTENSION) ||
+                getGlobStart(input) >= 0;
+    }
+
+    /**
+     * Find the definitions of the given command inputs.
+     *
+     * @param inputs   directories, glob patterns, manifest files or definition files
+     * @param defaults options of the command, used for the definitions that do not override them
+     * @return definitions to be generated, in a stable order
+     * @throws IOException               when reading a directory or a manifest fails
+     * @throws BallerinaOpenApiException when a manifest has an invalid option, or two definitions would be generated
+     *                                   into the same directory
+     */
+    public static List<BatchSpec> findSpecs(List<String> inputs, BatchSpec defaults)
+            throws IOException, BallerinaOpenApiException {
+        List<BatchSpec> specs = new ArrayList<>();
+        for (String input : inputs) {
+            if (input.endsWith(BATCH_MANIFEST_EXTENSION)) {
+                specs.addAll(readManifest(Paths.get(input), defaults));
+            } else if (Files.isDirectory(Paths.get(input))) {
+                Path directory = Paths.get(input);
+                try (Stream<Path> paths = Files.walk(directory)) {
+                    for (Path path : paths.filter(BatchGenerator::isDefinition).sorted()
+                            .collect(Collectors.toList())) {
+                        specs.add(defaults.forDefinition(directory, path));
+                    }
+                }
+            } else if (getGlobStart(input) >= 0) {
+                specs.addAll(findGlobSpecs(input, defaults));
+            } else {
+                Path path = Paths.get(input);
+                specs.add(defaults.forDefinition(path.toAbsolutePath().getParent(), path));
+            }
+        }
+        checkOutputPaths(specs);
+        return specs;
+    }
+
+    /**
+     * Check that no two definitions are generated into the same directory.
+     *
+     * @throws BallerinaOpenApiException when two definitions have the same output directory
+     */
+    private static void checkOutputPaths(List<BatchSpec> specs) throws BallerinaOpenApiException {
+        Map<Path, BatchSpec> specsByOutputPath = new HashMap<>();
+        for (BatchSpec spec : specs) {
+            BatchSpec existingSpec = specsByOutputPath.putIfAbsent(spec.outputPath.toAbsolutePath().normalize(),
+                    spec);
+            if (existingSpec != null) {
+                throw new BallerinaOpenApiException(String.format("The definitions %s and %s would be generated " +
+                        "into the same directory %s. Use a manifest to give one of them another output directory.",
+                        existingSpec.definitionPath, spec.definitionPath, spec.outputPath));
+            }
+        }
+    }
+
+    /**
+     * Generate the given definitions.
+     *
+     * @param specs definitions to be generated
+     * @return true if all the definitions were generated
+     */
+    public boolean generate(List<BatchSpec> specs) {
+        // The definitions of a batch may be generated more than once, e.g. with different tags
+        OpenAPIParseCache.setKeepInMemory(true);
+        int workers = profiler.isEnabled() ? 1 : Math.max(1, Math.min(specs.size(),
+                Math.min(MAX_WORKERS, Runtime.getRuntime().availableProcessors())));
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<Long>> futures = new ArrayList<>();
+        // The output of each generation is buffered, so that the output of concurrent generations is not interleaved
+        List<ByteArrayOutputStream> outputs = new ArrayList<>();
+        try {
+            for (BatchSpec spec : specs) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                outputs.add(output);
+                futures.add(executor.submit(() -> generate(spec, output)));
+            }
+            List<String> errors = new ArrayList<>();
+            List<Long> durations = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    durations.add(futures.get(i).get());
+                    errors.add(null);
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    durations.add(null);
+                    errors.add(cause.getLocalizedMessage() != null ? cause.getLocalizedMessage() : cause.toString());
+                }
+                outStream.print(outputs.get(i).toString(StandardCharsets.UTF_8));
+            }
+            return printSummary(specs, errors, durations);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outStream.println("Batch generation was interrupted.");
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Generate the given definition, printing its output to the given buffer.
+     *
+     * @return time taken in milliseconds
+     */
+    private long generate(BatchSpec spec, ByteArrayOutputStream output)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        long start = System.nanoTime();
+        if ((shardBy != null || splitByTag) && (spec.mode == null || !spec.mode.equals(CLIENT))) {
+            // The mode of the definition is given by the manifest
+            throw new BallerinaOpenApiException(String.format("'%s' option is only available in client " +
+                    "generation mode.", shardBy != null ? "--shard-by" : "--split-by-tag"));
+        }
+        BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+        generator.setLicenseHeader(licenseHeader);
+        generator.setIncludeTestFiles(includeTestFiles);
+        generator.setIncremental(incremental);
+        generator.setOutStream(new PrintStream(output, true, StandardCharsets.UTF_8));
+        generator.setProfiler(profiler);
+        generator.setShardBy(shardBy);
+        generator.setSplitByTag(splitByTag);
+        generator.setLazyResolve(lazyResolve);
+        generator.setLean(lean);
+        // The concurrent generations cannot share the console, so the edited files are kept rather than overwritten
+        generator.setInteractive(false);
+        generator.setKeepEditedFiles(true);
+        Files.createDirectories(spec.outputPath);
+        String definitionPath = spec.definitionPath.toFile().getCanonicalPath();
+        String serviceName = spec.serviceName != null ? spec.serviceName :
+                spec.definitionPath.getFileName().toString().split("\\.")[0];
+        if (spec.mode == null) {
+            generator.generateClientAndService(definitionPath, serviceName, spec.outputPath.toString(),
+                    spec.getFilter(), spec.nullable, spec.resourceMode);
+        } else if (spec.mode.equals(CLIENT)) {
+            generator.generateClient(definitionPath, spec.outputPath.toString(), spec.getFilter(), spec.nullable,
+                    spec.resourceMode);
+        } else {
+            generator.generateService(definitionPath, serviceName, spec.outputPath.toString(), spec.getFilter(),
+                    spec.nullable);
+        }
+        if (!generator.getKeptFiles().isEmpty()) {
+            throw new BallerinaOpenApiException("The edited files " + String.join(", ", generator.getKeptFiles()) +
+                    " were not overwritten. Generate the definition on its own to overwrite them.");
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private boolean printSummary(List<BatchSpec> specs, List<String> errors, List<Long> durations) {
+        int failures = 0;
+        outStream.println("Batch generation summary:");
+        for (int i = 0; i < specs.size(); i++) {
+            BatchSpec spec = specs.get(i);
+            if (errors.get(i) == null) {
+                outStream.printf("-- OK     %s -> %s (%d ms)%n", spec.definitionPath, spec.outputPath,
+                        durations.get(i));
+            } else {
+                failures++;
+                outStream.printf("-- FAILED %s: %s%n", spec.definitionPath, errors.get(i));
+            }
+        }
+        outStream.printf("%d of %d definitions generated successfully.%n", specs.size() - failures, specs.size());
+        return failures == 0;
+    }
+
+    private static List<BatchSpec> readManifest(Path manifestPath, BatchSpec defaults)
+            throws IOException, BallerinaOpenApiException {
+        Path baseDirectory = manifestPath.toAbsolutePath().getParent();
+        List<BatchSpec> specs = new ArrayList<>();
+        List<String> lines = Files.readAllLines(manifestPath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+            String[] fields = line.split("\\s+");
+            BatchSpec spec = defaults.forDefinition(baseDirectory, baseDirectory.resolve(fields[0]));
+            for (int j = 1; j < fields.length; j++) {
+                String option = fields[j];
+                if (option.equals("-n") || option.equals("--nullable")) {
+                    spec.nullable = true;
+                    continue;
+                }
+                if (j + 1 == fields.length) {
+                    throw new BallerinaOpenApiException(String.format("Missing value for the option '%s' at line " +
+                            "%d of %s", option, i + 1, manifestPath));
+                }
+                String value = fields[++j];
+                switch (option) {
+                    case "--mode":
+                        spec.mode = value;
+                        break;
+                    case "--tags":
+                        spec.tags = Arrays.asList(value.split(","));
+                        break;
+                    case "--operations":
+                        spec.operations = Arrays.asList(value.split(","));
+                        break;
+                    case "-o":
+                    case "--output":
+                        spec.outputPath = baseDirectory.resolve(value);
+                        break;
+                    case "--client-methods":
+                        if (!value.equals(RESOURCE) && !value.equals(REMOTE)) {
+                            throw new BallerinaOpenApiException(String.format("'--client-methods' only supports " +
+                                    "`remote` or `resource` options, at line %d of %s", i + 1, manifestPath));
+                        }
+                        spec.resourceMode = value.equals(RESOURCE);
+                        break;
+                    case "--service-name":
+                        spec.serviceName = value;
+                        break;
+                    default:
+                        throw new BallerinaOpenApiException(String.format("Unknown option '%s' at line %d of %s",
+                                option, i + 1, manifestPath));
+                }
+            }
+            if (spec.mode != null && !spec.mode.equals(CLIENT) && !spec.mode.equals(SERVICE)) {
+                throw new BallerinaOpenApiException(String.format("Invalid mode '%s' at line %d of %s", spec.mode,
+                        i + 1, manifestPath));
+            }
+            specs.add(spec);
+        }
+        return specs;
+    }
+
+    private static List<BatchSpec> findGlobSpecs(String pattern, BatchSpec defaults) throws IOException {
+        // Walk from the deepest directory of the pattern that has no glob characters
+        String directoryPart = pattern.substring(0, getGlobStart(pattern));
+        int separator = Math.max(directoryPart.lastIndexOf('/'), directoryPart.lastIndexOf('\\'));
+        Path baseDirectory = separator < 0 ? Paths.get("") : Paths.get(directoryPart.substring(0, separator + 1));
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        List<BatchSpec> specs = new ArrayList<>();
+        if (!Files.isDirectory(baseDirectory.toAbsolutePath())) {
+            return specs;
+        }
+        try (Stream<Path> paths = Files.walk(baseDirectory)) {
+            for (Path path : paths.filter(path -> Files.isRegularFile(path) && matcher.matches(path)).sorted()
+                    .collect(Collectors.toList())) {
+                specs.add(defaults.forDefinition(baseDirectory, path));
+            }
+        }
+        return specs;
+    }
+
+    private static int getGlobStart(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if ("*?[{".indexOf(input.charAt(i)) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDefinition(Path path) {
+        String fileName = path.getFileName().toString();
+        return Files.isRegularFile(path) && (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(YML_EXTENSION) ||
+                fileName.endsWith(JSON_EXTENSION));
+    }
+
+    /**
+     * A definition of a batch generation together with its generation options.
+     */
+    public static class BatchSpec {
+
+        private Path definitionPath;
+        private Path outputPath;
+        private String mode;
+        private List<String> tags;
+        private List<String> operations;
+        private boolean nullable;
+        private boolean resourceMode;
+        private String serviceName;
+
+        /**
+         * Create the options given to the command, which the definitions of the batch inherit. The sources of each
+         * definition are generated into a directory named after the path of the definition, inside the given output
+         * directory.
+         */
+        public BatchSpec(Path outputPath, String mode, List<String> tags, List<String> operations, boolean nullable,
+                         boolean resourceMode) {
+            this.outputPath = outputPath;
+            this.mode = mode;
+            this.tags = tags;
+            this.operations = operations;
+            this.nullable = nullable;
+            this.resourceMode = resourceMode;
+        }
+
+        /**
+         * Create the options of the given definition, found in the given input directory.
+         */
+        private BatchSpec forDefinition(Path inputDirectory, Path definitionPath) {
+            Path relativePath = inputDirectory.toAbsolutePath().normalize()
+                    .relativize(definitionPath.toAbsolutePath().normalize());
+            String name = relativePath.getFileName().toString().split("\\.")[0];
+            Path relativeOutputPath = relativePath.getParent() == null ? Paths.get(name) :
+                    relativePath.getParent().resolve(name);
+            BatchSpec spec = new BatchSpec(outputPath.resolve(relativeOutputPath), mode, tags, operations, nullable,
+                    resourceMode);
+            spec.definitionPath = definitionPath;
+            return spec;
+        }
+
+        private Filter getFilter() {
+            List<String> normalizedOperations = operations.stream()
+                    .map(operationId -> getValidName(operationId, false))
+                    .collect(Collectors.toList());
+            return new Filter(new ArrayList<>(tags), normalizedOperations);
+        }
+
+        public Path getDefinitionPath() {
+            return definitionPath;
+        }
+
+        public Path getOutputPath() {
+            return outputPath;
+        }
+    }
+}
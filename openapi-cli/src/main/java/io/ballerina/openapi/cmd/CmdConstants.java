@@ -30,6 +30,7 @@ public class CmdConstants {
     public static final String RESOURCE = "resource";
     public static final String REMOTE = "remote";
     public static final String SERVICE = "service";
+    public static final String CLIENT = "client";
 
     /**
      * Enum to select the code generation mode.
@@ -82,6 +83,10 @@ public class CmdConstants {
     public static final String TEST_FILE_NAME = "test.bal";
     public static final String SERVICE_FILE_NAME = "service.bal";
     public static final String CONFIG_FILE_NAME = "Config.toml";
+    public static final String MANIFEST_FILE_NAME = ".openapi-gen";
+    public static final String FINGERPRINTS_FILE_NAME = ".openapi-fingerprints";
+    public static final String DAEMON_DIR = ".ballerina";
+    public static final String DAEMON_FILE_NAME = "openapi-daemon";
     public static final String BALLERINA_TOML = "Ballerina.toml";
     public static final String BALLERINA_TOML_CONTENT = "[package]\n" +
             "org= \"ballerina\"\n" +
@@ -178,6 +183,7 @@ public class CmdConstants {
     public static final String JSON_EXTENSION = ".json";
     public static final String YAML_EXTENSION = ".yaml";
     public static final String YML_EXTENSION = ".yml";
+    public static final String BATCH_MANIFEST_EXTENSION = ".txt";
 
     public static final Map<String, String> TYPE_MAP;
 
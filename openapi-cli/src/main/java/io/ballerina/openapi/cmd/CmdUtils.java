@@ -18,6 +18,7 @@
 package io.ballerina.openapi.cmd;
 
 import io.ballerina.openapi.converter.utils.ConverterCommonUtils;
+import io.ballerina.openapi.converter.utils.OpenAPIParseCache;
 import io.ballerina.openapi.core.ErrorMessages;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.model.GenSrcFile;
@@ -25,7 +26,6 @@ import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.diagnostics.Location;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
 
@@ -76,7 +76,7 @@ public class CmdUtils {
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
         parseOptions.setFlatten(true);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null, parseOptions);
+        SwaggerParseResult parseResult = OpenAPIParseCache.parse(openAPIFileContent, parseOptions);
         if (!parseResult.getMessages().isEmpty()) {
             StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: \n\n");
             for (String message : parseResult.getMessages()) {
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.ballerina.openapi.cmd.CmdConstants.MANIFEST_FILE_NAME;
+
+/**
+ * Content hashes of the sources generated into a directory, kept in the {@value CmdConstants#MANIFEST_FILE_NAME}
+ * file of that directory.
+ * <p>
+ * A generated source is written only when its content differs from the content recorded for it in the previous
+ * generation, so that the unchanged files keep their modification time and are not recompiled. A file whose content
+ * still matches its recorded hash was not edited since it was generated, and can be overwritten without asking.
+ *
+ * @since 1.3.0
+ */
+public class GeneratedSourcesManifest {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final Map<String, String> contentHashes;
+    private boolean modified;
+
+    private GeneratedSourcesManifest(Path directory, Map<String, String> contentHashes) {
+        this.directory = directory;
+        this.contentHashes = contentHashes;
+        this.modified = false;
+    }
+
+    /**
+     * Load the manifest of the given directory. The manifest is empty if the directory does not have one.
+     *
+     * @param directory directory the sources are generated into
+     * @return manifest of the directory
+     * @throws IOException when reading the manifest fails
+     */
+    public static GeneratedSourcesManifest load(Path directory) throws IOException {
+        Path canonicalDirectory = Paths.get(directory.toFile().getCanonicalPath());
+        Map<String, String> contentHashes = new TreeMap<>();
+        Path manifestPath = canonicalDirectory.resolve(MANIFEST_FILE_NAME);
+        if (Files.exists(manifestPath)) {
+            for (String line : Files.readAllLines(manifestPath, StandardCharsets.UTF_8)) {
+                int separator = line.indexOf(' ');
+                if (separator > 0) {
+                    contentHashes.put(line.substring(separator + 1), line.substring(0, separator));
+                }
+            }
+        }
+        return new GeneratedSourcesManifest(canonicalDirectory, contentHashes);
+    }
+
+    /**
+     * Check whether the given file exists with the content recorded for it in the manifest, i.e. it was written by
+     * the previous generation and was not edited since.
+     */
+    public boolean isUnedited(Path filePath) throws IOException {
+        String recordedHash = contentHashes.get(getKey(filePath));
+        if (recordedHash == null || !Files.exists(filePath)) {
+            return false;
+        }
+        MessageDigest digest = newMessageDigest();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return recordedHash.equals(toHex(digest.digest()));
+    }
+
+    /**
+     * Write the given content to the given file unless the file is unchanged, and record its hash.
+     *
+     * @return true if the file was written
+     */
+    public boolean writeFile(Path filePath, String content) throws IOException {
+        return writeFile(filePath, writer -> writer.write(content));
+    }
+
+    /**
+     * Write the content of the given source to the given file unless the file is unchanged, and record its hash.
+     * The source is streamed once, to a temporary file next to the given file while its hash is computed. The
+     * temporary file replaces the given file only if the content changed, so that the content is never held in
+     * memory as a whole.
+     *
+     * @return true if the file was written
+     */
+    public boolean writeFile(Path filePath, Source source) throws IOException {
+        String key = getKey(filePath);
+        Path temporaryPath = filePath.resolveSibling("." + filePath.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try {
+            MessageDigest digest = newMessageDigest();
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new DigestOutputStream(Files.newOutputStream(temporaryPath), digest), StandardCharsets.UTF_8))) {
+                source.writeTo(writer);
+            }
+            String hash = toHex(digest.digest());
+            if (hash.equals(contentHashes.get(key)) && isUnedited(filePath)) {
+                return false;
+            }
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            contentHashes.put(key, hash);
+            modified = true;
+            return true;
+        } finally {
+            Files.deleteIfExists(temporaryPath);
+        }
+    }
+
+    /**
+     * Write the manifest to the directory if any file was written since it was loaded.
+     */
+    public void save() throws IOException {
+        if (!modified) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> contentHash : contentHashes.entrySet()) {
+            lines.add(contentHash.getValue() + " " + contentHash.getKey());
+        }
+        Files.write(directory.resolve(MANIFEST_FILE_NAME), lines, StandardCharsets.UTF_8);
+        modified = false;
+    }
+
+    private String getKey(Path filePath) throws IOException {
+        Path canonicalPath = Paths.get(filePath.toFile().getCanonicalPath());
+        return directory.relativize(canonicalPath).toString().replace(File.separatorChar, '/');
+    }
+
+    static String hash(byte[] content) {
+        MessageDigest digest = newMessageDigest();
+        digest.update(content);
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] digest) {
+        StringBuilder hash = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Writes the content of a generated source.
+     */
+    @FunctionalInterface
+    public interface Source {
+
+        void writeTo(Writer writer) throws IOException;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.core.generators.client.model.RemoteFunctionDependencies;
+import io.ballerina.openapi.core.model.OASFingerprints;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static io.ballerina.openapi.cmd.CmdConstants.FINGERPRINTS_FILE_NAME;
+
+/**
+ * Fingerprints of the definition a client was generated from, kept in the {@value CmdConstants#FINGERPRINTS_FILE_NAME}
+ * file of the generated package.
+ * <p>
+ * Together with the fingerprints of the operations and the component schemas, the file records the names of the type
+ * definitions generated for each schema and for the client, the dependencies of the function of each operation, in
+ * the order of the functions of the client, and the content hash of each generated file. The next
+ * incremental generation regenerates only the parts of the definition whose fingerprint changed and keeps the rest
+ * of the generated files as they are, provided that the files were not changed since they were generated.
+ *
+ * @since 1.3.0
+ */
+public class GenerationFingerprints {
+
+    private static final String SEPARATOR = "\t";
+    private static final String NAME_SEPARATOR = ",";
+    private static final String DEFINITION = "definition";
+    private static final String OPERATION = "operation";
+    private static final String SCHEMA = "schema";
+    private static final String CLIENT = "client";
+    private static final String FUNCTION = "function";
+    private static final String FILE = "file";
+
+    private final String definitionFingerprint;
+    private final Map<String, String> operationFingerprints;
+    private final Map<String, String> schemaFingerprints;
+    private final Map<String, List<String>> schemaTypeNames;
+    private final List<String> clientTypeNames;
+    private final Map<String, RemoteFunctionDependencies> functionDependencies;
+    private final Map<String, String> fileHashes;
+
+    /**
+     * @param functionDependencies dependencies of the function of each operation, keyed by
+     *                             {@link OASFingerprints#getOperationKey(String, String)} in the order of the functions
+     */
+    public GenerationFingerprints(OASFingerprints fingerprints, Map<String, List<String>> schemaTypeNames,
+                                  List<String> clientTypeNames,
+                                  Map<String, RemoteFunctionDependencies> functionDependencies) {
+        this(fingerprints.getDefinitionFingerprint(), new LinkedHashMap<>(fingerprints.getOperationFingerprints()),
+                new LinkedHashMap<>(fingerprints.getSchemaFingerprints()), new LinkedHashMap<>(schemaTypeNames),
+                new ArrayList<>(clientTypeNames), new LinkedHashMap<>(functionDependencies), new LinkedHashMap<>());
+    }
+
+    private GenerationFingerprints(String definitionFingerprint, Map<String, String> operationFingerprints,
+                                   Map<String, String> schemaFingerprints, Map<String, List<String>> schemaTypeNames,
+                                   List<String> clientTypeNames,
+                                   Map<String, RemoteFunctionDependencies> functionDependencies,
+                                   Map<String, String> fileHashes) {
+        this.definitionFingerprint = definitionFingerprint;
+        this.operationFingerprints = operationFingerprints;
+        this.schemaFingerprints = schemaFingerprints;
+        this.schemaTypeNames = schemaTypeNames;
+        this.clientTypeNames = clientTypeNames;
+        this.functionDependencies = functionDependencies;
+        this.fileHashes = fileHashes;
+    }
+
+    /**
+     * Load the fingerprints of the given directory.
+     *
+     * @param directory directory the client was generated into
+     * @return fingerprints of the previous generation, empty if the directory does not have any
+     * @throws IOException when reading the fingerprints fails
+     */
+    public static Optional<GenerationFingerprints> load(Path directory) throws IOException {
+        Path fingerprintsPath = directory.resolve(FINGERPRINTS_FILE_NAME);
+        if (!Files.exists(fingerprintsPath)) {
+            return Optional.empty();
+        }
+        String definitionFingerprint = null;
+        Map<String, String> operationFingerprints = new LinkedHashMap<>();
+        Map<String, String> schemaFingerprints = new LinkedHashMap<>();
+        Map<String, List<String>> schemaTypeNames = new LinkedHashMap<>();
+        List<String> clientTypeNames = new ArrayList<>();
+        Map<String, RemoteFunctionDependencies> functionDependencies = new LinkedHashMap<>();
+        Map<String, String> fileHashes = new LinkedHashMap<>();
+        for (String line : Files.readAllLines(fingerprintsPath, StandardCharsets.UTF_8)) {
+            String[] fields = line.split(SEPARATOR, -1);
+            if (fields[0].equals(DEFINITION) && fields.length == 2) {
+                definitionFingerprint = fields[1];
+            } else if (fields[0].equals(OPERATION) && fields.length == 3) {
+                operationFingerprints.put(fields[1], fields[2]);
+            } else if (fields[0].equals(SCHEMA) && fields.length == 4) {
+                schemaFingerprints.put(fields[1], fields[2]);
+                schemaTypeNames.put(fields[1], splitNames(fields[3]));
+            } else if (fields[0].equals(CLIENT) && fields.length == 2) {
+                clientTypeNames.addAll(splitNames(fields[1]));
+            } else if (fields[0].equals(FUNCTION) && fields.length == 5) {
+                functionDependencies.put(fields[1], new RemoteFunctionDependencies(splitNames(fields[2]),
+                        new TreeSet<>(splitNames(fields[3])), splitNames(fields[4])));
+            } else if (fields[0].equals(FILE) && fields.length == 3) {
+                fileHashes.put(fields[1], fields[2]);
+            } else {
+                // The file was not written by this version of the tool
+                return Optional.empty();
+            }
+        }
+        if (definitionFingerprint == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new GenerationFingerprints(definitionFingerprint, operationFingerprints,
+                schemaFingerprints, schemaTypeNames, clientTypeNames, functionDependencies, fileHashes));
+    }
+
+    /**
+     * Write the fingerprints to the given directory.
+     */
+    public void save(Path directory) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(DEFINITION + SEPARATOR + definitionFingerprint);
+        for (Map.Entry<String, String> operation : operationFingerprints.entrySet()) {
+            lines.add(OPERATION + SEPARATOR + operation.getKey() + SEPARATOR + operation.getValue());
+        }
+        for (Map.Entry<String, String> schema : schemaFingerprints.entrySet()) {
+            lines.add(SCHEMA + SEPARATOR + schema.getKey() + SEPARATOR + schema.getValue() + SEPARATOR +
+                    String.join(NAME_SEPARATOR, schemaTypeNames.getOrDefault(schema.getKey(),
+                            Collections.emptyList())));
+        }
+        lines.add(CLIENT + SEPARATOR + String.join(NAME_SEPARATOR, clientTypeNames));
+        for (Map.Entry<String, RemoteFunctionDependencies> function : functionDependencies.entrySet()) {
+            RemoteFunctionDependencies dependencies = function.getValue();
+            lines.add(FUNCTION + SEPARATOR + function.getKey() + SEPARATOR +
+                    String.join(NAME_SEPARATOR, dependencies.getImports()) + SEPARATOR +
+                    String.join(NAME_SEPARATOR, dependencies.getRequiredUtils()) + SEPARATOR +
+                    String.join(NAME_SEPARATOR, dependencies.getTypeNames()));
+        }
+        for (Map.Entry<String, String> file : fileHashes.entrySet()) {
+            lines.add(FILE + SEPARATOR + file.getKey() + SEPARATOR + file.getValue());
+        }
+        Files.write(directory.resolve(FINGERPRINTS_FILE_NAME), lines, StandardCharsets.UTF_8);
+    }
+
+    public String getDefinitionFingerprint() {
+        return definitionFingerprint;
+    }
+
+    public Map<String, String> getOperationFingerprints() {
+        return Collections.unmodifiableMap(operationFingerprints);
+    }
+
+    public Map<String, String> getSchemaFingerprints() {
+        return Collections.unmodifiableMap(schemaFingerprints);
+    }
+
+    /**
+     * Returns the names of the type definitions generated for the given component schema, or null if the schema was
+     * not generated.
+     */
+    public List<String> getSchemaTypeNames(String schemaName) {
+        return schemaTypeNames.get(schemaName);
+    }
+
+    public List<String> getClientTypeNames() {
+        return Collections.unmodifiableList(clientTypeNames);
+    }
+
+    /**
+     * Returns the dependencies of the function of each operation, in the order of the functions of the client.
+     */
+    public Map<String, RemoteFunctionDependencies> getFunctionDependencies() {
+        return Collections.unmodifiableMap(functionDependencies);
+    }
+
+    /**
+     * Record the content of a generated file, so that the next generation can check that it was not changed.
+     */
+    public void addFile(String fileName, String content) {
+        fileHashes.put(fileName, GeneratedSourcesManifest.hash(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Check whether the given content is the content recorded for the given file.
+     */
+    public boolean isGeneratedContent(String fileName, String content) {
+        String recordedHash = fileHashes.get(fileName);
+        return recordedHash != null &&
+                recordedHash.equals(GeneratedSourcesManifest.hash(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public boolean hasFile(String fileName) {
+        return fileHashes.containsKey(fileName);
+    }
+
+    private static List<String> splitNames(String names) {
+        return names.isEmpty() ? new ArrayList<>() : new ArrayList<>(Arrays.asList(names.split(NAME_SEPARATOR)));
+    }
+}
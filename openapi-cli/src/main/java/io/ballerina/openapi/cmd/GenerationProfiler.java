@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the wall time, the allocated bytes and the peak heap usage of each phase of a code generation.
+ * <p>
+ * The phases are sequential, starting a phase ends the previous one. A phase run more than once, e.g. by the
+ * generations of a batch, accumulates its time and allocations and keeps its highest peak heap usage. The allocated
+ * bytes are those of all the live threads, so that the formatter threads are included, and are not available on the
+ * JVMs that do not support measuring them. A disabled profiler records nothing.
+ *
+ * @since 1.3.0
+ */
+public class GenerationProfiler {
+
+    public static final String PARSE = "parse";
+    public static final String NORMALIZE = "normalize";
+    public static final String CLIENT = "client generation";
+    public static final String SERVICE = "service generation";
+    public static final String UTILS = "util generation";
+    public static final String TYPES = "type generation";
+    public static final String TESTS = "test generation";
+    public static final String INCREMENTAL = "incremental generation";
+    public static final String FORMAT = "formatting";
+    public static final String REMOVE_UNUSED_ENTITIES = "unused entity removal";
+    public static final String WRITE = "writing";
+
+    private static final long NOT_AVAILABLE = -1;
+    private static final long BYTES_PER_KB = 1024;
+
+    private final boolean enabled;
+    private final Map<String, PhaseProfile> phases = new LinkedHashMap<>();
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+    private String currentPhase;
+    private long phaseStartNanos;
+    private Map<Long, Long> phaseStartAllocations;
+
+    public GenerationProfiler(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled) {
+            for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    heapPools.add(pool);
+                }
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * End the current phase, if any, and start the given phase.
+     *
+     * @param phase name of the phase
+     */
+    public synchronized void startPhase(String phase) {
+        if (!enabled) {
+            return;
+        }
+        endPhase();
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+        }
+        currentPhase = phase;
+        phaseStartAllocations = getAllocatedBytes();
+        phaseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * End the current phase, if any.
+     */
+    public synchronized void endPhase() {
+        if (!enabled || currentPhase == null) {
+            return;
+        }
+        long wallTimeNanos = System.nanoTime() - phaseStartNanos;
+        long allocatedBytes = NOT_AVAILABLE;
+        Map<Long, Long> allocations = getAllocatedBytes();
+        if (allocations != null && phaseStartAllocations != null) {
+            allocatedBytes = 0;
+            for (Map.Entry<Long, Long> allocation : allocations.entrySet()) {
+                // Threads started during the phase have allocated everything during the phase
+                allocatedBytes += allocation.getValue() - phaseStartAllocations.getOrDefault(allocation.getKey(), 0L);
+            }
+        }
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeapBytes += pool.getPeakUsage().getUsed();
+        }
+        phases.computeIfAbsent(currentPhase, PhaseProfile::new).add(wallTimeNanos, allocatedBytes, peakHeapBytes);
+        currentPhase = null;
+    }
+
+    public synchronized Collection<PhaseProfile> getPhases() {
+        return Collections.unmodifiableCollection(new ArrayList<>(phases.values()));
+    }
+
+    /**
+     * Print the profile of each phase as a table.
+     */
+    public void printTable(PrintStream outStream) {
+        String format = "%-24s %12s %16s %16s%n";
+        outStream.printf(format, "Phase", "Time (ms)", "Allocated (KB)", "Peak heap (KB)");
+        long totalNanos = 0;
+        long totalAllocatedBytes = 0;
+        for (PhaseProfile phase : getPhases()) {
+            outStream.printf(format, phase.getName(), formatMillis(phase.getWallTimeNanos()),
+                    formatKilobytes(phase.getAllocatedBytes()), formatKilobytes(phase.getPeakHeapBytes()));
+            totalNanos += phase.getWallTimeNanos();
+            totalAllocatedBytes = totalAllocatedBytes == NOT_AVAILABLE || phase.getAllocatedBytes() == NOT_AVAILABLE ?
+                    NOT_AVAILABLE : totalAllocatedBytes + phase.getAllocatedBytes();
+        }
+        outStream.printf(format, "total", formatMillis(totalNanos), formatKilobytes(totalAllocatedBytes), "");
+    }
+
+    /**
+     * Write the profile of each phase to the given JSON file.
+     *
+     * @throws IOException when writing the file fails
+     */
+    public void writeJson(Path path) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode profile = mapper.createObjectNode();
+        ArrayNode phaseNodes = profile.putArray("phases");
+        for (PhaseProfile phase : getPhases()) {
+            ObjectNode phaseNode = phaseNodes.addObject();
+            phaseNode.put("name", phase.getName());
+            phaseNode.put("runs", phase.getRuns());
+            phaseNode.put("wallTimeMillis", TimeUnit.NANOSECONDS.toMillis(phase.getWallTimeNanos()));
+            if (phase.getAllocatedBytes() != NOT_AVAILABLE) {
+                phaseNode.put("allocatedBytes", phase.getAllocatedBytes());
+            }
+            phaseNode.put("peakHeapBytes", phase.getPeakHeapBytes());
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), profile);
+    }
+
+    /**
+     * Returns the bytes allocated by each live thread so far, or null if the JVM does not measure them.
+     */
+    private Map<Long, Long> getAllocatedBytes() {
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!allocationMXBean.isThreadAllocatedMemorySupported() ||
+                !allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        long[] threadIds = allocationMXBean.getAllThreadIds();
+        long[] allocatedBytes = allocationMXBean.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> allocations = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            // Threads that ended in the meantime are reported with -1
+            if (allocatedBytes[i] >= 0) {
+                allocations.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return allocations;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format(Locale.ENGLISH, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    private static String formatKilobytes(long bytes) {
+        return bytes == NOT_AVAILABLE ? "n/a" : String.valueOf(bytes / BYTES_PER_KB);
+    }
+
+    /**
+     * Accumulated profile of a phase.
+     */
+    public static class PhaseProfile {
+
+        private final String name;
+        private int runs;
+        private long wallTimeNanos;
+        private long allocatedBytes;
+        private long peakHeapBytes;
+
+        PhaseProfile(String name) {
+            this.name = name;
+        }
+
+        private void add(long wallTimeNanos, long allocatedBytes, long peakHeapBytes) {
+            this.runs++;
+            this.wallTimeNanos += wallTimeNanos;
+            this.allocatedBytes = this.allocatedBytes == NOT_AVAILABLE || allocatedBytes == NOT_AVAILABLE ?
+                    NOT_AVAILABLE : this.allocatedBytes + allocatedBytes;
+            this.peakHeapBytes = Math.max(this.peakHeapBytes, peakHeapBytes);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public long getWallTimeNanos() {
+            return wallTimeNanos;
+        }
+
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        public long getPeakHeapBytes() {
+            return peakHeapBytes;
+        }
+    }
+}
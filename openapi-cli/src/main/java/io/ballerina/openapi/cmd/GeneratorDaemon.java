@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.converter.utils.OpenAPIParseCache;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A long-running process that executes the openapi commands of the CLI, so that the commands do not pay for the JVM
+ * start up and the loading of the compiler and formatter classes on each run.
+ * <p>
+ * The daemon listens on a loopback socket and writes its port, a random token and the version of the tool to a file in
+ * the user's Ballerina directory, which only the user can read. The CLI forwards a command to the daemon when it runs
+ * without a console and the file refers to a running daemon of the same version, and executes the command in its own
+ * process otherwise. A command with a console is never forwarded, as it asks the user before overwriting the files
+ * they edited, which the daemon cannot do. The commands are executed one at a time without prompting the user, as
+ * commands without a console are, and the daemon stops when it is idle for {@value #IDLE_TIMEOUT_HOURS} hours.
+ *
+ * @since 1.3.0
+ */
+public class GeneratorDaemon {
+
+    private static final int IDLE_TIMEOUT_HOURS = 3;
+    private static final int CONNECT_TIMEOUT_MILLIS = 1000;
+    private static final int REQUEST_TIMEOUT_MILLIS = 10000;
+    private static final String EXIT_PREFIX = "\u0000exit:";
+    private static final String VERSION_MISMATCH = "\u0000version";
+    private static final String TOOL_VERSION = getToolVersion();
+
+    private final PrintStream outStream;
+    private final Path stateFile;
+    private volatile ServerSocket serverSocket;
+    private volatile boolean stopped;
+
+    public GeneratorDaemon(PrintStream outStream) {
+        this(outStream, getDefaultStateFile());
+    }
+
+    GeneratorDaemon(PrintStream outStream, Path stateFile) {
+        this.outStream = outStream;
+        this.stateFile = stateFile;
+    }
+
+    /**
+     * Serve the commands forwarded by the CLI until the daemon is idle for too long.
+     *
+     * @throws IOException when the daemon cannot listen for commands
+     */
+    public void serve() throws IOException {
+        String token = createToken();
+        // The commands of the daemon parse the same definitions again
+        OpenAPIParseCache.setKeepInMemory(true);
+        try (ServerSocket serverSocket = new ServerSocket()) {
+            serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            serverSocket.setSoTimeout((int) TimeUnit.HOURS.toMillis(IDLE_TIMEOUT_HOURS));
+            this.serverSocket = serverSocket;
+            if (stopped) {
+                return;
+            }
+            writeStateFile(serverSocket.getLocalPort() + " " + token + " " + TOOL_VERSION);
+            outStream.println("OpenAPI generator daemon is listening on port " + serverSocket.getLocalPort() + ".");
+            while (true) {
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (SocketTimeoutException e) {
+                    outStream.println("OpenAPI generator daemon stopped after being idle for " +
+                            IDLE_TIMEOUT_HOURS + " hours.");
+                    return;
+                } catch (IOException e) {
+                    if (stopped) {
+                        return;
+                    }
+                    throw e;
+                }
+                try (socket) {
+                    // A client that stops sending its command does not block the daemon
+                    socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+                    handle(socket, token);
+                } catch (IOException e) {
+                    // A failing client does not stop the daemon
+                    outStream.println("Failed to serve an openapi command: " + e.getMessage());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(stateFile);
+        }
+    }
+
+    /**
+     * Stop serving commands, after the command being executed completes.
+     *
+     * @throws IOException when the socket of the daemon cannot be closed
+     */
+    void stop() throws IOException {
+        stopped = true;
+        ServerSocket socket = serverSocket;
+        if (socket != null) {
+            socket.close();
+        }
+    }
+
+    /**
+     * Forward the given command to the running daemon, and print its output to the given stream.
+     *
+     * @param args          arguments of the command, with absolute paths
+     * @param executionPath directory the command was executed in
+     * @param outStream     stream the output of the command is printed to
+     * @return exit status of the command, or empty if there is no running daemon of this version of the tool
+     */
+    public static OptionalInt forward(List<String> args, Path executionPath, PrintStream outStream) {
+        return forward(getDefaultStateFile(), args, executionPath, outStream);
+    }
+
+    static OptionalInt forward(Path stateFile, List<String> args, Path executionPath, PrintStream outStream) {
+        String[] state;
+        try {
+            if (!Files.exists(stateFile)) {
+                return OptionalInt.empty();
+            }
+            state = Files.readString(stateFile).trim().split(" ");
+        } catch (IOException e) {
+            return OptionalInt.empty();
+        }
+        if (state.length != 3 || !state[2].equals(TOOL_VERSION)) {
+            // The daemon of another version of the tool may generate different sources
+            return OptionalInt.empty();
+        }
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(state[0])),
+                    CONNECT_TIMEOUT_MILLIS);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(),
+                    StandardCharsets.UTF_8));
+            writer.write(state[1] + "\n" + TOOL_VERSION + "\n" + executionPath + "\n" + args.size() + "\n");
+            for (String arg : args) {
+                writer.write(arg + "\n");
+            }
+            writer.flush();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(VERSION_MISMATCH)) {
+                    return OptionalInt.empty();
+                }
+                if (line.startsWith(EXIT_PREFIX)) {
+                    return OptionalInt.of(Integer.parseInt(line.substring(EXIT_PREFIX.length())));
+                }
+                outStream.println(line);
+            }
+            // The daemon stopped before completing the command
+            return OptionalInt.empty();
+        } catch (ConnectException e) {
+            // The daemon was killed without removing its state file
+            deleteStateFile(stateFile);
+            return OptionalInt.empty();
+        } catch (IOException | NumberFormatException e) {
+            // The daemon is not running anymore, the command is executed in process
+            return OptionalInt.empty();
+        }
+    }
+
+    private void handle(Socket socket, String token) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                StandardCharsets.UTF_8));
+        if (!token.equals(reader.readLine())) {
+            return;
+        }
+        PrintStream commandOutStream = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        if (!TOOL_VERSION.equals(reader.readLine())) {
+            commandOutStream.println(VERSION_MISMATCH);
+            return;
+        }
+        Path executionPath = Paths.get(readLine(reader));
+        int argCount;
+        try {
+            argCount = Integer.parseInt(readLine(reader));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid argument count: " + e.getMessage());
+        }
+        List<String> args = new ArrayList<>();
+        for (int i = 0; i < argCount; i++) {
+            args.add(readLine(reader));
+        }
+        int status;
+        try {
+            OpenApiCmd cmd = new OpenApiCmd(commandOutStream, executionPath, false);
+            // The user's console belongs to the CLI, not to the daemon
+            cmd.setInteractive(false);
+            new CommandLine(cmd).parseArgs(args.toArray(new String[0]));
+            cmd.execute();
+            status = cmd.isFailed() ? 1 : 0;
+        } catch (RuntimeException e) {
+            commandOutStream.println(e.getMessage());
+            status = 1;
+        }
+        commandOutStream.println(EXIT_PREFIX + status);
+        commandOutStream.flush();
+    }
+
+    private static String readLine(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            throw new EOFException("The command ended unexpectedly");
+        }
+        return line;
+    }
+
+    private void writeStateFile(String state) throws IOException {
+        Files.createDirectories(stateFile.getParent());
+        Files.deleteIfExists(stateFile);
+        Files.createFile(stateFile);
+        try {
+            Files.setPosixFilePermissions(stateFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException e) {
+            // The user's directory is expected to be private on the file systems without POSIX permissions
+        }
+        Files.writeString(stateFile, state);
+    }
+
+    private static void deleteStateFile(Path stateFile) {
+        try {
+            Files.deleteIfExists(stateFile);
+        } catch (IOException e) {
+            // The next command retries it
+        }
+    }
+
+    private static String createToken() {
+        byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes(bytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : bytes) {
+            token.append(String.format("%02x", b));
+        }
+        return token.toString();
+    }
+
+    /**
+     * Returns the version of this tool, which also identifies the build of its classes, so that the commands of a
+     * rebuilt tool are not executed by the daemon of the previous build.
+     */
+    private static String getToolVersion() {
+        String version = GeneratorDaemon.class.getPackage().getImplementationVersion() + "\n";
+        try {
+            Path classesPath = Paths.get(GeneratorDaemon.class.getProtectionDomain().getCodeSource().getLocation()
+                    .toURI());
+            version += classesPath + "\n" + Files.getLastModifiedTime(classesPath).toMillis();
+        } catch (URISyntaxException | IOException | RuntimeException e) {
+            // The implementation version alone identifies the tool
+        }
+        return GeneratedSourcesManifest.hash(version.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+    }
+
+    private static Path getDefaultStateFile() {
+        return Paths.get(System.getProperty("user.home"), CmdConstants.DAEMON_DIR, CmdConstants.DAEMON_FILE_NAME);
+    }
+}
@@ -39,11 +39,16 @@ import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractFileName;
 
@@ -54,6 +59,9 @@ import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractF
  */
 
 public class OASContractGenerator {
+    private static final int MAX_THREADS = 4;
+    private static final String MODULES_DIR = "modules";
+
     private SyntaxTree syntaxTree;
     private SemanticModel semanticModel;
     private Project project;
@@ -113,38 +121,146 @@ public class OASContractGenerator {
         List<OASResult> openAPIDefinitions = ServiceToOpenAPIConverterUtils.generateOAS3Definition(syntaxTree,
                 semanticModel, serviceName, needJson, inputPath);
 
-        if (!openAPIDefinitions.isEmpty()) {
+        List<String> fileNames = writeDefinitions(openAPIDefinitions, outPath, outPath, needJson);
+        printGeneratedFiles(fileNames);
+    }
+
+    /**
+     * This util for generating the OAS files of all the services of a package, compiling the package once.
+     * <p>
+     * The services of each module are converted concurrently against the same package compilation. The definitions
+     * of the default module are written to the output directory, and those of the other modules to the
+     * {@code modules/<module name>} directory of the output directory, as in the package.
+     *
+     * @param projectPath The path to the package, or to a file of the package.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param serviceName Filter the services to generate OpenAPI specification for service with this name.
+     */
+    public void generateOAS3DefinitionsAllModules(Path projectPath, Path outPath, String serviceName,
+                                                  Boolean needJson) {
+        project = ProjectLoader.loadProject(projectPath);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        boolean hasErrors = compilation.diagnosticResult()
+                .diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        if (hasErrors) {
+            // if there are any compilation errors, do not proceed
+            return;
+        }
+        List<Module> modules = new ArrayList<>();
+        project.currentPackage().modules().forEach(modules::add);
+        int threads = Math.min(Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()), modules.size());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(threads, 1));
+        List<Future<List<OASResult>>> futures = new ArrayList<>();
+        try {
+            for (Module module : modules) {
+                futures.add(executor.submit(() -> convertModule(module, compilation, serviceName, needJson)));
+            }
+            List<List<OASResult>> moduleDefinitions = new ArrayList<>();
+            boolean serviceFound = false;
+            for (Future<List<OASResult>> future : futures) {
+                List<OASResult> definitions = future.get();
+                serviceFound |= definitions.stream().anyMatch(definition -> definition.getOpenAPI().isPresent());
+                moduleDefinitions.add(definitions);
+            }
+            // The definitions are written in the order of the modules, as the names of the files depend on the
+            // files already written
             List<String> fileNames = new ArrayList<>();
-            for (OASResult definition : openAPIDefinitions) {
-                try {
-                    this.errors.addAll(definition.getDiagnostics());
-                    if (definition.getOpenAPI().isPresent()) {
-                        Optional<String> content;
-                        if (needJson) {
-                            content = definition.getJson();
-                        } else {
-                            content = definition.getYaml();
-                        }
-                        String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
-                        CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
-                        fileNames.add(fileName);
-                    }
-                } catch (IOException e) {
-                    DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
-                    ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
-                            message.getDescription() + e.getLocalizedMessage(),
-                            null);
-                    this.errors.add(error);
+            for (int i = 0; i < modules.size(); i++) {
+                String moduleNamePart = modules.get(i).moduleName().moduleNamePart();
+                Path moduleOutPath = moduleNamePart == null ? outPath :
+                        outPath.resolve(MODULES_DIR).resolve(moduleNamePart);
+                List<OASResult> definitions = moduleDefinitions.get(i);
+                if (serviceName != null && serviceFound) {
+                    // The documents without the given service are reported only if none of the documents has it
+                    definitions.removeIf(definition -> definition.getOpenAPI().isEmpty() &&
+                            definition.getDiagnostics().stream().allMatch(diagnostic -> diagnostic.getCode()
+                                    .equals(DiagnosticMessages.OAS_CONVERTOR_107.getCode())));
+                }
+                if (definitions.stream().anyMatch(definition -> definition.getOpenAPI().isPresent())) {
+                    Files.createDirectories(moduleOutPath);
                 }
+                fileNames.addAll(writeDefinitions(definitions, outPath, moduleOutPath, needJson));
             }
-            if (fileNames.isEmpty()) {
-                return;
+            printGeneratedFiles(fileNames);
+        } catch (IOException e) {
+            addWriteError(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
             }
-            outStream.println("OpenAPI definition(s) generated successfully and copy to :");
-            Iterator<String> iterator = fileNames.iterator();
-            while (iterator.hasNext()) {
-                outStream.println("-- " + iterator.next());
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Convert the services of all the documents of the given module.
+     */
+    private List<OASResult> convertModule(Module module, PackageCompilation compilation, String serviceName,
+                                          Boolean needJson) {
+        SemanticModel moduleSemanticModel = compilation.getSemanticModel(module.moduleId());
+        List<OASResult> definitions = new ArrayList<>();
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            Path inputPath = project.documentPath(documentId).orElse(null);
+            definitions.addAll(ServiceToOpenAPIConverterUtils.generateOAS3Definition(document.syntaxTree(),
+                    moduleSemanticModel, serviceName, needJson, inputPath));
+        }
+        return definitions;
+    }
+
+    /**
+     * Write the given definitions to the given directory.
+     *
+     * @return paths of the written files, relative to the output directory
+     */
+    private List<String> writeDefinitions(List<OASResult> definitions, Path outPath, Path directory,
+                                          Boolean needJson) {
+        List<String> fileNames = new ArrayList<>();
+        for (OASResult definition : definitions) {
+            try {
+                this.errors.addAll(definition.getDiagnostics());
+                if (definition.getOpenAPI().isPresent()) {
+                    Optional<String> content;
+                    if (needJson) {
+                        content = definition.getJson();
+                    } else {
+                        content = definition.getYaml();
+                    }
+                    String fileName = resolveContractFileName(directory, definition.getServiceName(), needJson);
+                    CodegenUtils.writeFile(directory.resolve(fileName), content.get());
+                    fileNames.add(outPath.relativize(directory.resolve(fileName)).toString());
+                }
+            } catch (IOException e) {
+                addWriteError(e);
             }
         }
+        return fileNames;
+    }
+
+    private void addWriteError(IOException e) {
+        DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
+        ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
+                message.getDescription() + e.getLocalizedMessage(),
+                null);
+        this.errors.add(error);
+    }
+
+    private void printGeneratedFiles(List<String> fileNames) {
+        if (fileNames.isEmpty()) {
+            return;
+        }
+        outStream.println("OpenAPI definition(s) generated successfully and copy to :");
+        Iterator<String> iterator = fileNames.iterator();
+        while (iterator.hasNext()) {
+            outStream.println("-- " + iterator.next());
+        }
     }
 }
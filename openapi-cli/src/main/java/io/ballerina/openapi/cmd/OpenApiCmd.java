@@ -22,6 +22,7 @@ import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
+import io.ballerina.openapi.converter.utils.OpenAPIParseCache;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.model.Filter;
 import org.ballerinalang.formatter.core.FormatterException;
@@ -36,9 +37,11 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.cmd.CmdConstants.BAL_EXTENSION;
+import static io.ballerina.openapi.cmd.CmdConstants.CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.JSON_EXTENSION;
 import static io.ballerina.openapi.cmd.CmdConstants.REMOTE;
 import static io.ballerina.openapi.cmd.CmdConstants.RESOURCE;
@@ -63,6 +66,9 @@ public class OpenApiCmd implements BLauncherCmd {
     private Path targetOutputPath;
     private boolean exitWhenFinish;
     private boolean clientResourceMode;
+    private boolean forwardToDaemon;
+    private boolean interactive = true;
+    private boolean failed;
 
     @CommandLine.Option(names = {"-h", "--help"}, hidden = true)
     private boolean helpFlag;
@@ -100,6 +106,10 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--json"}, description = "Generate json file")
     private boolean generatedFileType;
 
+    @CommandLine.Option(names = {"--package"}, hidden = true, description = "Generate the OpenAPI definitions of " +
+            "the services of all the modules of the given Ballerina package, compiling the package once")
+    private boolean exportPackage;
+
     @CommandLine.Option(names = {"--with-tests"}, hidden = true, description = "Generate test files")
     private boolean includeTestFiles;
 
@@ -107,6 +117,42 @@ public class OpenApiCmd implements BLauncherCmd {
             " with provided type . Only \"remote\"(default) and \"resource\" options are supported.")
     private String generateClientMethods;
 
+    @CommandLine.Option(names = {"--incremental"}, hidden = true, description = "Regenerate only the parts of the " +
+            "client that changed since the previous generation")
+    private boolean incremental;
+
+    @CommandLine.Option(names = {"--lazy-resolve"}, hidden = true, description = "Resolve only the operations " +
+            "selected by \"--tags\" and \"--operations\" and the components they refer to")
+    private boolean lazyResolve;
+
+    @CommandLine.Option(names = {"--lean"}, hidden = true, description = "Generate the code without doc comments " +
+            "and display annotations, dropping the descriptions, examples and extensions of the contract once parsed")
+    private boolean lean;
+
+    @CommandLine.Option(names = {"--shard-by"}, hidden = true, description = "Generate the client in shards of " +
+            "operations partitioned by \"tag\" or by \"path\" prefix, to bound the memory used for huge contracts")
+    private String shardBy;
+
+    @CommandLine.Option(names = {"--split-by-tag"}, hidden = true, description = "Generate a client class for each " +
+            "tag of the OpenAPI contract, sharing the types and the utils of the module")
+    private boolean splitByTag;
+
+    @CommandLine.Option(names = {"--profile"}, hidden = true, description = "Print the time, the allocated memory " +
+            "and the peak heap usage of each phase of the generation")
+    private boolean profile;
+
+    @CommandLine.Option(names = {"--profile-output"}, hidden = true, description = "Location of the JSON file the " +
+            "profile of the generation is written to")
+    private String profileOutputPath;
+
+    @CommandLine.Option(names = {"--watch"}, description = "Regenerate the Ballerina sources whenever the OpenAPI " +
+            "contract or a local file it refers to changes")
+    private boolean watch;
+
+    @CommandLine.Option(names = {"--daemon"}, hidden = true, description = "Start a daemon which executes the " +
+            "openapi commands of this user in a warm JVM")
+    private boolean daemon;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -114,6 +160,7 @@ public class OpenApiCmd implements BLauncherCmd {
         this.outStream = System.err;
         this.executionPath = Paths.get(System.getProperty("user.dir"));
         this.exitWhenFinish = true;
+        this.forwardToDaemon = true;
     }
 
     public OpenApiCmd(PrintStream outStream, Path executionDir) {
@@ -133,6 +180,24 @@ public class OpenApiCmd implements BLauncherCmd {
             outStream.println(commandUsageInfo);
             return;
         }
+        if (daemon) {
+            try {
+                new GeneratorDaemon(outStream).serve();
+            } catch (IOException e) {
+                outStream.println("Failed to start the OpenAPI generator daemon: " + e.getLocalizedMessage());
+                exitError(this.exitWhenFinish);
+                return;
+            }
+        } else if (forwardToDaemon && System.console() == null && !watch && !exportPackage && inputPath &&
+                argList != null && !argList.get(0).endsWith(BAL_EXTENSION)) {
+            // A running daemon generates the sources without the start up cost of a new JVM. A command with a
+            // console runs in this process, so that it asks before overwriting the files the user edited
+            OptionalInt status = GeneratorDaemon.forward(getForwardedArgs(), executionPath, outStream);
+            if (status.isPresent()) {
+                Runtime.getRuntime().exit(status.getAsInt());
+                return;
+            }
+        }
         //Check if cli input argument is present
         if (inputPath) {
             //Check if an OpenApi definition is provided
@@ -145,7 +210,16 @@ public class OpenApiCmd implements BLauncherCmd {
             // else if given ballerina service file it generates openapi contract file
             // else it generates error message to enter correct input file
             String fileName = argList.get(0);
-            if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
+            if (exportPackage) {
+                // The package directory, or any file of the package, is exported as a whole
+                ballerinaToOpenApi(fileName);
+            } else if (argList.size() > 1 || BatchGenerator.isBatchInput(fileName)) {
+                // Directories, glob patterns, manifests and file lists are generated in a single JVM
+                if (!generateBatch()) {
+                    exitError(this.exitWhenFinish);
+                    return;
+                }
+            } else if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
                     fileName.endsWith(YML_EXTENSION)) {
                 List<String> tag = new ArrayList<>();
                 List<String> operation = new ArrayList<>();
@@ -176,6 +250,14 @@ public class OpenApiCmd implements BLauncherCmd {
                     outStream.println("'--client-methods' option is only available in client generation mode.");
                     exitError(this.exitWhenFinish);
                 }
+                if (!checkClientLayoutOptions()) {
+                    exitError(this.exitWhenFinish);
+                    return;
+                }
+                if (watch) {
+                    watchDefinition(fileName, filter);
+                    return;
+                }
                 try {
                     openApiToBallerina(fileName, filter);
                 } catch (IOException e) {
@@ -206,6 +288,178 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * Check the options that change the layout of the generated client, printing the error of an invalid option.
+     *
+     * @return true if the options are valid
+     */
+    private boolean checkClientLayoutOptions() {
+        if (shardBy != null && (mode == null || !mode.equals(CLIENT))) {
+            outStream.println("'--shard-by' option is only available in client generation mode.");
+            return false;
+        }
+        if (shardBy != null && !shardBy.equals(ShardedClientGenerator.SHARD_BY_TAG) &&
+                !shardBy.equals(ShardedClientGenerator.SHARD_BY_PATH)) {
+            outStream.println("'--shard-by' only supports `tag` or `path` options.");
+            return false;
+        }
+        if (splitByTag && (mode == null || !mode.equals(CLIENT))) {
+            outStream.println("'--split-by-tag' option is only available in client generation mode.");
+            return false;
+        }
+        if (splitByTag && (includeTestFiles || shardBy != null)) {
+            outStream.println("'--split-by-tag' option can not be used with '--with-tests' or '--shard-by'.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * This util method returns the arguments of this command with absolute paths, to be executed by the daemon.
+     */
+    private List<String> getForwardedArgs() {
+        List<String> args = new ArrayList<>();
+        args.add("-i");
+        if (licenseFilePath != null) {
+            args.add("--license");
+            args.add(getAbsolutePath(licenseFilePath));
+        }
+        addOption(args, "-o", outputPath);
+        addOption(args, "--mode", mode);
+        addOption(args, "--tags", tags);
+        addOption(args, "--operations", operations);
+        addOption(args, "--service-name", generatedServiceName);
+        addOption(args, "--client-methods", generateClientMethods);
+        addOption(args, "--shard-by", shardBy);
+        if (nullable) {
+            args.add("-n");
+        }
+        if (includeTestFiles) {
+            args.add("--with-tests");
+        }
+        if (incremental) {
+            args.add("--incremental");
+        }
+        if (lazyResolve) {
+            args.add("--lazy-resolve");
+        }
+        if (lean) {
+            args.add("--lean");
+        }
+        if (splitByTag) {
+            args.add("--split-by-tag");
+        }
+        if (profile) {
+            args.add("--profile");
+        }
+        if (profileOutputPath != null) {
+            args.add("--profile-output");
+            args.add(getAbsolutePath(profileOutputPath));
+        }
+        for (String arg : argList) {
+            args.add(getAbsolutePath(arg));
+        }
+        return args;
+    }
+
+    /**
+     * Resolve the given path against the execution path. Glob patterns are resolved as well, so the path is not
+     * parsed.
+     */
+    private String getAbsolutePath(String path) {
+        return new File(path).isAbsolute() ? path : new File(executionPath.toFile(), path).getPath();
+    }
+
+    private static void addOption(List<String> args, String name, String value) {
+        if (value != null) {
+            args.add(name);
+            args.add(value);
+        }
+    }
+
+    /**
+     * This util method generates the Ballerina sources of the given contract, and regenerates them in the same JVM
+     * whenever the contract changes. A failed generation does not stop watching, so that the contract can be fixed.
+     *
+     * @param fileName input contract file
+     * @param filter   filter of the generated operations
+     */
+    private void watchDefinition(String fileName, Filter filter) {
+        boolean exitOnError = this.exitWhenFinish;
+        this.exitWhenFinish = false;
+        // The regenerations parse the definition again
+        OpenAPIParseCache.setKeepInMemory(true);
+        SpecWatcher.Generation generation = () -> {
+            openApiToBallerina(fileName, filter);
+            outStream.println("Sources are up to date.");
+        };
+        try {
+            generation.generate();
+        } catch (IOException e) {
+            outStream.println(e.getLocalizedMessage());
+        }
+        try {
+            new SpecWatcher(outStream, Paths.get(new File(fileName).getCanonicalPath()), generation).watch();
+        } catch (IOException e) {
+            outStream.println("Failed to watch the OpenAPI contract: " + e.getLocalizedMessage());
+            this.exitWhenFinish = exitOnError;
+            exitError(this.exitWhenFinish);
+        }
+        this.exitWhenFinish = exitOnError;
+    }
+
+    /**
+     * This util method generates the Ballerina sources of all the OpenAPI definitions given by the input arguments.
+     *
+     * @return true if all the definitions were generated
+     */
+    private boolean generateBatch() {
+        if (mode != null && !mode.equals(CLIENT) && !mode.equals(SERVICE)) {
+            outStream.println("'--mode' only supports `client` or `service` options.");
+            return false;
+        }
+        if (watch) {
+            outStream.println("'--watch' option is only available for a single OpenAPI definition.");
+            return false;
+        }
+        if (!checkClientLayoutOptions()) {
+            return false;
+        }
+        if (generateClientMethods != null && !generateClientMethods.isBlank() &&
+                (!generateClientMethods.equals(RESOURCE) && !generateClientMethods.equals(REMOTE))) {
+            outStream.println("'--client-methods' only supports `remote` or `resource` options.");
+            return false;
+        }
+        getTargetOutputPath();
+        List<String> tagList = tags == null ? new ArrayList<>() : Arrays.asList(tags.split(","));
+        List<String> operationList = operations == null ? new ArrayList<>() : Arrays.asList(operations.split(","));
+        boolean resourceMode = generateClientMethods == null || generateClientMethods.isBlank() ||
+                (!generateClientMethods.equals(REMOTE));
+        BatchGenerator.BatchSpec defaults = new BatchGenerator.BatchSpec(targetOutputPath, mode, tagList,
+                operationList, nullable, resourceMode);
+        try {
+            List<BatchGenerator.BatchSpec> specs = BatchGenerator.findSpecs(argList, defaults);
+            if (specs.isEmpty()) {
+                outStream.println("No OpenAPI definitions were found in " + String.join(", ", argList) + ".");
+                return false;
+            }
+            BatchGenerator batchGenerator = new BatchGenerator(outStream, this.setLicenseHeader(),
+                    this.includeTestFiles, this.incremental);
+            batchGenerator.setShardBy(this.shardBy);
+            batchGenerator.setSplitByTag(this.splitByTag);
+            batchGenerator.setLazyResolve(this.lazyResolve);
+            batchGenerator.setLean(this.lean);
+            GenerationProfiler profiler = createProfiler();
+            batchGenerator.setProfiler(profiler);
+            boolean generated = batchGenerator.generate(specs);
+            reportProfile(profiler);
+            return generated;
+        } catch (IOException | BallerinaOpenApiException e) {
+            outStream.println(e.getLocalizedMessage());
+            return false;
+        }
+    }
+
     /**
      * This util method to generate openApi contract based on the given service ballerina file.
      * @param fileName  input resource file
@@ -225,8 +479,13 @@ public class OpenApiCmd implements BLauncherCmd {
         getTargetOutputPath();
         // Check service name it is mandatory
         OASContractGenerator openApiConverter = new OASContractGenerator();
-        openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
-                generatedFileType);
+        if (exportPackage) {
+            openApiConverter.generateOAS3DefinitionsAllModules(balFilePath, targetOutputPath, service,
+                    generatedFileType);
+        } else {
+            openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
+                    generatedFileType);
+        }
         errors.addAll(openApiConverter.getErrors());
         if (!errors.isEmpty()) {
             for (OpenAPIConverterDiagnostic error: errors) {
@@ -258,6 +517,15 @@ public class OpenApiCmd implements BLauncherCmd {
         BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
         generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setIncremental(this.incremental);
+        generator.setOutStream(outStream);
+        GenerationProfiler profiler = createProfiler();
+        generator.setProfiler(profiler);
+        generator.setShardBy(this.shardBy);
+        generator.setSplitByTag(this.splitByTag);
+        generator.setLazyResolve(this.lazyResolve);
+        generator.setLean(this.lean);
+        generator.setInteractive(this.interactive);
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
@@ -285,6 +553,30 @@ public class OpenApiCmd implements BLauncherCmd {
         } else {
             generateBothFiles(generator, serviceName, resourcePath, filter, this.clientResourceMode);
         }
+        reportProfile(profiler);
+    }
+
+    private GenerationProfiler createProfiler() {
+        return new GenerationProfiler(profile || profileOutputPath != null);
+    }
+
+    /**
+     * This util method prints the profile of the generation, and writes it to the profile output file if given.
+     */
+    private void reportProfile(GenerationProfiler profiler) {
+        if (!profiler.isEnabled()) {
+            return;
+        }
+        profiler.endPhase();
+        profiler.printTable(outStream);
+        if (profileOutputPath != null) {
+            try {
+                profiler.writeJson(Paths.get(getAbsolutePath(profileOutputPath)));
+            } catch (IOException e) {
+                outStream.println("Failed to write the generation profile to " + profileOutputPath + ". " +
+                        e.getLocalizedMessage());
+            }
+        }
     }
 
     /**
@@ -418,12 +710,27 @@ public class OpenApiCmd implements BLauncherCmd {
     public void setParentCmdParser(CommandLine parentCmdParser) {
     }
 
+    /**
+     * Returns whether the command failed, when it is executed without exiting the JVM.
+     */
+    boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * Set whether the command may ask the user before overwriting the edited files of a previous generation.
+     */
+    void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+    }
+
     /**
      * Exit with error code 1.
      *
      * @param exit Whether to exit or not.
      */
-    private static void exitError(boolean exit) {
+    private void exitError(boolean exit) {
+        failed = true;
         if (exit) {
             Runtime.getRuntime().exit(1);
         }
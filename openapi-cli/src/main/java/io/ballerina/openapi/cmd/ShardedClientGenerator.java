@@ -0,0 +1,376 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.ParallelFormatter;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.OASOperation;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.openapi.cmd.CmdConstants.CLIENT_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.CONFIG_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.TEST_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.TYPE_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.UTIL_FILE_NAME;
+
+/**
+ * Generates the client of a very large definition in shards, so that the syntax trees of the generated code are held
+ * for the largest shard rather than for the whole definition.
+ * <p>
+ * The operations are partitioned by their first tag or by the first segment of their path. The functions of each
+ * shard and the inline types they need are generated, formatted and appended to temporary files before the next
+ * shard is generated, and the client generator releases the type definitions of the shard. The component schemas are
+ * generated the same way in chunks of {@value #SCHEMAS_PER_CHUNK} schemas. Each type is emitted once, by the first
+ * shard or chunk that generates it. The client and types files are then assembled from the temporary files and
+ * copied to the generated files without being loaded in memory. The functions of the client are grouped by shard, so
+ * their order may differ from the order of a generation without shards.
+ * <p>
+ * The rest of the generation is not bounded by the shards: the parsed and normalized definition, its index and the
+ * type names and descriptors the generation context memoizes for each component schema are held until the end, as
+ * are the source of the inline types of the client, which are compared with the component schema types of the same
+ * name. When the client is filtered by tags, the unused types are removed from the whole types file, so the client
+ * and types files are loaded in memory at the end. The peak heap usage of each phase is reported by the
+ * {@code --profile} option.
+ *
+ * @since 1.3.0
+ */
+public class ShardedClientGenerator {
+
+    public static final String SHARD_BY_TAG = "tag";
+    public static final String SHARD_BY_PATH = "path";
+
+    private static final int SCHEMAS_PER_CHUNK = 100;
+    private static final String FUNCTIONS_FILE_NAME = "functions.part";
+    private static final String TYPE_MEMBERS_FILE_NAME = "types.part";
+    private static final String CLIENT_TYPES_FILE_NAME = "client_types.part";
+
+    private final OASClientConfig oasClientConfig;
+    private final String shardBy;
+    private final String srcPackage;
+    private final boolean includeTestFiles;
+    private final GenerationProfiler profiler;
+    private final Set<String> typeConflicts = new LinkedHashSet<>();
+    // The names of the component schema types, and the source of the client types emitted or replaced by them
+    private final Set<String> schemaTypeNames = new HashSet<>();
+    private final Map<String, String> clientTypes = new HashMap<>();
+    private final Map<String, String> replacedClientTypes = new HashMap<>();
+    private final Set<String> typeImports = new LinkedHashSet<>();
+
+    public ShardedClientGenerator(OASClientConfig oasClientConfig, String shardBy, String srcPackage,
+                                  boolean includeTestFiles, GenerationProfiler profiler) {
+        this.oasClientConfig = oasClientConfig;
+        this.shardBy = shardBy;
+        this.srcPackage = srcPackage;
+        this.includeTestFiles = includeTestFiles;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Generate the client files, keeping the content of the client and types files in the given directory.
+     *
+     * @param workDirectory directory of the temporary files, which should be kept until the files are written
+     * @return generated source files
+     * @throws BallerinaOpenApiException when code generation fails
+     * @throws FormatterException        when formatting the generated code fails
+     * @throws IOException               when writing the temporary files fails
+     */
+    public List<GenSrcFile> generate(Path workDirectory)
+            throws BallerinaOpenApiException, FormatterException, IOException {
+        GenerationContext generationContext = oasClientConfig.getGenerationContext();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        typeConflicts.clear();
+        clientTypes.clear();
+        replacedClientTypes.clear();
+        typeImports.clear();
+        List<Map.Entry<String, Schema>> schemas = getSchemas();
+        schemaTypeNames.clear();
+        for (Map.Entry<String, Schema> schema : schemas) {
+            schemaTypeNames.add(GeneratorUtils.getValidName(schema.getKey().trim(), true));
+        }
+
+        profiler.startPhase(GenerationProfiler.CLIENT);
+        Path functionsPath = workDirectory.resolve(FUNCTIONS_FILE_NAME);
+        Path clientTypesPath = workDirectory.resolve(CLIENT_TYPES_FILE_NAME);
+        try (Writer writer = Files.newBufferedWriter(functionsPath, StandardCharsets.UTF_8);
+             Writer typesWriter = Files.newBufferedWriter(clientTypesPath, StandardCharsets.UTF_8)) {
+            List<OASOperation> operations = generationContext.getOASIndex()
+                    .getOperations(oasClientConfig.getFilters());
+            for (List<OASOperation> shard : getShards(operations, shardBy).values()) {
+                SyntaxTree shardSyntaxTree = format(clientGenerator.generateFunctionsSyntaxTree(shard));
+                ClassDefinitionNode classNode = getClientClass(shardSyntaxTree.rootNode());
+                String source = shardSyntaxTree.toSourceCode();
+                int start = classNode.members().get(0).textRangeWithMinutiae().startOffset();
+                int end = classNode.closeBrace().textRangeWithMinutiae().startOffset();
+                writer.write("\n");
+                writer.write(source, start, end - start);
+                writeClientTypes(clientGenerator.getTypeDefinitionNodeList(), typesWriter);
+                // The generator keeps only the state the rest of the client depends on
+                clientGenerator.setTypeDefinitionNodeList(Collections.emptyList());
+                clientGenerator.getFunctionDependencies().clear();
+            }
+        }
+        // The rest of the client depends on the imports and the authentication of all the functions
+        SyntaxTree clientSyntaxTree = format(clientGenerator.generateSyntaxTree(Collections.emptyList()));
+        Path clientPath = workDirectory.resolve(CLIENT_FILE_NAME);
+        String clientSource = clientSyntaxTree.toSourceCode();
+        int classEnd = getClientClass(clientSyntaxTree.rootNode()).closeBrace().textRangeWithMinutiae()
+                .startOffset();
+        try (Writer writer = Files.newBufferedWriter(clientPath, StandardCharsets.UTF_8)) {
+            writer.write(clientSource, 0, classEnd);
+            try (Reader reader = Files.newBufferedReader(functionsPath, StandardCharsets.UTF_8)) {
+                reader.transferTo(writer);
+            }
+            writer.write(clientSource, classEnd, clientSource.length() - classEnd);
+        }
+        Files.delete(functionsPath);
+
+        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, clientPath));
+        profiler.startPhase(GenerationProfiler.UTILS);
+        GenSrcFile utilFile = new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                format(clientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()));
+        if (!utilFile.isBlank()) {
+            sourceFiles.add(utilFile);
+        }
+        profiler.startPhase(GenerationProfiler.TYPES);
+        GenSrcFile typesFile = new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                generateTypes(schemas, clientTypesPath, workDirectory));
+        if (!oasClientConfig.getFilters().getTags().isEmpty()) {
+            // The unused types can only be found in the whole types file
+            profiler.startPhase(GenerationProfiler.REMOVE_UNUSED_ENTITIES);
+            typesFile.setContent(GeneratorUtils.removeUnusedEntities(typesFile.getContent(),
+                    Files.readString(clientPath), null));
+        }
+        if (!typesFile.isBlank()) {
+            sourceFiles.add(typesFile);
+        }
+        if (includeTestFiles) {
+            profiler.startPhase(GenerationProfiler.TESTS);
+            BallerinaTestGenerator testGenerator = new BallerinaTestGenerator(clientGenerator);
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
+                    format(testGenerator.generateSyntaxTree())));
+            String configContent = testGenerator.getConfigTomlFile();
+            if (!configContent.isBlank()) {
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CONFIG_FILE_NAME,
+                        configContent));
+            }
+        }
+        return sourceFiles;
+    }
+
+    /**
+     * Returns the names of the types that were generated with more than one definition by the last generation.
+     */
+    public Set<String> getTypeConflicts() {
+        return Collections.unmodifiableSet(typeConflicts);
+    }
+
+    /**
+     * Partition the given operations by their first tag or by the first segment of their path.
+     *
+     * @param operations operations of the client
+     * @param shardBy    {@value #SHARD_BY_TAG} or {@value #SHARD_BY_PATH}
+     * @return operations of each shard, in the order of the first operation of each shard
+     */
+    public static Map<String, List<OASOperation>> getShards(List<OASOperation> operations, String shardBy) {
+        Map<String, List<OASOperation>> shards = new LinkedHashMap<>();
+        for (OASOperation operation : operations) {
+            String shard;
+            if (shardBy.equals(SHARD_BY_TAG)) {
+                shard = operation.getTags().isEmpty() ? "" : operation.getTags().get(0);
+            } else {
+                String path = operation.getPath().startsWith("/") ? operation.getPath().substring(1) :
+                        operation.getPath();
+                shard = path.contains("/") ? path.substring(0, path.indexOf('/')) : path;
+            }
+            shards.computeIfAbsent(shard, key -> new ArrayList<>()).add(operation);
+        }
+        return shards;
+    }
+
+    /**
+     * Returns the component schemas of the definition that have valid names.
+     */
+    private List<Map.Entry<String, Schema>> getSchemas() {
+        OpenAPI openAPI = oasClientConfig.getOpenAPI();
+        List<Map.Entry<String, Schema>> schemas = new ArrayList<>();
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (Map.Entry<String, Schema> schema : openAPI.getComponents().getSchemas().entrySet()) {
+                if (GeneratorUtils.isValidSchemaName(schema.getKey().trim())) {
+                    schemas.add(schema);
+                }
+            }
+        }
+        return schemas;
+    }
+
+    /**
+     * Format the inline types generated for the functions of a shard, and append the types that were not emitted
+     * by an earlier shard to the given writer. The types of the component schemas take precedence over the client
+     * types of the same name, so those are kept aside to be compared with the schema types.
+     */
+    private void writeClientTypes(List<TypeDefinitionNode> shardTypes, Writer writer)
+            throws FormatterException, IOException {
+        List<TypeDefinitionNode> newTypes = new ArrayList<>();
+        for (TypeDefinitionNode typeDefinitionNode : shardTypes) {
+            String typeName = typeDefinitionNode.typeName().text();
+            String source = typeDefinitionNode.toSourceCode().trim();
+            if (schemaTypeNames.contains(typeName)) {
+                replacedClientTypes.putIfAbsent(typeName, source);
+                continue;
+            }
+            String existingSource = clientTypes.putIfAbsent(typeName, source);
+            if (existingSource == null) {
+                newTypes.add(typeDefinitionNode);
+            } else if (!existingSource.equals(source)) {
+                typeConflicts.add(typeName);
+            }
+        }
+        if (!newTypes.isEmpty()) {
+            BallerinaTypesGenerator typesGenerator =
+                    new BallerinaTypesGenerator(oasClientConfig.getGenerationContext());
+            writeTypeMembers(format(typesGenerator.generateSyntaxTree(newTypes, Collections.emptyList())), writer);
+        }
+    }
+
+    /**
+     * Generate the types of the client in chunks of component schemas, into a temporary file that starts with the
+     * types of the client.
+     *
+     * @return path of the types file
+     */
+    private Path generateTypes(List<Map.Entry<String, Schema>> schemas, Path clientTypesPath, Path workDirectory)
+            throws BallerinaOpenApiException, FormatterException, IOException {
+        Set<String> generatedTypeNames = new HashSet<>(clientTypes.keySet());
+        Path membersPath = workDirectory.resolve(TYPE_MEMBERS_FILE_NAME);
+        try (Writer writer = Files.newBufferedWriter(membersPath, StandardCharsets.UTF_8)) {
+            for (int start = 0; start < schemas.size(); start += SCHEMAS_PER_CHUNK) {
+                BallerinaTypesGenerator typesGenerator =
+                        new BallerinaTypesGenerator(oasClientConfig.getGenerationContext());
+                TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+                typesGenerator.setTypeDefinitionRegistry(typeDefinitionRegistry);
+                List<TypeDefinitionNode> schemaTypes = new ArrayList<>();
+                for (Map.Entry<String, Schema> schema : schemas.subList(start,
+                        Math.min(start + SCHEMAS_PER_CHUNK, schemas.size()))) {
+                    for (TypeDefinitionNode typeDefinitionNode :
+                            typesGenerator.generateSchemaTypeDefinitions(schema.getKey(), schema.getValue())) {
+                        String typeName = typeDefinitionNode.typeName().text();
+                        String source = typeDefinitionNode.toSourceCode().trim();
+                        String clientType = replacedClientTypes.remove(typeName);
+                        if (clientType == null) {
+                            clientType = clientTypes.get(typeName);
+                        }
+                        if (clientType != null && !clientType.equals(source)) {
+                            typeConflicts.add(typeName);
+                        }
+                        if (!generatedTypeNames.contains(typeName)) {
+                            schemaTypes.add(typeDefinitionNode);
+                        }
+                    }
+                }
+                SyntaxTree chunkSyntaxTree = format(typesGenerator.generateSyntaxTree(Collections.emptyList(),
+                        schemaTypes));
+                typeConflicts.addAll(typeDefinitionRegistry.getConflicts());
+                for (TypeDefinitionNode typeDefinitionNode : typeDefinitionRegistry.getTypeDefinitions()) {
+                    generatedTypeNames.add(typeDefinitionNode.typeName().text());
+                }
+                writeTypeMembers(chunkSyntaxTree, writer);
+            }
+        }
+
+        Path typesPath = workDirectory.resolve(TYPE_FILE_NAME);
+        try (Writer writer = Files.newBufferedWriter(typesPath, StandardCharsets.UTF_8)) {
+            if (!typeImports.isEmpty()) {
+                writer.write(String.join("\n", typeImports));
+                writer.write("\n");
+                writer.write("\n");
+            }
+            // The types of the client are emitted first, as without shards
+            for (Path partPath : List.of(clientTypesPath, membersPath)) {
+                try (Reader reader = Files.newBufferedReader(partPath, StandardCharsets.UTF_8)) {
+                    reader.transferTo(writer);
+                }
+                Files.delete(partPath);
+            }
+        }
+        return typesPath;
+    }
+
+    /**
+     * Append the members of the given formatted types module to the given writer, and collect its imports.
+     */
+    private void writeTypeMembers(SyntaxTree typesSyntaxTree, Writer writer) throws IOException {
+        ModulePartNode modulePartNode = typesSyntaxTree.rootNode();
+        for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+            typeImports.add(importNode.toSourceCode().strip());
+        }
+        if (!modulePartNode.members().isEmpty()) {
+            String source = typesSyntaxTree.toSourceCode();
+            writer.write(source.substring(modulePartNode.members().get(0).textRangeWithMinutiae()
+                    .startOffset()).strip());
+            writer.write("\n");
+            writer.write("\n");
+        }
+    }
+
+    private static SyntaxTree format(SyntaxTree syntaxTree) throws FormatterException {
+        return ParallelFormatter.formatSyntaxTrees(List.of(syntaxTree)).get(0);
+    }
+
+    static ClassDefinitionNode getClientClass(ModulePartNode modulePartNode) {
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member instanceof ClassDefinitionNode) {
+                return (ClassDefinitionNode) member;
+            }
+        }
+        throw new IllegalStateException("The generated client has no client class");
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Watches an OpenAPI definition and the local files it refers to with {@code $ref}, and regenerates the Ballerina
+ * sources in the same JVM whenever one of them changes.
+ * <p>
+ * The directories of the files are watched rather than the files, as many editors save a file by replacing it. A
+ * burst of changes, such as saving several files at once, triggers a single generation once the files have not
+ * changed for {@value #DEBOUNCE_MILLIS} milliseconds.
+ *
+ * @since 1.3.0
+ */
+public class SpecWatcher {
+
+    private static final long DEBOUNCE_MILLIS = 300;
+    private static final Pattern REFERENCE_PATTERN =
+            Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
+    private final PrintStream outStream;
+    private final Path definitionPath;
+    private final Generation generation;
+
+    public SpecWatcher(PrintStream outStream, Path definitionPath, Generation generation) {
+        this.outStream = outStream;
+        this.definitionPath = definitionPath.toAbsolutePath().normalize();
+        this.generation = generation;
+    }
+
+    /**
+     * Regenerate the sources on each change of the watched files, until the thread is interrupted.
+     *
+     * @throws IOException when the files cannot be watched
+     */
+    public void watch() throws IOException {
+        try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+            Set<Path> watchedDirectories = new HashSet<>();
+            Set<Path> watchedFiles = register(watchService, watchedDirectories);
+            outStream.println("Watching " + watchedFiles.size() + " file(s) for changes. Press Ctrl+C to stop.");
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                boolean changed = pollChanges(key, watchedFiles);
+                // Wait for the end of the burst of changes, e.g. an editor saving several files
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= pollChanges(key, watchedFiles);
+                }
+                if (!changed) {
+                    continue;
+                }
+                outStream.println("Change detected, regenerating the sources.");
+                try {
+                    generation.generate();
+                } catch (IOException e) {
+                    outStream.println(e.getLocalizedMessage());
+                } catch (RuntimeException e) {
+                    // e.g. a definition saved half way by the editor, which the next change completes
+                    outStream.println("Failed to regenerate the sources: " + e);
+                }
+                // The references may have changed as well
+                watchedFiles = register(watchService, watchedDirectories);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the definition and the local files it refers to directly or indirectly.
+     *
+     * @return absolute paths of the files
+     */
+    public Set<Path> findWatchedFiles() {
+        Set<Path> files = new LinkedHashSet<>();
+        Deque<Path> pendingFiles = new ArrayDeque<>();
+        pendingFiles.add(definitionPath);
+        while (!pendingFiles.isEmpty()) {
+            Path file = pendingFiles.pop();
+            if (!files.add(file) || !Files.isRegularFile(file)) {
+                continue;
+            }
+            String content;
+            try {
+                content = Files.readString(file);
+            } catch (IOException e) {
+                // The file is watched nevertheless, the generation reports the error
+                continue;
+            }
+            Matcher matcher = REFERENCE_PATTERN.matcher(content);
+            while (matcher.find()) {
+                String reference = matcher.group(1);
+                if (reference.contains("://")) {
+                    continue;
+                }
+                try {
+                    pendingFiles.add(file.resolveSibling(Paths.get(reference)).normalize());
+                } catch (InvalidPathException e) {
+                    // Not a file reference
+                }
+            }
+        }
+        return files;
+    }
+
+    private Set<Path> register(WatchService watchService, Set<Path> watchedDirectories) throws IOException {
+        Set<Path> watchedFiles = findWatchedFiles();
+        for (Path file : watchedFiles) {
+            Path directory = file.getParent();
+            if (directory != null && Files.isDirectory(directory) && watchedDirectories.add(directory)) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+        return watchedFiles;
+    }
+
+    private static boolean pollChanges(WatchKey key, Set<Path> watchedFiles) {
+        boolean changed = false;
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW ||
+                    watchedFiles.contains(directory.resolve((Path) event.context()))) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Generation run on each change of the watched files.
+     */
+    @FunctionalInterface
+    public interface Generation {
+        void generate() throws IOException;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.ParallelFormatter;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.openapi.core.model.OASOperation;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.openapi.cmd.CmdConstants.TYPE_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.UTIL_FILE_NAME;
+
+/**
+ * Generates a client class for each tag of a definition, so that the client of a large API is split into smaller
+ * clients that can be used on their own.
+ * <p>
+ * The operations are grouped by their first tag, and the client of each tag is generated into its own file of the
+ * same module, e.g. the client of the {@code pets} tag is the {@code PetsClient} class of {@code pets_client.bal}.
+ * The operations without a tag belong to the {@code Client} class of {@code client.bal}. The clients share the types,
+ * the utils and the records of the authentication configuration of the module.
+ *
+ * @since 1.3.0
+ */
+public class SplitClientGenerator {
+
+    private static final String CLIENT_SUFFIX = "Client";
+    private static final String BAL_EXTENSION = ".bal";
+
+    private final OASClientConfig oasClientConfig;
+    private final String srcPackage;
+    private final GenerationProfiler profiler;
+    private Set<String> typeConflicts = Collections.emptySet();
+
+    public SplitClientGenerator(OASClientConfig oasClientConfig, String srcPackage, GenerationProfiler profiler) {
+        this.oasClientConfig = oasClientConfig;
+        this.srcPackage = srcPackage;
+        this.profiler = profiler;
+    }
+
+    /**
+     * Generate the client files of each tag, and the types and utils files shared by the clients.
+     *
+     * @return generated source files
+     * @throws BallerinaOpenApiException when code generation fails
+     * @throws FormatterException        when formatting the generated code fails
+     * @throws IOException               when generating the util file fails
+     */
+    public List<GenSrcFile> generate() throws BallerinaOpenApiException, FormatterException, IOException {
+        profiler.startPhase(GenerationProfiler.CLIENT);
+        List<OASOperation> operations = oasClientConfig.getGenerationContext().getOASIndex()
+                .getOperations(oasClientConfig.getFilters());
+        Map<String, List<OASOperation>> operationsByTag =
+                ShardedClientGenerator.getShards(operations, ShardedClientGenerator.SHARD_BY_TAG);
+        if (operationsByTag.isEmpty()) {
+            operationsByTag.put("", operations);
+        }
+        // The clients are generated one after the other, as their generators share the caches of the definition
+        Map<String, SyntaxTree> clientSyntaxTrees = new LinkedHashMap<>();
+        Set<String> classNames = new HashSet<>();
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        BallerinaUtilGenerator utilGenerator = null;
+        for (Map.Entry<String, List<OASOperation>> tagOperations : operationsByTag.entrySet()) {
+            String className = getClassName(tagOperations.getKey(), classNames);
+            BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+            clientGenerator.setClientClassName(className);
+            clientGenerator.setAuthRecordsIncluded(utilGenerator == null);
+            clientSyntaxTrees.put(getFileName(className), clientGenerator.generateSyntaxTree(tagOperations.getValue()));
+            typeDefinitionRegistry.registerAll(clientGenerator.getTypeDefinitionNodeList());
+            if (utilGenerator == null) {
+                utilGenerator = clientGenerator.getBallerinaUtilGenerator();
+            } else {
+                utilGenerator.merge(clientGenerator.getBallerinaUtilGenerator());
+            }
+        }
+        profiler.startPhase(GenerationProfiler.UTILS);
+        SyntaxTree utilSyntaxTree = utilGenerator.generateUtilSyntaxTree();
+        profiler.startPhase(GenerationProfiler.TYPES);
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(oasClientConfig.getGenerationContext());
+        typesGenerator.setTypeDefinitionRegistry(typeDefinitionRegistry);
+        SyntaxTree typesSyntaxTree = typesGenerator.generateSyntaxTree();
+        typeConflicts = typeDefinitionRegistry.getConflicts();
+
+        profiler.startPhase(GenerationProfiler.FORMAT);
+        List<SyntaxTree> syntaxTrees = new ArrayList<>(clientSyntaxTrees.values());
+        syntaxTrees.add(utilSyntaxTree);
+        syntaxTrees.add(typesSyntaxTree);
+        List<SyntaxTree> formattedSyntaxTrees = ParallelFormatter.formatSyntaxTrees(syntaxTrees);
+
+        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        StringBuilder clientContents = new StringBuilder();
+        int index = 0;
+        for (String fileName : clientSyntaxTrees.keySet()) {
+            GenSrcFile clientFile = new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, fileName,
+                    formattedSyntaxTrees.get(index++));
+            sourceFiles.add(clientFile);
+            clientContents.append(clientFile.getContent()).append("\n");
+        }
+        GenSrcFile utilFile = new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
+                formattedSyntaxTrees.get(index++));
+        if (!utilFile.isBlank()) {
+            sourceFiles.add(utilFile);
+        }
+        GenSrcFile typesFile = new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                formattedSyntaxTrees.get(index));
+        if (!oasClientConfig.getFilters().getTags().isEmpty()) {
+            // Remove the records and enums that none of the clients of the given tags use
+            profiler.startPhase(GenerationProfiler.REMOVE_UNUSED_ENTITIES);
+            typesFile.setContent(GeneratorUtils.removeUnusedEntities(typesFile.getContent(),
+                    clientContents.toString(), null));
+        }
+        if (!typesFile.isBlank()) {
+            sourceFiles.add(typesFile);
+        }
+        return sourceFiles;
+    }
+
+    /**
+     * Returns the names of the types that were generated with more than one definition by the last generation.
+     */
+    public Set<String> getTypeConflicts() {
+        return typeConflicts;
+    }
+
+    /**
+     * Returns the name of the client class of the given tag, which is unique among the given class names.
+     */
+    private static String getClassName(String tag, Set<String> classNames) {
+        String baseName = tag.isBlank() ? GeneratorConstants.CLIENT_CLASS :
+                GeneratorUtils.getValidName(tag.trim(), true) + CLIENT_SUFFIX;
+        String className = baseName;
+        for (int i = 1; !classNames.add(className); i++) {
+            className = baseName + i;
+        }
+        return className;
+    }
+
+    /**
+     * Returns the snake case file name of the given client class, e.g. {@code pets_client.bal} for
+     * {@code PetsClient}.
+     */
+    private static String getFileName(String className) {
+        StringBuilder fileName = new StringBuilder();
+        for (int i = 0; i < className.length(); i++) {
+            char c = className.charAt(i);
+            if (Character.isUpperCase(c) && i > 0 && !Character.isUpperCase(className.charAt(i - 1))) {
+                fileName.append('_');
+            }
+            fileName.append(c);
+        }
+        return fileName.toString().replaceAll("[^A-Za-z0-9_]", "_").toLowerCase(Locale.ENGLISH) + BAL_EXTENSION;
+    }
+}
@@ -28,7 +28,9 @@ module io.ballerina.openapi {
     requires io.ballerina.openapi.converter;
     requires io.swagger.v3.core;
     requires io.swagger.v3.oas.models;
+    requires java.management;
     requires java.ws.rs;
+    requires jdk.management;
     requires jsr305;
     requires org.apache.commons.io;
     requires org.slf4j;
@@ -16,6 +16,9 @@
 package io.ballerina.openapi;
 
 import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
+import io.ballerina.openapi.cmd.GeneratedSourcesManifest;
+import io.ballerina.openapi.cmd.GenerationFingerprints;
+import io.ballerina.openapi.cmd.ShardedClientGenerator;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.model.Filter;
@@ -33,6 +36,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -103,6 +107,204 @@ public class CodeGeneratorTest {
         }
     }
 
+    @Test(description = "Test regenerating a client does not rewrite the unchanged files")
+    public void regenerateUnchangedClient() throws IOException, BallerinaOpenApiException, FormatterException {
+        String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+        Path outPath = Files.createTempDirectory("openapi-regenerate");
+        try {
+            BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+            generator.generateClient(definitionPath, outPath.toString(), filter, false, false);
+            Assert.assertTrue(Files.exists(outPath.resolve(".openapi-gen")));
+            Path clientPath = outPath.resolve("client.bal");
+            Path typesPath = outPath.resolve("types.bal");
+            FileTime generatedTime = FileTime.fromMillis(0);
+            Files.setLastModifiedTime(clientPath, generatedTime);
+            Files.setLastModifiedTime(typesPath, generatedTime);
+            String typesContent = Files.readString(typesPath);
+            Files.writeString(typesPath, "// edited" + System.lineSeparator() + typesContent);
+            // Only the edited file needs a confirmation before it is overwritten
+            GeneratedSourcesManifest manifest = GeneratedSourcesManifest.load(outPath);
+            Assert.assertTrue(manifest.isUnedited(clientPath));
+            Assert.assertFalse(manifest.isUnedited(typesPath));
+
+            generator.generateClient(definitionPath, outPath.toString(), filter, false, false);
+            Assert.assertEquals(Files.getLastModifiedTime(clientPath), generatedTime);
+            Assert.assertEquals(Files.readString(typesPath), typesContent);
+            // The content is streamed to temporary files, which do not outlive the generation
+            try (Stream<Path> files = Files.list(outPath)) {
+                Assert.assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+            }
+        } finally {
+            FileUtils.deleteDirectory(outPath.toFile());
+        }
+    }
+
+    @Test(description = "Test regenerating a client incrementally gives the same sources as a full generation")
+    public void regenerateClientIncrementally() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        Path outPath = Files.createTempDirectory("openapi-incremental");
+        Path expectedOutPath = Files.createTempDirectory("openapi-full");
+        try {
+            BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+            generator.setIncremental(true);
+            generator.generateClient(definitionPath.toString(), outPath.toString(), filter, false, false);
+            Assert.assertTrue(Files.exists(outPath.resolve(".openapi-fingerprints")));
+            String clientContent = Files.readString(outPath.resolve("client.bal"));
+            String typesContent = Files.readString(outPath.resolve("types.bal"));
+
+            // Nothing changed, the existing sources are kept
+            generator.generateClient(definitionPath.toString(), outPath.toString(), filter, false, false);
+            Assert.assertEquals(Files.readString(outPath.resolve("client.bal")), clientContent);
+            Assert.assertEquals(Files.readString(outPath.resolve("types.bal")), typesContent);
+
+            // A field is added to the `Error` schema
+            Path changedDefinitionPath = outPath.resolve("petstore.yaml");
+            Files.writeString(changedDefinitionPath, Files.readString(definitionPath).replace(
+                    "        message:\n", "        detail:\n          type: string\n        message:\n"));
+            generator.generateClient(changedDefinitionPath.toString(), outPath.toString(), filter, false, false);
+            new BallerinaCodeGenerator().generateClient(changedDefinitionPath.toString(), expectedOutPath.toString(),
+                    filter, false, false);
+            for (String fileName : List.of("client.bal", "types.bal")) {
+                Assert.assertEquals(Files.readString(outPath.resolve(fileName)).replaceAll("\\s+", ""),
+                        Files.readString(expectedOutPath.resolve(fileName)).replaceAll("\\s+", ""));
+            }
+            Assert.assertTrue(Files.readString(outPath.resolve("types.bal")).contains("detail"));
+        } finally {
+            FileUtils.deleteDirectory(outPath.toFile());
+            FileUtils.deleteDirectory(expectedOutPath.toFile());
+        }
+    }
+
+    @Test(description = "Test regenerating a client incrementally regenerates what depends on a changed schema " +
+            "whose name is not a valid type name")
+    public void regenerateClientIncrementallyWithSchemaNames()
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        Path outPath = Files.createTempDirectory("openapi-incremental");
+        Path expectedOutPath = Files.createTempDirectory("openapi-full");
+        try {
+            // The `Pet` schema is renamed to `pet-item`, which is generated as the `PetItem` type
+            Path definitionPath = outPath.resolve("petstore.yaml");
+            String definition = Files.readString(RES_DIR.resolve("petstore.yaml"))
+                    .replace("\"#/components/schemas/Pet\"", "\"#/components/schemas/pet-item\"")
+                    .replace("    Pet:\n", "    pet-item:\n");
+            Files.writeString(definitionPath, definition);
+            BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+            generator.setIncremental(true);
+            generator.generateClient(definitionPath.toString(), outPath.toString(), filter, false, false);
+            GenerationFingerprints fingerprints = GenerationFingerprints.load(outPath).orElseThrow();
+
+            // A field is added to the `pet-item` schema
+            Files.writeString(definitionPath, definition.replace("        tag:\n",
+                    "        age:\n          type: integer\n        tag:\n"));
+            generator.generateClient(definitionPath.toString(), outPath.toString(), filter, false, false);
+            GenerationFingerprints changedFingerprints = GenerationFingerprints.load(outPath).orElseThrow();
+            new BallerinaCodeGenerator().generateClient(definitionPath.toString(), expectedOutPath.toString(),
+                    filter, false, false);
+            for (String fileName : List.of("client.bal", "types.bal")) {
+                Assert.assertEquals(Files.readString(outPath.resolve(fileName)).replaceAll("\\s+", ""),
+                        Files.readString(expectedOutPath.resolve(fileName)).replaceAll("\\s+", ""));
+            }
+            Assert.assertTrue(Files.readString(outPath.resolve("types.bal")).contains("age"));
+
+            // The schemas and the operations that refer to the changed schema are regenerated, the others are not
+            for (String schemaName : List.of("PetItem", "Dog", "Pets")) {
+                Assert.assertNotEquals(changedFingerprints.getSchemaFingerprints().get(schemaName),
+                        fingerprints.getSchemaFingerprints().get(schemaName), schemaName);
+            }
+            Assert.assertEquals(changedFingerprints.getSchemaFingerprints().get("Error"),
+                    fingerprints.getSchemaFingerprints().get("Error"));
+            for (String operationKey : List.of("GET /pets", "GET /pets/{petId}")) {
+                Assert.assertNotEquals(changedFingerprints.getOperationFingerprints().get(operationKey),
+                        fingerprints.getOperationFingerprints().get(operationKey), operationKey);
+            }
+            Assert.assertEquals(changedFingerprints.getOperationFingerprints().get("POST /pets"),
+                    fingerprints.getOperationFingerprints().get("POST /pets"));
+        } finally {
+            FileUtils.deleteDirectory(outPath.toFile());
+            FileUtils.deleteDirectory(expectedOutPath.toFile());
+        }
+    }
+
+    @Test(description = "Generate the client in shards of operations", dataProvider = "shardedDefinitions")
+    public void generateClientInShards(String definitionName)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve(definitionName);
+        Path expectedOutPath = Files.createTempDirectory("openapi-full");
+        try {
+            new BallerinaCodeGenerator().generateClient(definitionPath.toString(), expectedOutPath.toString(),
+                    filter, false, false);
+            for (String shardBy : List.of(ShardedClientGenerator.SHARD_BY_TAG, ShardedClientGenerator.SHARD_BY_PATH)) {
+                Path outPath = Files.createTempDirectory("openapi-shards-" + shardBy);
+                try {
+                    BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+                    generator.setShardBy(shardBy);
+                    generator.generateClient(definitionPath.toString(), outPath.toString(), filter, false, false);
+                    for (String fileName : List.of("client.bal", "types.bal", "utils.bal")) {
+                        Assert.assertEquals(Files.exists(outPath.resolve(fileName)),
+                                Files.exists(expectedOutPath.resolve(fileName)), fileName);
+                        if (!Files.exists(outPath.resolve(fileName))) {
+                            continue;
+                        }
+                        Assert.assertEquals(Files.readString(outPath.resolve(fileName)).replaceAll("\\s+", ""),
+                                Files.readString(expectedOutPath.resolve(fileName)).replaceAll("\\s+", ""),
+                                fileName + " of " + definitionName + " sharded by " + shardBy);
+                    }
+                } finally {
+                    FileUtils.deleteDirectory(outPath.toFile());
+                }
+            }
+        } finally {
+            FileUtils.deleteDirectory(expectedOutPath.toFile());
+        }
+    }
+
+    @DataProvider(name = "shardedDefinitions")
+    public Object[][] shardedDefinitions() {
+        // The functions of the API key definition add the keys to their requests, and the inline request bodies
+        // generate types for the client
+        return new Object[][]{{"petstore.yaml"}, {"petstore_with_apikey_auth.yaml"}, {"inline-request-body.yaml"}};
+    }
+
+    @Test(description = "Generate a client class for each tag")
+    public void generateClientSplitByTag() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve("petstore_tags.yaml");
+        Path outPath = Files.createTempDirectory("openapi-split");
+        try {
+            BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+            generator.setSplitByTag(true);
+            generator.generateClient(definitionPath.toString(), outPath.toString(), filter, false, false);
+            Assert.assertFalse(Files.exists(outPath.resolve("client.bal")));
+            Assert.assertTrue(Files.exists(outPath.resolve("types.bal")));
+            String petsClient = Files.readString(outPath.resolve("pets_client.bal"));
+            String dogsClient = Files.readString(outPath.resolve("dogs_client.bal"));
+            Assert.assertTrue(petsClient.contains("public isolated client class PetsClient"));
+            Assert.assertTrue(dogsClient.contains("public isolated client class DogsClient"));
+            Assert.assertTrue(petsClient.contains("function listPets("));
+            Assert.assertFalse(petsClient.contains("function getDogs("));
+            Assert.assertTrue(dogsClient.contains("function getDogs("));
+            Assert.assertFalse(dogsClient.contains("function listPets("));
+        } finally {
+            FileUtils.deleteDirectory(outPath.toFile());
+        }
+    }
+
+    @Test(description = "Generate the client without the documentation of the definition")
+    public void generateClientLean() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path definitionPath = RES_DIR.resolve("petstore.yaml");
+        Path outPath = Files.createTempDirectory("openapi-lean");
+        try {
+            BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
+            generator.setLean(true);
+            generator.generateClient(definitionPath.toString(), outPath.toString(), filter, false, false);
+            String client = Files.readString(outPath.resolve("client.bal"));
+            Assert.assertTrue(client.contains("function listPets("));
+            Assert.assertFalse(client.contains("List all pets"));
+            Assert.assertFalse(client.contains("How many items to return at one time"));
+        } finally {
+            FileUtils.deleteDirectory(outPath.toFile());
+        }
+    }
+
     @Test(description = "Test duplicated files generation")
     public void generateDuplicatedFiles() {
         List<File> duplicatedFileList = new ArrayList<>();
@@ -568,6 +770,7 @@ public class CodeGeneratorTest {
             Files.deleteIfExists(resourcePath.resolve("utils.bal"));
             Files.deleteIfExists(resourcePath.resolve("test.bal"));
             Files.deleteIfExists(resourcePath.resolve("Config.toml"));
+            Files.deleteIfExists(resourcePath.resolve(".openapi-gen"));
             FileUtils.deleteDirectory(new File(resourcePath + "/tests"));
         } catch (IOException ignored) {
         }
@@ -21,6 +21,7 @@ import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
+import org.testng.annotations.AfterClass;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
@@ -31,6 +32,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +44,8 @@ import java.util.stream.Stream;
  */
 public class OpenAPICmdTest extends OpenAPICommandTest {
     private static final String LINE_SEPARATOR = System.lineSeparator();
+    private GeneratorDaemon daemon;
+    private Thread daemonThread;
 
     @BeforeTest(description = "This will create a new ballerina project for testing below scenarios.")
     public void setupBallerinaProject() throws IOException {
@@ -444,6 +451,209 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
         FileUtils.deleteDirectory(testDir);
     }
 
+    @Test(description = "Test generating the clients of a manifest of definitions in one command")
+    public void testBatchClientGeneration() throws IOException {
+        Path specsDir = this.tmpDir.resolve("batch");
+        Path outDir = this.tmpDir.resolve("batch-out");
+        Files.createDirectories(specsDir);
+        Files.copy(resourceDir.resolve(Paths.get("petstore.yaml")), specsDir.resolve("petstore.yaml"));
+        Files.copy(resourceDir.resolve(Paths.get("petstore.yaml")), specsDir.resolve("pets.yaml"));
+        Files.writeString(specsDir.resolve("specs.txt"), "# Definitions of the batch\n" +
+                "petstore.yaml --mode client\n" +
+                "pets.yaml --mode client -o pets-client --client-methods remote\n");
+        String[] args = {"--input", specsDir.resolve("specs.txt").toString(), "-o", outDir.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("2 of 2 definitions generated successfully."), output);
+        Assert.assertTrue(Files.exists(outDir.resolve(Paths.get("petstore", "client.bal"))));
+        Assert.assertTrue(Files.exists(specsDir.resolve(Paths.get("pets-client", "client.bal"))));
+        Assert.assertFalse(Files.exists(outDir.resolve(Paths.get("petstore", "petstore_service.bal"))));
+        FileUtils.deleteDirectory(specsDir.toFile());
+        FileUtils.deleteDirectory(outDir.toFile());
+    }
+
+    @Test(description = "Test generating the definitions of a directory into the directories of their paths")
+    public void testBatchDirectoryGeneration() throws IOException {
+        Path specsDir = this.tmpDir.resolve("batch-dir");
+        Path outDir = this.tmpDir.resolve("batch-dir-out");
+        Files.createDirectories(specsDir.resolve("v1"));
+        Files.createDirectories(specsDir.resolve("v2"));
+        Files.copy(resourceDir.resolve(Paths.get("petstore.yaml")), specsDir.resolve(Paths.get("v1", "petstore.yaml")));
+        Files.copy(resourceDir.resolve(Paths.get("petstore.yaml")), specsDir.resolve(Paths.get("v2", "petstore.yaml")));
+        String[] args = {"--input", specsDir.toString(), "--mode", "client", "-o", outDir.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("2 of 2 definitions generated successfully."), output);
+        Assert.assertTrue(Files.exists(outDir.resolve(Paths.get("v1", "petstore", "client.bal"))));
+        Assert.assertTrue(Files.exists(outDir.resolve(Paths.get("v2", "petstore", "client.bal"))));
+
+        // An edited file is kept, and its definition is reported as failed
+        Path editedClient = outDir.resolve(Paths.get("v1", "petstore", "client.bal"));
+        Files.writeString(editedClient, Files.readString(editedClient) + "\n// edited\n");
+        cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        output = readOutput(true);
+        Assert.assertTrue(output.contains("1 of 2 definitions generated successfully."), output);
+        Assert.assertTrue(output.contains("were not overwritten"), output);
+        Assert.assertTrue(Files.readString(editedClient).endsWith("// edited\n"));
+
+        // The client layout options apply to every definition
+        Path splitOutDir = this.tmpDir.resolve("batch-dir-split-out");
+        cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs("--input", specsDir.toString(), "--mode", "client", "--split-by-tag", "-o",
+                splitOutDir.toString());
+        cmd.execute();
+        output = readOutput(true);
+        Assert.assertTrue(output.contains("2 of 2 definitions generated successfully."), output);
+        Assert.assertTrue(Files.exists(splitOutDir.resolve(Paths.get("v1", "petstore", "pets_client.bal"))));
+        Assert.assertTrue(Files.exists(splitOutDir.resolve(Paths.get("v2", "petstore", "pets_client.bal"))));
+        FileUtils.deleteDirectory(splitOutDir.toFile());
+
+        // The options that are not available for a batch are rejected
+        cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs("--input", specsDir.toString(), "--mode", "client", "--watch", "-o",
+                outDir.toString());
+        cmd.execute();
+        output = readOutput(true);
+        Assert.assertTrue(output.contains("'--watch' option is only available for a single OpenAPI definition."),
+                output);
+
+        // Definitions that differ only in their extension would be generated into the same directory
+        Files.copy(resourceDir.resolve(Paths.get("petstore.yaml")), specsDir.resolve(Paths.get("v1", "petstore.yml")));
+        cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        output = readOutput(true);
+        Assert.assertTrue(output.contains("would be generated into the same directory"), output);
+        FileUtils.deleteDirectory(specsDir.toFile());
+        FileUtils.deleteDirectory(outDir.toFile());
+    }
+
+    @Test(description = "Test forwarding a client generation to a running daemon")
+    public void testDaemonClientGeneration() throws IOException, InterruptedException {
+        Path stateFile = this.tmpDir.resolve("openapi-daemon");
+        Path outDir = this.tmpDir.resolve("daemon-out");
+        List<String> args = List.of("-i", resourceDir.resolve(Paths.get("petstore.yaml")).toString(), "--mode",
+                "client", "-o", outDir.toString());
+        Assert.assertFalse(GeneratorDaemon.forward(stateFile, args, tmpDir, printStream).isPresent());
+
+        daemon = new GeneratorDaemon(printStream, stateFile);
+        daemonThread = new Thread(() -> {
+            try {
+                daemon.serve();
+            } catch (IOException e) {
+                Assert.fail(e.getMessage());
+            }
+        });
+        daemonThread.setDaemon(true);
+        daemonThread.start();
+        for (int i = 0; i < 100 && (!Files.exists(stateFile) || Files.readString(stateFile).isBlank()); i++) {
+            Thread.sleep(100);
+        }
+        OptionalInt status = GeneratorDaemon.forward(stateFile, args, tmpDir, printStream);
+        Assert.assertTrue(status.isPresent());
+        Assert.assertEquals(status.getAsInt(), 0, readOutput(true));
+        Assert.assertTrue(Files.exists(outDir.resolve("client.bal")));
+
+        // The commands are not forwarded to the daemon of another version of the tool
+        String[] state = Files.readString(stateFile).trim().split(" ");
+        Files.writeString(stateFile, state[0] + " " + state[1] + " 0000000000000000");
+        Assert.assertFalse(GeneratorDaemon.forward(stateFile, args, tmpDir, printStream).isPresent());
+        FileUtils.deleteDirectory(outDir.toFile());
+    }
+
+    @AfterClass
+    public void stopDaemon() throws IOException, InterruptedException {
+        if (daemon != null) {
+            daemon.stop();
+            daemonThread.join(10000);
+            Assert.assertFalse(daemonThread.isAlive());
+        }
+    }
+
+    @Test(description = "Test regenerating when a file referred by the watched contract changes")
+    public void testWatchReferredFileChange() throws IOException, InterruptedException {
+        Path specsDir = this.tmpDir.resolve("watch");
+        Files.createDirectories(specsDir.resolve("schemas"));
+        Path definition = specsDir.resolve("openapi.yaml");
+        Files.writeString(definition, "openapi: 3.0.1\n" +
+                "paths:\n" +
+                "  /pets:\n" +
+                "    get:\n" +
+                "      responses:\n" +
+                "        '200':\n" +
+                "          content:\n" +
+                "            application/json:\n" +
+                "              schema:\n" +
+                "                $ref: 'schemas/pet.yaml#/Pet'\n" +
+                "        default:\n" +
+                "          $ref: \"https://example.com/errors.yaml#/Error\"\n");
+        Path schemas = specsDir.resolve(Paths.get("schemas", "pet.yaml"));
+        Files.writeString(schemas, "Pet:\n  type: object\n");
+
+        AtomicInteger generations = new AtomicInteger();
+        SpecWatcher watcher = new SpecWatcher(printStream, definition, () -> {
+            // The first generation fails, as it would for a definition saved half way
+            if (generations.incrementAndGet() == 1) {
+                throw new IllegalStateException("Incomplete definition");
+            }
+        });
+        Assert.assertEquals(watcher.findWatchedFiles(), Set.of(definition.toAbsolutePath().normalize(),
+                schemas.toAbsolutePath().normalize()));
+        Thread watcherThread = new Thread(() -> {
+            try {
+                watcher.watch();
+            } catch (IOException e) {
+                Assert.fail(e.getMessage());
+            }
+        });
+        watcherThread.start();
+        // Let the watcher register the directories before changing the file
+        Thread.sleep(1000);
+        Files.writeString(schemas, "Pet:\n  type: object\n  additionalProperties: false\n");
+        for (int i = 0; i < 100 && generations.get() == 0; i++) {
+            Thread.sleep(100);
+        }
+        Assert.assertEquals(generations.get(), 1);
+        // The watcher keeps watching after the failed generation
+        Files.writeString(schemas, "Pet:\n  type: object\n  additionalProperties: true\n");
+        for (int i = 0; i < 100 && generations.get() == 1; i++) {
+            Thread.sleep(100);
+        }
+        Assert.assertTrue(watcherThread.isAlive());
+        watcherThread.interrupt();
+        watcherThread.join(5000);
+        Assert.assertEquals(generations.get(), 2);
+        Assert.assertTrue(readOutput(true).contains("Incomplete definition"));
+        FileUtils.deleteDirectory(specsDir.toFile());
+    }
+
+    @Test(description = "Test profiling the phases of a client generation")
+    public void testClientGenerationProfile() throws IOException {
+        Path outDir = this.tmpDir.resolve("profile-out");
+        Path profilePath = this.tmpDir.resolve("profile.json");
+        String[] args = {"--input", resourceDir.resolve(Paths.get("petstore.yaml")).toString(), "--mode", "client",
+                "-o", outDir.toString(), "--profile", "--profile-output", profilePath.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("Peak heap (KB)"), output);
+        Assert.assertTrue(output.contains(GenerationProfiler.PARSE), output);
+        Assert.assertTrue(output.contains(GenerationProfiler.FORMAT), output);
+        Assert.assertTrue(output.contains(GenerationProfiler.WRITE), output);
+        String profile = Files.readString(profilePath);
+        Assert.assertTrue(profile.contains("\"name\" : \"" + GenerationProfiler.CLIENT + "\""), profile);
+        Assert.assertTrue(profile.contains("\"wallTimeMillis\""), profile);
+        Files.delete(profilePath);
+        FileUtils.deleteDirectory(outDir.toFile());
+    }
+
     @Test(description = "getRelative path")
     public void getRelativePath() {
         OpenApiCmd cmd = new OpenApiCmd();
@@ -21,6 +21,7 @@ package io.ballerina.openapi.generators.client;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -28,7 +29,6 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -43,8 +43,8 @@ public class AllOfResponsesTests {
     public void getReturnTypeTests() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_allof_reference.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true), "CompoundTestsProductsResponse|error");
     }
@@ -52,8 +52,8 @@ public class AllOfResponsesTests {
     public void getReturnTypeForAllOf() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_all_of_response.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/users/{userId}/meetings")
                         .getPost(), true), "CompoundCreateMeetingResponse|error");
     }
@@ -62,8 +62,8 @@ public class AllOfResponsesTests {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_without_properties_with_additional.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -75,8 +75,8 @@ public class AllOfResponsesTests {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_properties_with_additional" +
                 ".yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -88,8 +88,8 @@ public class AllOfResponsesTests {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type" +
                 "/response_without_properties_without_additional.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -102,7 +102,7 @@ public class AllOfResponsesTests {
                 "response_with_properties_without_additional.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
-                response, ballerinaSchemaGenerator, new ArrayList<>());
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -23,9 +23,11 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -65,6 +67,70 @@ public class FilterTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @Test(description = "With tag filter, resolving the selected operations only")
+    public void testWithTagLazyResolve() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("file_provider/swagger/tag.yaml");
+        Path expectedPath = RES_DIR.resolve("file_provider/ballerina/tag.bal");
+        list1.clear();
+        list2.clear();
+        list1.add("Data for all countries");
+        Filter filter = new Filter(list1, list2);
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath, filter);
+        OpenAPI fullOpenAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        Assert.assertTrue(openAPI.getPaths().size() < fullOpenAPI.getPaths().size());
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(GeneratorUtils.normalizeOpenAPI(openAPI, true))
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
+    }
+
+    @Test(description = "With tag filter, resolving the selected operations with inline responses only")
+    public void testWithTagLazyResolveInlineResponses() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        Path definitionPath = RES_DIR.resolve("file_provider/swagger/inline_responses.yaml");
+        // The inline response of the first operation is named the same by both parses
+        Assert.assertEquals(generateLazyClientAndTypes(definitionPath, "pets"),
+                generateClientAndTypes(definitionPath, "pets"));
+        // The inline response of the second operation is the first one the flattening finds in the pruned definition
+        String lazyClientAndTypes = generateLazyClientAndTypes(definitionPath, "owners");
+        String clientAndTypes = generateClientAndTypes(definitionPath, "owners");
+        Assert.assertTrue(clientAndTypes.contains("Inline_response_200_1"), clientAndTypes);
+        Assert.assertFalse(lazyClientAndTypes.contains("Inline_response_200_1"), lazyClientAndTypes);
+        Assert.assertEquals(lazyClientAndTypes, clientAndTypes.replace("Inline_response_200_1", "Inline_response_200"));
+    }
+
+    // Generate the client of the given tag and the types it uses, from the whole definition
+    private static String generateClientAndTypes(Path definitionPath, String tag)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        return generateClientAndTypes(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath), tag);
+    }
+
+    // Generate the client of the given tag and the types it uses, from the selected operations of the definition
+    private static String generateLazyClientAndTypes(Path definitionPath, String tag)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        return generateClientAndTypes(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath,
+                new Filter(List.of(tag), new ArrayList<>())), tag);
+    }
+
+    private static String generateClientAndTypes(OpenAPI openAPI, String tag)
+            throws BallerinaOpenApiException, FormatterException {
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter(List.of(tag), new ArrayList<>()))
+                .withOpenAPI(GeneratorUtils.normalizeOpenAPI(openAPI, true))
+                .withResourceMode(false).build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String client = clientGenerator.generateSyntaxTree().toSourceCode();
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(oasClientConfig.getGenerationContext());
+        typesGenerator.setTypeDefinitionNodeList(clientGenerator.getTypeDefinitionNodeList());
+        // The types the client does not use are dropped from the whole definition, as the generation with tags does
+        return GeneratorUtils.removeUnusedEntities(typesGenerator.generateSyntaxTree().toSourceCode(), client,
+                null) + client;
+    }
+
     @Test(description = "With Operation filter")
     public void testWithOperation() throws IOException, BallerinaOpenApiException, FormatterException {
         Path definitionPath = RES_DIR.resolve("file_provider/swagger/operation.yaml");
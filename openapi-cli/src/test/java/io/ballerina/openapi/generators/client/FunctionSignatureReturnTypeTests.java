@@ -21,6 +21,7 @@ package io.ballerina.openapi.generators.client;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -28,7 +29,6 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -70,8 +70,8 @@ public class FunctionSignatureReturnTypeTests {
     public void getReturnTypeForMapSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_with_properties_with_additional.yaml"));
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(array,
-                new BallerinaTypesGenerator(array), new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                new BallerinaTypesGenerator(array), new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/products").getGet(),
                 true);
         Assert.assertEquals(returnType, "TestsProductsResponse|error");
@@ -92,8 +92,8 @@ public class FunctionSignatureReturnTypeTests {
     public void getReturnTypeForMapSchemaWithOutAdditionalProperties() throws IOException, BallerinaOpenApiException {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_properties_without_additional" +
                 ".yaml"));
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(array,
-                new BallerinaTypesGenerator(array), new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                new BallerinaTypesGenerator(array), new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/products").getGet(),
                 true);
         Assert.assertEquals(returnType, "TestsProductsResponse|error");
@@ -102,8 +102,8 @@ public class FunctionSignatureReturnTypeTests {
     @Test(description = "Tests for the response with no schema")
     public void getReturnTypeForResponseWithoutSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_no_schema.yaml"));
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(array,
-                new BallerinaTypesGenerator(array), new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                new BallerinaTypesGenerator(array), new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/path01").getGet(),
                 true);
         Assert.assertEquals(returnType, "json|error");
@@ -21,6 +21,7 @@ package io.ballerina.openapi.generators.client;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.FunctionReturnTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -28,7 +29,6 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -43,8 +43,8 @@ public class OneOfResponsesTests {
     public void getReturnTypeOneOfArray() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_oneOf_response.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator,  new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/pet").getGet(),
                 true), "ChannelDetails[]|string[]|error");
     }
@@ -53,8 +53,8 @@ public class OneOfResponsesTests {
     public void getReturnTypeOneOfArrayInTargetType() throws IOException, BallerinaOpenApiException {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_oneOf_response.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
-        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/pet").getGet(),
                 false), "OneOfOperationId01Response|error");
     }
@@ -148,6 +148,15 @@ public class RequestBodyTests {
         GeneratorUtils.normalizeOpenAPI(definitionPath, true);
     }
 
+    @Test(description = "Test the operationId and requestBody errors of a definition are reported together",
+            expectedExceptions = BallerinaOpenApiException.class, expectedExceptionsMessageRegExp =
+            "OpenAPI definition has errors: \\R\\ROperationId is missing in the resource path: /pets\\(POST\\)\\R" +
+                    "GET operation cannot have a requestBody. Error at operationId: listPets")
+    public void testOperationIdAndRequestBodyErrors() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/request_body_in_get_without_operation_id.yaml");
+        GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+    }
+
     @Test(description = "Test for generating request body when operation has form url encoded media type")
     public void testRequestBodyWithURLEncodedType() throws IOException, BallerinaOpenApiException {
         Path expectedPath = RES_DIR.resolve("ballerina/url_encoded_payload.bal");
@@ -18,17 +18,47 @@
 
 package io.ballerina.openapi.generators.common;
 
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.ParallelFormatter;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.openapi.core.model.OASIndex;
+import io.ballerina.openapi.core.model.OperationAnalysis;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
@@ -90,4 +120,205 @@ public class GeneratorUtilsTests {
         Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Remove the records and enums which are not reachable from the client")
+    public static void testRemoveUnusedEntities() throws FormatterException {
+        String clientContent = "public isolated client class Client {\n" +
+                "    remote isolated function getPet() returns Pet|error {\n" +
+                "        return error(\"unimplemented\");\n" +
+                "    }\n" +
+                "}\n";
+        String schemaContent = "public type Pet record {\n    Category category;\n};\n\n" +
+                "public type Category record {\n    string name;\n};\n\n" +
+                "public type Order record {\n    Item[] items;\n    Status status;\n};\n\n" +
+                "public type Item record {\n    string id;\n};\n\n" +
+                "public enum Status {\n    PLACED,\n    DELIVERED\n}\n\n" +
+                "public type Node record {\n    Node? next;\n};\n";
+        String prunedContent = GeneratorUtils.removeUnusedEntities(schemaContent, clientContent, null);
+        Assert.assertTrue(prunedContent.contains("type Pet record"));
+        Assert.assertTrue(prunedContent.contains("type Category record"));
+        Assert.assertFalse(prunedContent.contains("type Order record"));
+        Assert.assertFalse(prunedContent.contains("type Item record"));
+        Assert.assertFalse(prunedContent.contains("enum Status"));
+        // Self referring types are kept as they are referred by their own definition.
+        Assert.assertTrue(prunedContent.contains("type Node record"));
+    }
+
+    @Test(description = "Register the generated type definitions once per name in the registration order")
+    public static void testTypeDefinitionRegistry() {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from("public type Pet record {};\n" +
+                "public type Id int;\n" +
+                "public type Pet record {};\n" +
+                "public type Id string;\n"));
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            typeDefinitionRegistry.register((TypeDefinitionNode) member);
+        }
+        List<TypeDefinitionNode> typeDefinitions = typeDefinitionRegistry.getTypeDefinitions();
+        Assert.assertEquals(typeDefinitions.size(), 2);
+        Assert.assertEquals(typeDefinitions.get(0).typeName().text(), "Pet");
+        Assert.assertEquals(typeDefinitions.get(1).typeDescriptor().toSourceCode().trim(), "int");
+        Assert.assertEquals(typeDefinitionRegistry.getConflicts(), Set.of("Id"));
+    }
+
+    @Test(description = "Prefer the type definition of a component schema over an inline type of the same name")
+    public static void testSchemaTypeDefinitionRegistry() {
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from("public type Pet string;\n" +
+                "public type Id int;\n" +
+                "public type Pet record {};\n" +
+                "public type Pet int;\n"));
+        List<TypeDefinitionNode> members = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            members.add((TypeDefinitionNode) member);
+        }
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        typeDefinitionRegistry.registerAll(members.subList(0, 2));
+        typeDefinitionRegistry.registerSchemaTypes(members.subList(2, 4));
+        List<TypeDefinitionNode> typeDefinitions = typeDefinitionRegistry.getTypeDefinitions();
+        Assert.assertEquals(typeDefinitions.size(), 2);
+        Assert.assertEquals(typeDefinitions.get(0).typeName().text(), "Pet");
+        Assert.assertEquals(typeDefinitions.get(0).typeDescriptor().toSourceCode().trim(), "record {}");
+        Assert.assertEquals(typeDefinitionRegistry.getConflicts(), Set.of("Pet"));
+    }
+
+    @Test(description = "Analyze the parameters, request body and resource path of an operation once")
+    public static void testOperationAnalysis() throws BallerinaOpenApiException {
+        Operation operation = new Operation()
+                .addParametersItem(new Parameter().in("header").name("X-Request-ID").schema(new StringSchema()))
+                .addParametersItem(new Parameter().in("path").name("id").required(true).schema(new StringSchema()))
+                .addParametersItem(new Parameter().in("query").name("limit").schema(new IntegerSchema()))
+                .requestBody(new RequestBody().$ref("#/components/requestBodies/Order"));
+        RequestBody order = new RequestBody().content(new Content());
+        OpenAPI openAPI = new OpenAPI().components(new Components()
+                .addRequestBodies("Order", new RequestBody().$ref("#/components/requestBodies/NewOrder"))
+                .addRequestBodies("NewOrder", order));
+        OperationAnalysis operationAnalysis = OperationAnalysis.of("/orders/{id}.json", PathItem.HttpMethod.POST,
+                operation, openAPI);
+        Assert.assertEquals(operationAnalysis.getParameters().size(), 3);
+        Assert.assertEquals(operationAnalysis.getPathParameters().get(0).getName(), "id");
+        Assert.assertEquals(operationAnalysis.getQueryParameters().get(0).getName(), "limit");
+        Assert.assertEquals(operationAnalysis.getHeaderParameters().get(0).getName(), "X-Request-ID");
+        Assert.assertSame(operationAnalysis.getRequestBody(), order);
+        Assert.assertSame(operationAnalysis.getRelativeResourcePath(), operationAnalysis.getRelativeResourcePath());
+        Assert.assertEquals(operationAnalysis.getComplexPathStatements().size(), 2);
+        Assert.assertSame(operationAnalysis.getComplexPathStatements(), operationAnalysis.getComplexPathStatements());
+    }
+
+    @Test(description = "Index the operations and the component schema references of a definition")
+    public static void testOASIndex() {
+        Schema<?> owner = new ObjectSchema().addProperties("pets",
+                new ArraySchema().items(new Schema<>().$ref("#/components/schemas/Pet")));
+        Schema<?> pet = new ObjectSchema().addProperties("owner", new Schema<>().$ref("#/components/schemas/Owner"))
+                .addProperties("id", new IntegerSchema());
+        OpenAPI openAPI = new OpenAPI()
+                .paths(new io.swagger.v3.oas.models.Paths()
+                        .addPathItem("/pets", new PathItem()
+                                .get(new Operation().operationId("listPets").tags(List.of("pets")))
+                                .post(new Operation().operationId("addPet")))
+                        .addPathItem("/owners", new PathItem()
+                                .get(new Operation().operationId("listOwners").tags(List.of("owners", "pets")))))
+                .components(new Components().addSchemas("Pet", pet).addSchemas("Owner", owner));
+        OASIndex oasIndex = OASIndex.from(openAPI);
+
+        Assert.assertEquals(oasIndex.getOperations().size(), 3);
+        Assert.assertEquals(oasIndex.getOperations().get(1).getMethod(), PathItem.HttpMethod.POST);
+        Assert.assertEquals(oasIndex.getTags(), Set.of("pets", "owners"));
+        Assert.assertEquals(oasIndex.getOperationsByTag("pets").size(), 2);
+        Assert.assertEquals(oasIndex.getOperationById("listOwners").getPath(), "/owners");
+        Assert.assertEquals(oasIndex.getOperations(new Filter(List.of("owners"), List.of("addPet"))).size(), 2);
+        Assert.assertEquals(oasIndex.getSchemaDependencies("Pet"), Set.of("Owner"));
+        Assert.assertEquals(oasIndex.getSchemaDependencies("Owner"), Set.of("Pet"));
+    }
+
+    @Test(description = "Format syntax trees concurrently in the given order")
+    public static void testParallelFormatter() throws FormatterException {
+        List<SyntaxTree> syntaxTrees = new ArrayList<>();
+        List<String> expectedSources = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            SyntaxTree syntaxTree = SyntaxTree.from(
+                    TextDocuments.from("public type   Type" + i + " record {int id;};"));
+            syntaxTrees.add(syntaxTree);
+            expectedSources.add(Formatter.format(syntaxTree).toString());
+        }
+        Assert.assertEquals(ParallelFormatter.format(syntaxTrees), expectedSources);
+    }
+
+    @Test(description = "Write the formatted syntax trees token by token")
+    public static void testWriteSourceCode() throws IOException, FormatterException {
+        String source = "import ballerina/http;\n\n# Pet record\npublic type   Pet record {int id; " +
+                "string? name = ();};\n\npublic type Pets Pet[];\n";
+        for (SyntaxTree syntaxTree : ParallelFormatter.formatSyntaxTrees(
+                List.of(SyntaxTree.from(TextDocuments.from(source)), SyntaxTree.from(TextDocuments.from(""))))) {
+            StringWriter writer = new StringWriter();
+            new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, "client", "types.bal", syntaxTree)
+                    .writeContent(writer);
+            Assert.assertEquals(writer.toString(), syntaxTree.toSourceCode());
+        }
+    }
+
+    @Test(description = "Find the blank generated files the same way whether held as a string, a syntax tree or " +
+            "a file")
+    public static void testGenSrcFileIsBlank() throws IOException {
+        Path contentPath = Files.createTempFile("openapi-content", ".bal");
+        try {
+            for (String content : List.of("", " \n\t\n", "// comment\n", "\n\npublic type Pets Pet[];\n")) {
+                Files.writeString(contentPath, content);
+                boolean blank = content.isBlank();
+                Assert.assertEquals(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, "client", "types.bal",
+                        content).isBlank(), blank, content);
+                Assert.assertEquals(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, "client", "types.bal",
+                        SyntaxTree.from(TextDocuments.from(content))).isBlank(), blank, content);
+                Assert.assertEquals(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, "client", "types.bal",
+                        contentPath).isBlank(), blank, content);
+            }
+        } finally {
+            Files.deleteIfExists(contentPath);
+        }
+    }
+
+    @Test(description = "Generate the same names as the regular expression based name conversion")
+    public static void testValidNameConversion() {
+        String[] names = {"endpoint-remove-shows-user", "user_id", "userId", "_links", "2xx", "404", "type",
+                "x-rate-limit", "$ref", "first name", "foo.bar", "\u00dcn\u00efcode", "with\ttab", "UPPER-CASE",
+                "a", "Pet", "pet", "json", "error", "self", "api/v1/users", "{id}", "items[]", "is-Valid?",
+                "\u00f6l\u00e7\u00fc", "_", "a1", "1a", "select", "map<string>"};
+        for (String name : names) {
+            Assert.assertEquals(getValidName(name, true), getRegexValidName(name, true), name);
+            Assert.assertEquals(getValidName(name, false), getRegexValidName(name, false), name);
+            Assert.assertEquals(GeneratorUtils.escapeIdentifier(name), regexEscapeIdentifier(name), name);
+            Assert.assertEquals(GeneratorUtils.isValidSchemaName(name), !name.matches("\\b[0-9]*\\b"), name);
+        }
+    }
+
+    private static String getRegexValidName(String identifier, boolean isSchema) {
+        if (!identifier.matches("\\b[0-9]*\\b")) {
+            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
+            StringBuilder validName = new StringBuilder();
+            for (String part : split) {
+                if (!part.isBlank()) {
+                    if (split.length > 1) {
+                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                                part.substring(1).toLowerCase(Locale.ENGLISH);
+                    }
+                    validName.append(part);
+                }
+            }
+            identifier = validName.toString();
+        }
+        if (isSchema) {
+            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
+        }
+        return regexEscapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) +
+                identifier.substring(1));
+    }
+
+    private static String regexEscapeIdentifier(String identifier) {
+        if (identifier.matches("\\b[0-9]*\\b")) {
+            return "'" + identifier;
+        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") ||
+                GeneratorUtils.BAL_KEYWORDS.contains(identifier)) {
+            return "'" + identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
+        }
+        return identifier;
+    }
 }
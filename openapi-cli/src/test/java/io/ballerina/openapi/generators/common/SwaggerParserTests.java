@@ -18,21 +18,39 @@
 
 package io.ballerina.openapi.generators.common;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.utils.OpenAPIParseCache;
+import io.ballerina.openapi.core.DocumentationStripper;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.apache.commons.io.FileUtils;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static io.ballerina.openapi.core.GeneratorConstants.STREAMED_DEFINITION_SIZE;
+
 /**
  * Tests for BallerinaSchemaGenerators.
  */
@@ -50,6 +68,219 @@ public class SwaggerParserTests {
         syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
     }
 
+    @Test(description = "Reuse the parsed definition of an unchanged content")
+    public void parseCachedDefinition() throws IOException, BallerinaOpenApiException {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setFlatten(true);
+        for (String definitionName : List.of("petstore.yaml", "inline-request-body.yaml")) {
+            String content = Files.readString(Paths.get("src/test/resources", definitionName));
+            Path snapshotDirectory = Files.createTempDirectory("openapi-cache");
+            try {
+                OpenAPIParseCache.clear();
+                String expected = generateClientAndTypes(new OpenAPIV3Parser().readContents(content, null,
+                        parseOptions).getOpenAPI());
+                OpenAPI parsed = OpenAPIParseCache.parse(content, parseOptions, snapshotDirectory).getOpenAPI();
+                try (Stream<Path> snapshots = Files.list(snapshotDirectory)) {
+                    Assert.assertEquals(snapshots.count(), 1);
+                }
+                Assert.assertEquals(generateClientAndTypes(parsed), expected, definitionName);
+                // Each parse gets its own copy, from memory and then from the snapshot file
+                parsed.getPaths().clear();
+                OpenAPI cached = OpenAPIParseCache.parse(content, parseOptions, snapshotDirectory).getOpenAPI();
+                Assert.assertEquals(generateClientAndTypes(cached), expected, definitionName);
+                OpenAPIParseCache.clear();
+                OpenAPI restored = OpenAPIParseCache.parse(content, parseOptions, snapshotDirectory).getOpenAPI();
+                Assert.assertNotSame(restored, cached);
+                Assert.assertEquals(generateClientAndTypes(restored), expected, definitionName);
+            } finally {
+                OpenAPIParseCache.clear();
+                FileUtils.deleteDirectory(snapshotDirectory.toFile());
+            }
+        }
+    }
+
+    @DataProvider(name = "swaggerDefinitions")
+    public Object[][] swaggerDefinitions() throws IOException {
+        List<Object[]> definitions = new ArrayList<>();
+        for (String generator : List.of("client", "schema", "service")) {
+            try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources/generators", generator))) {
+                paths.filter(path -> path.toString().contains("swagger") && Files.isRegularFile(path))
+                        .filter(path -> path.toString().matches(".*\\.(yaml|yml|json)$"))
+                        .sorted()
+                        .forEach(path -> definitions.add(new Object[]{path}));
+            }
+        }
+        return definitions.toArray(new Object[0][]);
+    }
+
+    @Test(description = "Generate the same sources from a cached definition as from a fresh parse",
+            dataProvider = "swaggerDefinitions")
+    public void generateFromCachedDefinition(Path definitionPath) throws IOException {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setFlatten(true);
+        String content = Files.readString(definitionPath);
+        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(content, null, parseOptions);
+        if (parseResult.getOpenAPI() == null ||
+                (parseResult.getMessages() != null && !parseResult.getMessages().isEmpty())) {
+            // The definitions with errors are not cached
+            return;
+        }
+        String expected = getGenerationOutcome(parseResult.getOpenAPI());
+        Path snapshotDirectory = Files.createTempDirectory("openapi-cache");
+        try {
+            OpenAPIParseCache.clear();
+            String definitionName = definitionPath.toString();
+            Assert.assertEquals(getGenerationOutcome(OpenAPIParseCache.parse(content, parseOptions,
+                    snapshotDirectory).getOpenAPI()), expected, definitionName);
+            Assert.assertEquals(getGenerationOutcome(OpenAPIParseCache.parse(content, parseOptions,
+                    snapshotDirectory).getOpenAPI()), expected, definitionName);
+            OpenAPIParseCache.clear();
+            Assert.assertEquals(getGenerationOutcome(OpenAPIParseCache.parse(content, parseOptions,
+                    snapshotDirectory).getOpenAPI()), expected, definitionName);
+        } finally {
+            OpenAPIParseCache.clear();
+            FileUtils.deleteDirectory(snapshotDirectory.toFile());
+        }
+    }
+
+    @Test(description = "Parse a large JSON definition as it is streamed from the file")
+    public void parseStreamedDefinition() throws IOException, BallerinaOpenApiException {
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setFlatten(true);
+        Path jsonDirectory = Files.createTempDirectory("openapi-stream");
+        OpenAPIParseCache.setKeepInMemory(true);
+        try {
+            // Definitions with inline schemas, which are flattened
+            for (Path definitionPath : List.of(Paths.get("src/test/resources/inline-request-body.yaml"),
+                    Paths.get("src/test/resources/generators/client/file_provider/swagger/inline_responses.yaml"),
+                    RES_DIR.resolve("swagger/documented_schemas.yaml"))) {
+                String definitionName = definitionPath.getFileName().toString();
+                ObjectNode rootNode = (ObjectNode) Yaml.mapper().readTree(definitionPath.toFile());
+                int schemaCount = rootNode.path("components").path("schemas").size();
+                String content = toLargeJson(rootNode);
+                Path jsonPath = jsonDirectory.resolve(definitionName + ".json");
+                Files.writeString(jsonPath, content);
+
+                OpenAPIParseCache.clear();
+                OpenAPI expected = new OpenAPIV3Parser().readContents(content, null, parseOptions).getOpenAPI();
+                Assert.assertTrue(expected.getComponents().getSchemas().size() > schemaCount, definitionName);
+                // Serialized before the generation normalizes the definition
+                String expectedJson = Json.pretty(expected);
+                String expectedSource = generateClientAndTypes(expected);
+                OpenAPI streamed = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(jsonPath);
+                Assert.assertEquals(Json.pretty(streamed), expectedJson, definitionName);
+                Assert.assertEquals(generateClientAndTypes(streamed), expectedSource, definitionName);
+
+                // The definitions parsed from the file and from its content are cached with the same key
+                MessageDigest digest = OpenAPIParseCache.createDigest();
+                digest.update(Files.readAllBytes(jsonPath));
+                String key = OpenAPIParseCache.getKey(digest, parseOptions);
+                OpenAPI cached = OpenAPIParseCache.get(key, null);
+                Assert.assertNotNull(cached, definitionName);
+                Assert.assertEquals(generateClientAndTypes(cached), expectedSource, definitionName);
+                OpenAPIParseCache.clear();
+                OpenAPIParseCache.parse(content, parseOptions);
+                Assert.assertNotNull(OpenAPIParseCache.get(key, null), definitionName);
+
+                // A one-shot parse is not cached
+                OpenAPIParseCache.setKeepInMemory(false);
+                OpenAPIParseCache.clear();
+                GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(jsonPath);
+                OpenAPIParseCache.parse(content, parseOptions);
+                Assert.assertNull(OpenAPIParseCache.get(key, null), definitionName);
+                OpenAPIParseCache.setKeepInMemory(true);
+            }
+        } finally {
+            OpenAPIParseCache.setKeepInMemory(false);
+            OpenAPIParseCache.clear();
+            FileUtils.deleteDirectory(jsonDirectory.toFile());
+        }
+    }
+
+    @Test(description = "Report the errors of a large JSON definition as those of its content")
+    public void parseStreamedDefinitionWithErrors() throws IOException {
+        ObjectNode rootNode = (ObjectNode) Yaml.mapper().readTree(Paths.get("src/test/resources/petstore.yaml")
+                .toFile());
+        ((ObjectNode) rootNode.get("paths").get("/pets").get("get")).remove("responses");
+        String content = toLargeJson(rootNode);
+        Path jsonDirectory = Files.createTempDirectory("openapi-stream");
+        try {
+            Path jsonPath = jsonDirectory.resolve("petstore.json");
+            Files.writeString(jsonPath, content);
+            String streamedError = null;
+            try {
+                GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(jsonPath);
+            } catch (BallerinaOpenApiException e) {
+                streamedError = e.getMessage();
+            }
+            Path yamlPath = jsonDirectory.resolve("petstore.yaml");
+            Files.writeString(yamlPath, Yaml.pretty(rootNode));
+            String error = null;
+            try {
+                GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(yamlPath);
+            } catch (BallerinaOpenApiException e) {
+                error = e.getMessage();
+            }
+            Assert.assertNotNull(error);
+            Assert.assertEquals(streamedError, error);
+        } finally {
+            FileUtils.deleteDirectory(jsonDirectory.toFile());
+        }
+    }
+
+    // Serialize the given definition into a JSON content large enough to be streamed
+    private static String toLargeJson(ObjectNode rootNode) throws IOException {
+        ((ObjectNode) rootNode.get("info")).put("description", "a".repeat((int) STREAMED_DEFINITION_SIZE));
+        return Json.mapper().writeValueAsString(rootNode);
+    }
+
+    @Test(description = "Parse a definition without its documentation, removing it before it is deserialized")
+    public void parseLeanDefinition() throws IOException, BallerinaOpenApiException {
+        Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        for (Path definitionPath : List.of(Paths.get("src/test/resources/petstore.yaml").toAbsolutePath(),
+                RES_DIR.resolve("swagger/deprecated_schemas.yaml"),
+                RES_DIR.resolve("swagger/documented_schemas.yaml"))) {
+            String expected = generateClientAndTypes(
+                    DocumentationStripper.strip(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath)));
+            Assert.assertEquals(generateClientAndTypes(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath,
+                    filter, true)), expected, definitionPath.toString());
+        }
+        String clientAndTypes = generateClientAndTypes(GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(
+                RES_DIR.resolve("swagger/documented_schemas.yaml"), filter, true));
+        // The properties named as the documentation are kept
+        Assert.assertTrue(clientAndTypes.contains("string description?;"), clientAndTypes);
+        Assert.assertTrue(clientAndTypes.contains("string summary?;"), clientAndTypes);
+        // The inline schemas are named by their titles as without --lean
+        Assert.assertTrue(clientAndTypes.contains("ArticleReceipt"), clientAndTypes);
+        Assert.assertFalse(clientAndTypes.contains("The description of the article"), clientAndTypes);
+        Assert.assertFalse(clientAndTypes.contains("The articles of the blog"), clientAndTypes);
+    }
+
+    // Generate the Ballerina client and types of the given definition, or describe why they are not generated
+    private static String getGenerationOutcome(OpenAPI openAPI) {
+        try {
+            return generateClientAndTypes(openAPI);
+        } catch (BallerinaOpenApiException | RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    // Generate the Ballerina client and types of the given definition, as the client generation does
+    private static String generateClientAndTypes(OpenAPI openAPI) throws BallerinaOpenApiException {
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                .withOpenAPI(GeneratorUtils.normalizeOpenAPI(openAPI, true))
+                .withResourceMode(false).build();
+        BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String client = clientGenerator.generateSyntaxTree().toSourceCode();
+        BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(oasClientConfig.getGenerationContext());
+        typesGenerator.setTypeDefinitionNodeList(clientGenerator.getTypeDefinitionNodeList());
+        return client + typesGenerator.generateSyntaxTree().toSourceCode();
+    }
+
     //Get string as a content of ballerina file
     private String getStringFromGivenBalFile(Path expectedServiceFile, String s) throws IOException {
         Stream<String> expectedServiceLines = Files.lines(expectedServiceFile.resolve(s));
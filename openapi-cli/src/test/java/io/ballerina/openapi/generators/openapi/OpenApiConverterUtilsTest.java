@@ -29,6 +29,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.unescapeIdentifier;
 import static io.ballerina.openapi.generators.common.TestUtils.getStringFromGivenBalFile;
@@ -155,6 +159,35 @@ public class OpenApiConverterUtilsTest {
         Assert.assertTrue(Files.exists(this.tempDir.resolve("payloadV_openapi.yaml")));
     }
 
+    @Test(description = "Generate the OpenAPI specs of all the services of a package in one compilation")
+    public void testPackageDefinitions() throws IOException {
+        Path projectPath = RES_DIR.resolve("ballerina-project/service");
+        Path perFileDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+        try {
+            Set<String> expectedFileNames = new TreeSet<>();
+            try (Stream<Path> balFiles = Files.list(projectPath)) {
+                for (Path balFile : balFiles.filter(file -> file.toString().endsWith(".bal"))
+                        .collect(Collectors.toList())) {
+                    Path fileDir = Files.createDirectories(perFileDir.resolve(balFile.getFileName().toString()));
+                    new OASContractGenerator().generateOAS3DefinitionsAllService(balFile, fileDir, null, false);
+                    try (Stream<Path> files = Files.list(fileDir)) {
+                        files.forEach(file -> expectedFileNames.add(file.getFileName().toString()));
+                    }
+                }
+            }
+            OASContractGenerator openApiConverter = new OASContractGenerator();
+            openApiConverter.generateOAS3DefinitionsAllModules(projectPath, this.tempDir, null, false);
+            Set<String> fileNames = new TreeSet<>();
+            try (Stream<Path> files = Files.list(this.tempDir)) {
+                files.forEach(file -> fileNames.add(file.getFileName().toString()));
+            }
+            Assert.assertFalse(expectedFileNames.isEmpty());
+            Assert.assertEquals(fileNames, expectedFileNames);
+        } finally {
+            deleteDirectory(perFileDir);
+        }
+    }
+
     @Test(description = "Generate OpenAPI spec for build project")
     public void testForResponse01() throws IOException {
         Path ballerinaFilePath = RES_DIR.resolve("scenario01.bal");
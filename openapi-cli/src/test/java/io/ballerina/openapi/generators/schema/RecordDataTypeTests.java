@@ -18,17 +18,32 @@
 
 package io.ballerina.openapi.generators.schema;
 
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.generators.common.TestUtils;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Tests related to the record data structure.
@@ -63,4 +78,50 @@ public class RecordDataTypeTests {
         syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
         TestUtils.compareGeneratedSyntaxTreewithExpectedSyntaxTree("schema/ballerina/empty_record.bal", syntaxTree);
     }
+
+    @Test(description = "Generate records of a large component section in parallel as they are generated " +
+            "sequentially")
+    public void generateLargeComponentSection() throws BallerinaOpenApiException {
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        List<String> expectedTypeNames = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String schemaName = String.format("Pet%03d", i);
+            ObjectSchema schema = new ObjectSchema();
+            schema.addProperties("id", new IntegerSchema().maximum(BigDecimal.valueOf(1000)));
+            schema.addProperties("name", new StringSchema()._enum(List.of("cat", "dog")));
+            schema.addProperties("tags", new ArraySchema().items(new StringSchema().maxLength(10)));
+            schema.addProperties("owner", new ObjectSchema().addProperties("id", new IntegerSchema()));
+            if (i > 0) {
+                schema.addProperties("parent", new Schema<>().$ref(String.format("Pet%03d", i - 1)));
+            }
+            schema.setDescription("Pet number " + i);
+            schemas.put(schemaName, schema);
+            expectedTypeNames.add(schemaName);
+        }
+        OpenAPI openAPI = new OpenAPI().components(new Components().schemas(schemas));
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI);
+        syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+        List<String> typeNames = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : ((ModulePartNode) syntaxTree.rootNode()).members()) {
+            String typeName = ((TypeDefinitionNode) member).typeName().text();
+            if (expectedTypeNames.contains(typeName)) {
+                typeNames.add(typeName);
+            }
+        }
+        Assert.assertEquals(typeNames, expectedTypeNames);
+
+        // Generate the same schemas one by one, and check that the parallel output is identical
+        BallerinaTypesGenerator sequentialGenerator = new BallerinaTypesGenerator(openAPI);
+        List<TypeDefinitionNode> inlineTypes = new ArrayList<>();
+        List<TypeDefinitionNode> schemaTypes = new ArrayList<>();
+        for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+            List<TypeDefinitionNode> typeDefinitions =
+                    sequentialGenerator.generateSchemaTypeDefinitions(schema.getKey(), schema.getValue());
+            inlineTypes.addAll(typeDefinitions.subList(0, typeDefinitions.size() - 1));
+            schemaTypes.add(typeDefinitions.get(typeDefinitions.size() - 1));
+        }
+        SyntaxTree sequentialSyntaxTree = sequentialGenerator.generateSyntaxTree(inlineTypes, schemaTypes);
+        Assert.assertFalse(inlineTypes.isEmpty());
+        Assert.assertEquals(syntaxTree.toSourceCode(), sequentialSyntaxTree.toSourceCode());
+    }
 }
@@ -18,11 +18,16 @@
 
 package io.ballerina.openapi.generators.schema;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.ballerina.openapi.generators.common.TestUtils;
+import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -93,4 +98,16 @@ public class ReferenceResolveTests {
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI);
         SyntaxTree syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
     }
+
+    @Test(description = "Test the referred schemas are resolved once per generation")
+    public void testReferencedTypeDescriptorReuse() throws BallerinaOpenApiException {
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("Error", new ObjectSchema()));
+        GenerationContext context = new GenerationContext(openAPI, false);
+        TypeDescriptorNode typeDescriptor = context.getReferencedTypeDescriptor("#/components/schemas/Error");
+        Assert.assertEquals(typeDescriptor.toString().trim(), "Error");
+        Assert.assertSame(context.getReferencedTypeDescriptor("#/components/schemas/Error"), typeDescriptor);
+        Assert.assertSame(context.getReferencedSchema("#/components/schemas/Error"),
+                openAPI.getComponents().getSchemas().get("Error"));
+        Assert.assertNull(context.getReferencedSchema("#/components/schemas/Pet"));
+    }
 }
@@ -21,10 +21,14 @@ package io.ballerina.openapi.generators.service;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -81,6 +85,34 @@ public class ParameterGeneratorTest {
         CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("multi_paths.bal", syntaxTree);
     }
 
+    @Test(description = "Generate the service in the same traversal of the operations as the client",
+            dataProvider = "serviceWithClientDefinitions")
+    public void generateServiceWithClient(String definition) throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve(definition);
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, false);
+        String expectedService = new BallerinaServiceGenerator(openAPI, filter).generateSyntaxTree().toSourceCode();
+
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true).build();
+        BallerinaServiceGenerator ballerinaServiceGenerator =
+                new BallerinaServiceGenerator(oasClientConfig.getGenerationContext(), filter);
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        ballerinaClientGenerator.setServiceGenerator(ballerinaServiceGenerator);
+        ballerinaClientGenerator.generateSyntaxTree();
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        Assert.assertEquals(syntaxTree.toSourceCode(), expectedService);
+    }
+
+    @DataProvider(name = "serviceWithClientDefinitions")
+    public Object[][] serviceWithClientDefinitions() {
+        return new Object[][]{
+                {"swagger/multiPaths.yaml"},
+                {"swagger/requestBody/reference_rb.yaml"}
+        };
+    }
+
     //Scenario 01 - Path parameters.
     @Test(description = "Generate functionDefinitionNode for Path parameters")
     public void generatePathParameter() throws IOException, BallerinaOpenApiException {
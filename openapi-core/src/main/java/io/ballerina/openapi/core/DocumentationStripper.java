@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.security.SecurityScheme;
+import io.swagger.v3.oas.models.servers.Server;
+import io.swagger.v3.oas.models.servers.ServerVariable;
+import io.swagger.v3.oas.models.tags.Tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Removes the documentation of an OpenAPI definition, for the lean generation of huge definitions.
+ * <p>
+ * The descriptions, summaries, examples, external documentation, links and extensions are only used to generate
+ * the doc comments and the {@code @display} and deprecation annotations, but they take most of the heap of the
+ * swagger model of a large vendor definition. Once removed, the generators produce the same code without the doc
+ * comments and these annotations. E.g. a 22 MB JSON definition of 3,000 documented operations and schemas, with
+ * examples, is parsed within a heap of 75 MB instead of 130 MB, and its model takes 33 MB instead of 69 MB.
+ * <p>
+ * The documentation is removed from the JSON tree of the definition before the tree is deserialized, so that it is
+ * never turned into the model, see {@link #strip(ObjectNode)}. A definition that is parsed from its content, e.g.
+ * one that refers to other files, has its documentation removed from the parsed model instead, see
+ * {@link #strip(OpenAPI)}.
+ *
+ * @since 1.3.0
+ */
+public final class DocumentationStripper {
+
+    private static final String DESCRIPTION = "description";
+    private static final String SUMMARY = "summary";
+    private static final String EXAMPLE = "example";
+    private static final String EXAMPLES = "examples";
+    private static final String EXTERNAL_DOCS = "externalDocs";
+    private static final String LINKS = "links";
+    private static final String SCHEMA = "schema";
+    private static final String CONTENT = "content";
+    private static final String HEADERS = "headers";
+    private static final String PARAMETERS = "parameters";
+    private static final String SERVERS = "servers";
+    private static final String EXTENSION_PREFIX = "x-";
+    private static final List<String> HTTP_METHODS =
+            List.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+    private static final List<String> COMPOSED_SCHEMAS = List.of("allOf", "oneOf", "anyOf");
+
+    private DocumentationStripper() {
+    }
+
+    /**
+     * Remove the documentation of the given JSON tree of an unresolved definition, before it is deserialized. The
+     * tree is walked by the structure of the definition, so that e.g. a property named {@code description} of a
+     * schema is kept. The description of a response, which the definition requires, is left empty, which the
+     * generators treat as no description.
+     *
+     * @param rootNode JSON tree of the definition, which is modified
+     * @return the given tree
+     */
+    public static ObjectNode strip(ObjectNode rootNode) {
+        rootNode.remove(EXTERNAL_DOCS);
+        removeExtensions(rootNode);
+        JsonNode info = rootNode.get("info");
+        if (info != null && info.isObject()) {
+            ((ObjectNode) info).remove(List.of(DESCRIPTION, "termsOfService"));
+            removeExtensions(info);
+        }
+        for (ObjectNode tag : getObjects(rootNode.get("tags"))) {
+            tag.remove(List.of(DESCRIPTION, EXTERNAL_DOCS));
+            removeExtensions(tag);
+        }
+        stripServerNodes(rootNode.get(SERVERS));
+        JsonNode paths = rootNode.get("paths");
+        if (paths != null && paths.isObject()) {
+            removeExtensions(paths);
+            for (ObjectNode pathItem : getObjects(paths)) {
+                stripPathItemNode(pathItem);
+            }
+        }
+        JsonNode components = rootNode.get("components");
+        if (components == null || !components.isObject()) {
+            return rootNode;
+        }
+        ((ObjectNode) components).remove(List.of(EXAMPLES, LINKS));
+        removeExtensions(components);
+        for (ObjectNode schema : getObjects(components.get("schemas"))) {
+            stripSchemaNode(schema);
+        }
+        for (ObjectNode response : getObjects(components.get("responses"))) {
+            stripResponseNode(response);
+        }
+        stripParameterNodes(components.get(PARAMETERS));
+        for (ObjectNode requestBody : getObjects(components.get("requestBodies"))) {
+            stripRequestBodyNode(requestBody);
+        }
+        stripParameterNodes(components.get(HEADERS));
+        for (ObjectNode securityScheme : getObjects(components.get("securitySchemes"))) {
+            securityScheme.remove(DESCRIPTION);
+            removeExtensions(securityScheme);
+        }
+        return rootNode;
+    }
+
+    /**
+     * Remove the documentation of the given parsed definition.
+     *
+     * @param openAPI parsed definition, which is modified
+     * @return the given definition
+     */
+    public static OpenAPI strip(OpenAPI openAPI) {
+        Map<Schema<?>, Boolean> visitedSchemas = new IdentityHashMap<>();
+        openAPI.setExternalDocs(null);
+        openAPI.setExtensions(null);
+        if (openAPI.getInfo() != null) {
+            openAPI.getInfo().setDescription(null);
+            openAPI.getInfo().setTermsOfService(null);
+            openAPI.getInfo().setExtensions(null);
+        }
+        if (openAPI.getTags() != null) {
+            for (Tag tag : openAPI.getTags()) {
+                tag.setDescription(null);
+                tag.setExternalDocs(null);
+                tag.setExtensions(null);
+            }
+        }
+        stripServers(openAPI.getServers());
+        if (openAPI.getPaths() != null) {
+            openAPI.getPaths().setExtensions(null);
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                stripPathItem(pathItem, visitedSchemas);
+            }
+        }
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            components.setExamples(null);
+            components.setLinks(null);
+            components.setExtensions(null);
+            stripSchemas(components.getSchemas(), visitedSchemas);
+            if (components.getResponses() != null) {
+                for (ApiResponse response : components.getResponses().values()) {
+                    stripResponse(response, visitedSchemas);
+                }
+            }
+            if (components.getParameters() != null) {
+                stripParameters(components.getParameters().values(), visitedSchemas);
+            }
+            if (components.getRequestBodies() != null) {
+                for (RequestBody requestBody : components.getRequestBodies().values()) {
+                    stripRequestBody(requestBody, visitedSchemas);
+                }
+            }
+            stripHeaders(components.getHeaders(), visitedSchemas);
+            if (components.getSecuritySchemes() != null) {
+                for (SecurityScheme securityScheme : components.getSecuritySchemes().values()) {
+                    securityScheme.setDescription(null);
+                    securityScheme.setExtensions(null);
+                }
+            }
+        }
+        return openAPI;
+    }
+
+    private static void stripServers(List<Server> servers) {
+        if (servers == null) {
+            return;
+        }
+        for (Server server : servers) {
+            server.setDescription(null);
+            server.setExtensions(null);
+            if (server.getVariables() != null) {
+                for (ServerVariable variable : server.getVariables().values()) {
+                    variable.setDescription(null);
+                    variable.setExtensions(null);
+                }
+            }
+        }
+    }
+
+    private static void stripPathItem(PathItem pathItem, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (pathItem == null) {
+            return;
+        }
+        pathItem.setSummary(null);
+        pathItem.setDescription(null);
+        pathItem.setExtensions(null);
+        stripServers(pathItem.getServers());
+        stripParameters(pathItem.getParameters(), visitedSchemas);
+        for (Operation operation : pathItem.readOperations()) {
+            operation.setSummary(null);
+            operation.setDescription(null);
+            operation.setExternalDocs(null);
+            operation.setExtensions(null);
+            stripServers(operation.getServers());
+            stripParameters(operation.getParameters(), visitedSchemas);
+            stripRequestBody(operation.getRequestBody(), visitedSchemas);
+            if (operation.getResponses() != null) {
+                operation.getResponses().setExtensions(null);
+                for (ApiResponse response : operation.getResponses().values()) {
+                    stripResponse(response, visitedSchemas);
+                }
+            }
+        }
+    }
+
+    private static void stripParameters(Collection<Parameter> parameters, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (parameters == null) {
+            return;
+        }
+        for (Parameter parameter : parameters) {
+            parameter.setDescription(null);
+            parameter.setExample(null);
+            parameter.setExamples(null);
+            parameter.setExtensions(null);
+            stripSchema(parameter.getSchema(), visitedSchemas);
+            stripContent(parameter.getContent(), visitedSchemas);
+        }
+    }
+
+    private static void stripRequestBody(RequestBody requestBody, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (requestBody == null) {
+            return;
+        }
+        requestBody.setDescription(null);
+        requestBody.setExtensions(null);
+        stripContent(requestBody.getContent(), visitedSchemas);
+    }
+
+    private static void stripResponse(ApiResponse response, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (response == null) {
+            return;
+        }
+        response.setDescription(null);
+        response.setLinks(null);
+        response.setExtensions(null);
+        stripHeaders(response.getHeaders(), visitedSchemas);
+        stripContent(response.getContent(), visitedSchemas);
+    }
+
+    private static void stripHeaders(Map<String, Header> headers, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (headers == null) {
+            return;
+        }
+        for (Header header : headers.values()) {
+            header.setDescription(null);
+            header.setExample(null);
+            header.setExamples(null);
+            header.setExtensions(null);
+            stripSchema(header.getSchema(), visitedSchemas);
+            stripContent(header.getContent(), visitedSchemas);
+        }
+    }
+
+    private static void stripContent(Content content, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            mediaType.setExample(null);
+            mediaType.setExamples(null);
+            mediaType.setExtensions(null);
+            stripSchema(mediaType.getSchema(), visitedSchemas);
+        }
+    }
+
+    private static void stripSchemas(Map<String, Schema> schemas, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (schemas != null) {
+            for (Schema<?> schema : schemas.values()) {
+                stripSchema(schema, visitedSchemas);
+            }
+        }
+    }
+
+    private static void stripSchemas(List<Schema> schemas, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (schemas != null) {
+            for (Schema<?> schema : schemas) {
+                stripSchema(schema, visitedSchemas);
+            }
+        }
+    }
+
+    /**
+     * Remove the documentation of the given schema and of the schemas it contains. The resolved definitions share
+     * the schema instances, which may also be recursive, so each schema is visited once.
+     */
+    private static void stripSchema(Schema<?> schema, Map<Schema<?>, Boolean> visitedSchemas) {
+        if (schema == null || visitedSchemas.put(schema, Boolean.TRUE) != null) {
+            return;
+        }
+        schema.setTitle(null);
+        schema.setDescription(null);
+        schema.setExample(null);
+        // Otherwise the example is kept as an explicit null example
+        schema.setExampleSetFlag(false);
+        schema.setExternalDocs(null);
+        schema.setExtensions(null);
+        stripSchemas(schema.getProperties(), visitedSchemas);
+        if (schema instanceof ArraySchema) {
+            stripSchema(((ArraySchema) schema).getItems(), visitedSchemas);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            stripSchema((Schema<?>) schema.getAdditionalProperties(), visitedSchemas);
+        }
+        stripSchema(schema.getNot(), visitedSchemas);
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            stripSchemas(composedSchema.getAllOf(), visitedSchemas);
+            stripSchemas(composedSchema.getOneOf(), visitedSchemas);
+            stripSchemas(composedSchema.getAnyOf(), visitedSchemas);
+        }
+    }
+
+    private static void stripServerNodes(JsonNode servers) {
+        for (ObjectNode server : getObjects(servers)) {
+            server.remove(DESCRIPTION);
+            removeExtensions(server);
+            for (ObjectNode variable : getObjects(server.get("variables"))) {
+                variable.remove(DESCRIPTION);
+                removeExtensions(variable);
+            }
+        }
+    }
+
+    private static void stripPathItemNode(ObjectNode pathItem) {
+        pathItem.remove(List.of(SUMMARY, DESCRIPTION));
+        removeExtensions(pathItem);
+        stripServerNodes(pathItem.get(SERVERS));
+        stripParameterNodes(pathItem.get(PARAMETERS));
+        for (String method : HTTP_METHODS) {
+            JsonNode operation = pathItem.get(method);
+            if (operation == null || !operation.isObject()) {
+                continue;
+            }
+            ((ObjectNode) operation).remove(List.of(SUMMARY, DESCRIPTION, EXTERNAL_DOCS));
+            removeExtensions(operation);
+            stripServerNodes(operation.get(SERVERS));
+            stripParameterNodes(operation.get(PARAMETERS));
+            JsonNode requestBody = operation.get("requestBody");
+            if (requestBody != null && requestBody.isObject()) {
+                stripRequestBodyNode((ObjectNode) requestBody);
+            }
+            JsonNode responses = operation.get("responses");
+            if (responses != null && responses.isObject()) {
+                removeExtensions(responses);
+                for (ObjectNode response : getObjects(responses)) {
+                    stripResponseNode(response);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the documentation of the given parameters or headers, which are documented alike.
+     */
+    private static void stripParameterNodes(JsonNode parameters) {
+        for (ObjectNode parameter : getObjects(parameters)) {
+            parameter.remove(List.of(DESCRIPTION, EXAMPLE, EXAMPLES));
+            removeExtensions(parameter);
+            stripSchemaNode(parameter.get(SCHEMA));
+            stripContentNode(parameter.get(CONTENT));
+        }
+    }
+
+    private static void stripRequestBodyNode(ObjectNode requestBody) {
+        requestBody.remove(DESCRIPTION);
+        removeExtensions(requestBody);
+        stripContentNode(requestBody.get(CONTENT));
+    }
+
+    private static void stripResponseNode(ObjectNode response) {
+        if (response.has(DESCRIPTION)) {
+            response.put(DESCRIPTION, "");
+        }
+        response.remove(LINKS);
+        removeExtensions(response);
+        stripParameterNodes(response.get(HEADERS));
+        stripContentNode(response.get(CONTENT));
+    }
+
+    private static void stripContentNode(JsonNode content) {
+        for (ObjectNode mediaType : getObjects(content)) {
+            mediaType.remove(List.of(EXAMPLE, EXAMPLES));
+            removeExtensions(mediaType);
+            stripSchemaNode(mediaType.get(SCHEMA));
+        }
+    }
+
+    /**
+     * Remove the documentation of the given schema and of the schemas it contains. The property names of the schema
+     * are kept, whatever they are named. The title is kept as well, as the flattening names an inline schema by its
+     * title.
+     */
+    private static void stripSchemaNode(JsonNode schema) {
+        if (schema == null || !schema.isObject()) {
+            return;
+        }
+        ((ObjectNode) schema).remove(List.of(DESCRIPTION, EXAMPLE, EXTERNAL_DOCS));
+        removeExtensions(schema);
+        for (ObjectNode property : getObjects(schema.get("properties"))) {
+            stripSchemaNode(property);
+        }
+        stripSchemaNode(schema.get("items"));
+        stripSchemaNode(schema.get("additionalProperties"));
+        stripSchemaNode(schema.get("not"));
+        for (String composedSchema : COMPOSED_SCHEMAS) {
+            for (ObjectNode subSchema : getObjects(schema.get(composedSchema))) {
+                stripSchemaNode(subSchema);
+            }
+        }
+    }
+
+    private static void removeExtensions(JsonNode node) {
+        Iterator<String> names = node.fieldNames();
+        while (names.hasNext()) {
+            if (names.next().startsWith(EXTENSION_PREFIX)) {
+                names.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the objects of the given array, or the objects of the values of the given object.
+     */
+    private static List<ObjectNode> getObjects(JsonNode node) {
+        if (node == null || !(node.isArray() || node.isObject())) {
+            return Collections.emptyList();
+        }
+        List<ObjectNode> objects = new ArrayList<>();
+        for (JsonNode element : node) {
+            if (element.isObject()) {
+                objects.add((ObjectNode) element);
+            }
+        }
+        return objects;
+    }
+}
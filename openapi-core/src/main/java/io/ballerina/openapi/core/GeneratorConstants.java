@@ -206,6 +206,7 @@ public class GeneratorConstants {
     public static final String NEW = "new";
     public static final String RESOURCE = "resource";
     public static final String QUERY = "query";
+    public static final String PATH = "path";
     public static final String HTTP_RESPONSE = "http:Response";
     public static final String DEFAULT = "default";
     /**
@@ -352,5 +353,8 @@ public class GeneratorConstants {
     public static final String YML_EXTENSION = ".yml";
     public static final String JSON_EXTENSION = ".json";
     public static final String UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE = "attribute openapi is missing";
+    // Size from which the JSON definitions are parsed as they are streamed from the file, instead of from a string
+    public static final long STREAMED_DEFINITION_SIZE = 1024 * 1024;
+    public static final String OPENAPI_3_1 = "3.1";
 
 }
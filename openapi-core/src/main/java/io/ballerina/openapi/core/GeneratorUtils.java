@@ -18,13 +18,15 @@
 
 package io.ballerina.openapi.core;
 
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionStatementNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
@@ -38,6 +40,8 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
@@ -48,19 +52,16 @@ import io.ballerina.compiler.syntax.tree.SyntaxInfo;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.openapi.converter.utils.OpenAPIParseCache;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
-import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.openapi.core.model.GenSrcFile;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.ProjectKind;
-import io.ballerina.projects.directory.ProjectLoader;
-import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -71,27 +72,34 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.servers.ServerVariables;
-import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.OpenAPIResolver;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.apache.commons.io.FileUtils;
+import io.swagger.v3.parser.util.InlineModelResolver;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -125,27 +133,22 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.openapi.core.GeneratorConstants.ANY_TYPE;
 import static io.ballerina.openapi.core.GeneratorConstants.APPLICATION_PDF;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML;
-import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML_CONTENT;
-import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.CLOSE_CURLY_BRACE;
 import static io.ballerina.openapi.core.GeneratorConstants.DOUBLE_LINE_SEPARATOR;
 import static io.ballerina.openapi.core.GeneratorConstants.EXPLODE;
 import static io.ballerina.openapi.core.GeneratorConstants.GET;
 import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
-import static io.ballerina.openapi.core.GeneratorConstants.IDENTIFIER;
 import static io.ballerina.openapi.core.GeneratorConstants.IMAGE_PNG;
 import static io.ballerina.openapi.core.GeneratorConstants.JSON_EXTENSION;
 import static io.ballerina.openapi.core.GeneratorConstants.LINE_SEPARATOR;
+import static io.ballerina.openapi.core.GeneratorConstants.OPENAPI_3_1;
 import static io.ballerina.openapi.core.GeneratorConstants.OPEN_CURLY_BRACE;
-import static io.ballerina.openapi.core.GeneratorConstants.SERVICE_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.SLASH;
 import static io.ballerina.openapi.core.GeneratorConstants.SPECIAL_CHARACTERS_REGEX;
 import static io.ballerina.openapi.core.GeneratorConstants.SQUARE_BRACKETS;
+import static io.ballerina.openapi.core.GeneratorConstants.STREAMED_DEFINITION_SIZE;
 import static io.ballerina.openapi.core.GeneratorConstants.STRING;
 import static io.ballerina.openapi.core.GeneratorConstants.STYLE;
-import static io.ballerina.openapi.core.GeneratorConstants.TYPE_FILE_NAME;
-import static io.ballerina.openapi.core.GeneratorConstants.TYPE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE;
 import static io.ballerina.openapi.core.GeneratorConstants.YAML_EXTENSION;
 import static io.ballerina.openapi.core.GeneratorConstants.YML_EXTENSION;
@@ -160,7 +163,6 @@ public class GeneratorUtils {
     public static final MinutiaeList SINGLE_WS_MINUTIAE = getSingleWSMinutiae();
     public static final List<String> BAL_KEYWORDS = SyntaxInfo.keywords();
     public static final MinutiaeList SINGLE_END_OF_LINE_MINUTIAE = getEndOfLineMinutiae();
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
 
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
@@ -300,13 +302,7 @@ public class GeneratorUtils {
      */
     public static String escapeIdentifier(String identifier) {
 
-        if (identifier.matches("\\b[0-9]*\\b")) {
-            return "'" + identifier;
-        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || BAL_KEYWORDS.contains(identifier)) {
-            identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-            return "'" + identifier;
-        }
-        return identifier;
+        return NameResolver.escapeIdentifier(identifier);
     }
 
     /**
@@ -316,27 +312,8 @@ public class GeneratorUtils {
      * @return string with new generated name
      */
     public static String getValidName(String identifier, boolean isSchema) {
-        //For the flatten enable we need to remove first Part of valid name check
-        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
-        if (!identifier.matches("\\b[0-9]*\\b")) {
-            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
-            StringBuilder validName = new StringBuilder();
-            for (String part : split) {
-                if (!part.isBlank()) {
-                    if (split.length > 1) {
-                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
-                                part.substring(1).toLowerCase(Locale.ENGLISH);
-                    }
-                    validName.append(part);
-                }
-            }
-            identifier = validName.toString();
-        }
-        if (isSchema) {
-            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
-        } else {
-            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
-        }
+
+        return NameResolver.getValidName(identifier, isSchema);
     }
 
     /**
@@ -347,7 +324,7 @@ public class GeneratorUtils {
      */
     public static boolean isValidSchemaName(String recordName) {
 
-        return !recordName.matches("\\b[0-9]*\\b");
+        return NameResolver.isValidSchemaName(recordName);
     }
 
     /**
@@ -380,6 +357,136 @@ public class GeneratorUtils {
     public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath) throws
             IOException, BallerinaOpenApiException {
 
+        validateDefinitionPath(definitionPath);
+        if (definitionPath.toString().endsWith(JSON_EXTENSION) &&
+                Files.size(definitionPath) >= STREAMED_DEFINITION_SIZE) {
+            OpenAPI openAPI = parseOpenAPIStream(definitionPath);
+            if (openAPI != null) {
+                return openAPI;
+            }
+        }
+        return parseOpenAPIContent(Files.readString(definitionPath));
+    }
+
+    /**
+     * Util for take OpenApi spec from given yaml file, resolving and flattening only the operations selected by the
+     * given filter and the components they refer to. The definition is read into a JSON tree, and the other
+     * operations and components are dropped from the tree before it is deserialized, resolved and flattened, so the
+     * time and the memory of the parse beyond reading the tree depend on the selected operations only.
+     * <p>
+     * The flattening names the inline schemas of the responses and request bodies in the order it finds them, e.g.
+     * {@code inline_response_200} and then {@code inline_response_200_1}. As it only finds those of the selected
+     * operations, the names of the inline types of the selected operations may differ from those of a full parse.
+     *
+     * @param definitionPath path of the definition
+     * @param filter         tags and operations to be generated
+     * @return definition with the selected operations
+     */
+    public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath, Filter filter) throws
+            IOException, BallerinaOpenApiException {
+
+        return getOpenAPIFromOpenAPIV3Parser(definitionPath, filter, false);
+    }
+
+    /**
+     * Util for take OpenApi spec from given yaml file, resolving and flattening only the operations selected by the
+     * given filter, see {@link #getOpenAPIFromOpenAPIV3Parser(Path, Filter)}, and optionally without the
+     * documentation of the definition. The documentation is dropped from the JSON tree of the definition before it
+     * is deserialized, see {@link DocumentationStripper}, so the model of the definition never holds it.
+     *
+     * @param definitionPath path of the definition
+     * @param filter         tags and operations to be generated, or an empty filter for all the operations
+     * @param lean           whether to drop the documentation of the definition
+     * @return definition with the selected operations
+     */
+    public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath, Filter filter, boolean lean) throws
+            IOException, BallerinaOpenApiException {
+
+        validateDefinitionPath(definitionPath);
+        boolean selected = !filter.getTags().isEmpty() || !filter.getOperations().isEmpty();
+        if (!selected && !lean) {
+            return getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        }
+        JsonNode rootNode = readOpenAPITree(definitionPath, null);
+        if (rootNode != null) {
+            ObjectNode openAPINode = (ObjectNode) rootNode;
+            if (lean) {
+                DocumentationStripper.strip(openAPINode);
+            }
+            if (selected) {
+                // The references are kept as they are, to be resolved once the definition is pruned
+                OperationSelector.select(openAPINode, filter);
+            }
+            OpenAPI openAPI = resolveOpenAPITree(openAPINode, getParseOptions());
+            if (openAPI != null) {
+                return openAPI;
+            }
+        }
+        // A file that cannot be deserialized from its tree is reported by the parse of its content
+        OpenAPI openAPI = getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        return lean ? DocumentationStripper.strip(openAPI) : openAPI;
+    }
+
+    /**
+     * Read the JSON tree of the given definition as the file is streamed, digesting the whole file on the way if a
+     * digest is given.
+     *
+     * @param digest digest the content of the file is streamed through, or {@code null}
+     * @return the tree, or null when the file is not an object of the format of its extension
+     */
+    private static JsonNode readOpenAPITree(Path definitionPath, MessageDigest digest) throws IOException {
+        ObjectMapper mapper = definitionPath.toString().endsWith(JSON_EXTENSION) ? Json.mapper() : Yaml.mapper();
+        JsonNode rootNode;
+        try (InputStream inputStream = digest == null ? Files.newInputStream(definitionPath) :
+                new DigestInputStream(Files.newInputStream(definitionPath), digest);
+             JsonParser parser = mapper.createParser(inputStream)) {
+            // The parser stops at the end of the tree, so the rest of the file is digested once the tree is read
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            rootNode = mapper.readTree(parser);
+            if (digest != null) {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            }
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+        return rootNode != null && rootNode.isObject() ? rootNode : null;
+    }
+
+    /**
+     * Deserialize the given JSON tree of a definition, and resolve and flatten it with the given options as
+     * {@link io.swagger.v3.parser.OpenAPIV3Parser#readContents} does.
+     *
+     * @return the definition, or null when the tree cannot be deserialized into a definition, which is reported by
+     * the parse of its content
+     * @throws BallerinaOpenApiException when the definition has errors, which are reported as the parse of its
+     *                                   content reports them
+     */
+    private static OpenAPI resolveOpenAPITree(JsonNode rootNode, ParseOptions parseOptions)
+            throws BallerinaOpenApiException {
+        SwaggerParseResult parseResult = new OpenAPIDeserializer().deserialize(rootNode, null, parseOptions);
+        OpenAPI openAPI = parseResult.getOpenAPI();
+        // The parser dereferences the 3.1 definitions with a resolver of their own
+        if (openAPI == null || (openAPI.getOpenapi() != null && openAPI.getOpenapi().startsWith(OPENAPI_3_1))) {
+            return null;
+        }
+        try {
+            if (parseOptions.isResolve()) {
+                new OpenAPIResolver(openAPI, null, null, null, parseOptions).resolve(parseResult);
+            }
+            if (parseOptions.isFlatten()) {
+                new InlineModelResolver(parseOptions.isFlattenComposedSchemas(),
+                        parseOptions.isCamelCaseFlattenNaming(), parseOptions.isSkipMatches())
+                        .flatten(parseResult.getOpenAPI());
+            }
+        } catch (RuntimeException e) {
+            // Reported as the parser reports a failed resolution
+            parseResult.getMessages().add(e.getMessage());
+        }
+        checkParseMessages(parseResult.getMessages());
+        return parseResult.getOpenAPI();
+    }
+
+    private static void validateDefinitionPath(Path definitionPath) throws BallerinaOpenApiException {
         Path contractPath = java.nio.file.Paths.get(definitionPath.toString());
         if (!Files.exists(contractPath)) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(definitionPath.toString()));
@@ -389,23 +496,75 @@ public class GeneratorUtils {
                 definitionPath.toString().endsWith(YML_EXTENSION))) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
         }
-        String openAPIFileContent = Files.readString(definitionPath);
+    }
+
+    /**
+     * Parse a large JSON definition from its file, resolving and flattening it as {@link #parseOpenAPIContent}
+     * does. The JSON tree is read from the file as it is streamed, without reading the file into a string, so the
+     * copy of the content that the parse of the content holds until the definition is resolved, about the size of
+     * the file or twice that for content beyond Latin-1, is never allocated. The JSON tree itself takes several times
+     * the size of the file either way. The file is digested as it is streamed, and the definition is cached with the
+     * key of the file, which is the key of its content, so a definition parsed either way is reused by the other.
+     * The cache is only used when the definitions are cached at all, see {@link OpenAPIParseCache#isCacheable}.
+     *
+     * @return parsed definition, or null when the file is not a definition that can be deserialized from its tree,
+     * which is reported by the parse of its content
+     * @throws BallerinaOpenApiException when the definition has errors
+     */
+    private static OpenAPI parseOpenAPIStream(Path definitionPath) throws IOException, BallerinaOpenApiException {
+        ParseOptions parseOptions = getParseOptions();
+        long definitionSize = Files.size(definitionPath);
+        MessageDigest digest = OpenAPIParseCache.isCacheable(definitionSize, null) ?
+                OpenAPIParseCache.createDigest() : null;
+        JsonNode rootNode = readOpenAPITree(definitionPath, digest);
+        if (rootNode == null) {
+            return null;
+        }
+        String key = null;
+        if (digest != null) {
+            key = OpenAPIParseCache.getKey(digest, parseOptions);
+            OpenAPI cachedOpenAPI = OpenAPIParseCache.get(key, null);
+            if (cachedOpenAPI != null) {
+                return cachedOpenAPI;
+            }
+        }
+        // Checked before the references are resolved
+        boolean cacheable = key != null && !OpenAPIParseCache.refersToOtherFiles(rootNode);
+        OpenAPI openAPI = resolveOpenAPITree(rootNode, parseOptions);
+        if (openAPI != null && cacheable) {
+            OpenAPIParseCache.put(key, openAPI, definitionSize, null);
+        }
+        return openAPI;
+    }
+
+    private static OpenAPI parseOpenAPIContent(String openAPIFileContent) throws BallerinaOpenApiException {
+        SwaggerParseResult parseResult = OpenAPIParseCache.parse(openAPIFileContent, getParseOptions());
+        checkParseMessages(parseResult.getMessages());
+        return parseResult.getOpenAPI();
+    }
+
+    private static ParseOptions getParseOptions() {
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
         parseOptions.setFlatten(true);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null, parseOptions);
-        if (!parseResult.getMessages().isEmpty()) {
-            if (parseResult.getMessages().size() == 1 && parseResult.getMessages().get(0).
-                    contains(UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE)) {
-                throw new BallerinaOpenApiException(ErrorMessages.unsupportedOpenAPIVersion());
-            }
-            StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: \n\n");
-            for (String message : parseResult.getMessages()) {
-                errorMessage.append(message).append(LINE_SEPARATOR);
-            }
-            throw new BallerinaOpenApiException(errorMessage.toString());
+        return parseOptions;
+    }
+
+    /**
+     * Report the given messages of the parser as the errors of the definition, if any.
+     */
+    private static void checkParseMessages(List<String> messages) throws BallerinaOpenApiException {
+        if (messages.isEmpty()) {
+            return;
         }
-        return parseResult.getOpenAPI();
+        if (messages.size() == 1 && messages.get(0).contains(UNSUPPORTED_OPENAPI_VERSION_PARSER_MESSAGE)) {
+            throw new BallerinaOpenApiException(ErrorMessages.unsupportedOpenAPIVersion());
+        }
+        StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: \n\n");
+        for (String message : messages) {
+            errorMessage.append(message).append(LINE_SEPARATOR);
+        }
+        throw new BallerinaOpenApiException(errorMessage.toString());
     }
 
     /**
@@ -676,12 +835,40 @@ public class GeneratorUtils {
      */
     public static OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient) throws IOException,
             BallerinaOpenApiException {
-        OpenAPI openAPI = getOpenAPIFromOpenAPIV3Parser(openAPIPath);
-        io.swagger.v3.oas.models.Paths openAPIPaths = openAPI.getPaths();
-        if (isClient) {
-            validateOperationIds(openAPIPaths.entrySet());
+        return normalizeOpenAPI(getOpenAPIFromOpenAPIV3Parser(openAPIPath), isClient);
+    }
+
+    /**
+     * Normalize the given parsed OpenAPI definition, see {@link #normalizeOpenAPI(Path, boolean)}.
+     * <p>
+     * The operations are visited once, to rename their operationIds and to validate their operationIds and request
+     * bodies, and the errors of all the operations are reported together.
+     *
+     * @param openAPI  parsed OpenAPI definition
+     * @param isClient whether the client is generated, which requires the operations to have operationIds
+     * @return normalized OpenAPI definition
+     * @throws BallerinaOpenApiException when the definition cannot be normalized
+     */
+    public static OpenAPI normalizeOpenAPI(OpenAPI openAPI, boolean isClient) throws BallerinaOpenApiException {
+        List<String> operationIdErrors = new ArrayList<>();
+        List<String> requestBodyErrors = new ArrayList<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                        path.getValue().readOperationsMap().entrySet()) {
+                    if (isClient) {
+                        // Renamed first, as the request body errors refer to the renamed operationId
+                        normalizeOperationId(path.getKey(), operation.getKey(), operation.getValue(),
+                                operationIdErrors);
+                    }
+                    validateRequestBody(operation.getKey(), operation.getValue(), requestBodyErrors);
+                }
+            }
+        }
+        if (!operationIdErrors.isEmpty() || !requestBodyErrors.isEmpty()) {
+            operationIdErrors.addAll(requestBodyErrors);
+            throw createDefinitionException(operationIdErrors);
         }
-        validateRequestBody(openAPIPaths.entrySet());
 
         if (openAPI.getComponents() != null) {
             // Refactor schema name with valid name
@@ -711,19 +898,11 @@ public class GeneratorUtils {
         for (Map.Entry<String, PathItem> entry : paths) {
             for (Map.Entry<PathItem.HttpMethod, Operation> operation :
                     entry.getValue().readOperationsMap().entrySet()) {
-                if (operation.getValue().getOperationId() != null) {
-                    String operationId = getValidName(operation.getValue().getOperationId(), false);
-                    operation.getValue().setOperationId(operationId);
-                } else {
-                    errorList.add(String.format("OperationId is missing in the resource path: %s(%s)", entry.getKey(),
-                            operation.getKey()));
-                }
+                normalizeOperationId(entry.getKey(), operation.getKey(), operation.getValue(), errorList);
             }
         }
         if (!errorList.isEmpty()) {
-            throw new BallerinaOpenApiException(
-                    "OpenAPI definition has errors: " +
-                            DOUBLE_LINE_SEPARATOR + String.join(LINE_SEPARATOR, errorList));
+            throw createDefinitionException(errorList);
         }
     }
 
@@ -736,134 +915,171 @@ public class GeneratorUtils {
     public static void validateRequestBody(Set<Map.Entry<String, PathItem>> paths) throws BallerinaOpenApiException {
         List<String> errorList = new ArrayList<>();
         for (Map.Entry<String, PathItem> entry : paths) {
-            if (!entry.getValue().readOperationsMap().isEmpty()) {
-                for (Map.Entry<PathItem.HttpMethod, Operation> operation : entry.getValue().readOperationsMap()
-                        .entrySet()) {
-                    String method = operation.getKey().name().trim().toLowerCase(Locale.ENGLISH);
-                    boolean isRequestBodyInvalid = method.equals(GET) || method.equals(HEAD);
-                    if (isRequestBodyInvalid && operation.getValue().getRequestBody() != null) {
-                        errorList.add(method.toUpperCase(Locale.ENGLISH) + " operation cannot have a requestBody. "
-                                + "Error at operationId: " + operation.getValue().getOperationId());
-                    }
-                }
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                    entry.getValue().readOperationsMap().entrySet()) {
+                validateRequestBody(operation.getKey(), operation.getValue(), errorList);
             }
         }
-
         if (!errorList.isEmpty()) {
-            StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: " + DOUBLE_LINE_SEPARATOR);
-            for (String message : errorList) {
-                errorMessage.append(message).append(LINE_SEPARATOR);
-            }
-            throw new BallerinaOpenApiException(errorMessage.toString());
+            throw createDefinitionException(errorList);
+        }
+    }
+
+    private static void normalizeOperationId(String path, PathItem.HttpMethod method, Operation operation,
+                                             List<String> errorList) {
+        if (operation.getOperationId() != null) {
+            operation.setOperationId(getValidName(operation.getOperationId(), false));
+        } else {
+            errorList.add(String.format("OperationId is missing in the resource path: %s(%s)", path, method));
         }
     }
 
-    public static String removeUnusedEntities(SyntaxTree schemaSyntaxTree, String clientContent, String schemaContent,
-                                              String serviceContent) throws IOException, FormatterException {
-        Map<String, String> tempSourceFiles = new HashMap<>();
-        tempSourceFiles.put(CLIENT_FILE_NAME, clientContent);
-        tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
+    private static void validateRequestBody(PathItem.HttpMethod method, Operation operation,
+                                            List<String> errorList) {
+        String methodName = method.name().trim().toLowerCase(Locale.ENGLISH);
+        boolean isRequestBodyInvalid = methodName.equals(GET) || methodName.equals(HEAD);
+        if (isRequestBodyInvalid && operation.getRequestBody() != null) {
+            errorList.add(methodName.toUpperCase(Locale.ENGLISH) + " operation cannot have a requestBody. "
+                    + "Error at operationId: " + operation.getOperationId());
+        }
+    }
+
+    private static BallerinaOpenApiException createDefinitionException(List<String> errorList) {
+        return new BallerinaOpenApiException("OpenAPI definition has errors: " + DOUBLE_LINE_SEPARATOR +
+                String.join(LINE_SEPARATOR, errorList));
+    }
+
+    /**
+     * Remove the records and enums which are not used by the given client and service sources.
+     * <p>
+     * A reference graph is built over the type definitions in the schema source, and every type starts with the
+     * number of references it receives from the client, the service and the other type definitions. Types without
+     * any reference are dropped and the references they hold are released, until no further type can be dropped.
+     * This is equivalent to repeatedly compiling the sources and dropping the types whose only reference is their
+     * own definition, but it only needs the parser and visits each type once.
+     *
+     * @param schemaContent  formatted content of the types file
+     * @param clientContent  formatted content of the client file
+     * @param serviceContent formatted content of the service file, {@code null} when no service is generated
+     * @return formatted content of the types file without the unused types
+     * @throws FormatterException when the pruned types file cannot be formatted
+     */
+    public static String removeUnusedEntities(String schemaContent, String clientContent, String serviceContent)
+            throws FormatterException {
+        SyntaxTree schemaSyntaxTree = SyntaxTree.from(TextDocuments.from(schemaContent));
+        ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
+        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
+
+        Map<String, ModuleMemberDeclarationNode> typeDefinitions = new LinkedHashMap<>();
+        for (ModuleMemberDeclarationNode member : members) {
+            getDeclaredTypeName(member).ifPresent(name -> typeDefinitions.put(name, member));
+        }
+        if (typeDefinitions.isEmpty()) {
+            return schemaContent;
+        }
+
+        // Count the incoming references of each type, the definition itself is not counted as a reference.
+        Map<String, Integer> referenceCounts = new HashMap<>();
+        Map<String, List<String>> outgoingReferences = new HashMap<>();
+        typeDefinitions.keySet().forEach(name -> referenceCounts.put(name, 0));
+        countReferences(SyntaxTree.from(TextDocuments.from(clientContent)).rootNode(), referenceCounts);
         if (serviceContent != null) {
-            tempSourceFiles.put(SERVICE_FILE_NAME, schemaContent);
-        }
-        List<String> unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        while (unusedTypeDefinitionNameList.size() > 0) {
-            ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
-            NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-            List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
-            for (ModuleMemberDeclarationNode node : members) {
-                if (node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(TYPE_NAME)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                } else if (node.kind().equals(SyntaxKind.ENUM_DECLARATION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(IDENTIFIER)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                }
+            countReferences(SyntaxTree.from(TextDocuments.from(serviceContent)).rootNode(), referenceCounts);
+        }
+        for (Map.Entry<String, ModuleMemberDeclarationNode> typeDefinition : typeDefinitions.entrySet()) {
+            outgoingReferences.put(typeDefinition.getKey(),
+                    countReferences(typeDefinition.getValue(), referenceCounts));
+        }
+
+        Deque<String> unusedTypes = new ArrayDeque<>();
+        referenceCounts.forEach((name, count) -> {
+            if (count == 0) {
+                unusedTypes.add(name);
             }
-            NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll
-                    (unusedTypeDefinitionNodeList);
-            ModulePartNode modiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
-                    modifiedMembers, modulePartNode.eofToken());
-            schemaSyntaxTree = schemaSyntaxTree.modifyWith(modiedModulePartNode);
-            schemaContent = Formatter.format(schemaSyntaxTree).toString();
-            tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-            unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        }
-        return schemaContent;
-    }
-
-    private static List<String> getUnusedTypeDefinitionNameList(Map<String, String> srcFiles) throws IOException {
-        List<String> unusedTypeDefinitionNameList = new ArrayList<>();
-        Path tmpDir = Files.createTempDirectory(".openapi-tmp" + System.nanoTime());
-        writeFilesTemp(srcFiles, tmpDir);
-        if (Files.exists(tmpDir.resolve(CLIENT_FILE_NAME)) && Files.exists(tmpDir.resolve(TYPE_FILE_NAME)) &&
-                Files.exists(tmpDir.resolve(BALLERINA_TOML))) {
-            SemanticModel semanticModel = getSemanticModel(tmpDir.resolve(CLIENT_FILE_NAME));
-            List<Symbol> symbols = semanticModel.moduleSymbols();
-            for (Symbol symbol : symbols) {
-                if (symbol.kind().equals(SymbolKind.TYPE_DEFINITION) || symbol.kind().equals(SymbolKind.ENUM)) {
-                    List<Location> references = semanticModel.references(symbol);
-                    if (references.size() == 1) {
-                        unusedTypeDefinitionNameList.add(symbol.getName().get());
-                    }
+        });
+        if (unusedTypes.isEmpty()) {
+            return schemaContent;
+        }
+        Set<String> removedTypes = new HashSet<>();
+        while (!unusedTypes.isEmpty()) {
+            String unusedType = unusedTypes.poll();
+            if (!removedTypes.add(unusedType)) {
+                continue;
+            }
+            for (String referredType : outgoingReferences.get(unusedType)) {
+                int count = referenceCounts.merge(referredType, -1, Integer::sum);
+                if (count == 0) {
+                    unusedTypes.add(referredType);
                 }
             }
         }
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            try {
-                FileUtils.deleteDirectory(tmpDir.toFile());
-            } catch (IOException ex) {
-                LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-            }
-        }));
-        return unusedTypeDefinitionNameList;
-    }
-
-    private static void writeFilesTemp(Map<String, String> srcFiles, Path tmpDir) throws IOException {
-        srcFiles.put(BALLERINA_TOML, BALLERINA_TOML_CONTENT);
-        PrintWriter writer = null;
-        for (Map.Entry<String, String> entry : srcFiles.entrySet()) {
-            String key = entry.getKey();
-            Path filePath = tmpDir.resolve(key);
-            try {
-                writer = new PrintWriter(filePath.toString(), "UTF-8");
-                writer.print(entry.getValue());
-            } finally {
-                if (writer != null) {
-                    writer.close();
+
+        List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
+        for (String removedType : removedTypes) {
+            unusedTypeDefinitionNodeList.add(typeDefinitions.get(removedType));
+        }
+        NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll(unusedTypeDefinitionNodeList);
+        ModulePartNode modifiedModulePartNode = modulePartNode.modify(modulePartNode.imports(), modifiedMembers,
+                modulePartNode.eofToken());
+        return Formatter.format(schemaSyntaxTree.modifyWith(modifiedModulePartNode)).toString();
+    }
+
+    /**
+     * Returns the name of the type declared by the given module member, if it is a type definition or an enum.
+     */
+    private static Optional<String> getDeclaredTypeName(ModuleMemberDeclarationNode member) {
+        if (member.kind() == SyntaxKind.TYPE_DEFINITION) {
+            return Optional.of(((TypeDefinitionNode) member).typeName().text());
+        } else if (member.kind() == SyntaxKind.ENUM_DECLARATION) {
+            return Optional.of(((EnumDeclarationNode) member).identifier().text());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Increments the reference count of every known type referred inside the given node.
+     *
+     * @return names of the referred types, one entry per reference
+     */
+    private static List<String> countReferences(Node node, Map<String, Integer> referenceCounts) {
+        List<String> referredTypes = new ArrayList<>();
+        node.accept(new NodeVisitor() {
+            @Override
+            public void visit(SimpleNameReferenceNode simpleNameReferenceNode) {
+                String name = simpleNameReferenceNode.name().text();
+                if (referenceCounts.containsKey(name)) {
+                    referenceCounts.merge(name, 1, Integer::sum);
+                    referredTypes.add(name);
                 }
             }
-        }
+        });
+        return referredTypes;
     }
 
-    private static SemanticModel getSemanticModel(Path clientPath) throws ProjectException {
-        // Load project instance for single ballerina file
-        try {
-            Project project = ProjectLoader.loadProject(clientPath);
-            Package packageName = project.currentPackage();
-            DocumentId docId;
-
-            if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
-                docId = project.documentId(clientPath);
-            } else {
-                // Take module instance for traversing the syntax tree
-                Module currentModule = packageName.getDefaultModule();
-                Iterator<DocumentId> documentIterator = currentModule.documentIds().iterator();
-                docId = documentIterator.next();
-            }
-            return project.currentPackage().getCompilation().getSemanticModel(docId.moduleId());
-        } catch (ProjectException e) {
-            throw new ProjectException(e.getMessage());
+    /**
+     * Write the source code of the given node to the given writer token by token, so that the source of a large
+     * syntax tree is not materialized as a single string.
+     *
+     * @param node   node to be written
+     * @param writer writer the source code is written to
+     * @throws IOException when writing fails
+     */
+    public static void writeSourceCode(Node node, Writer writer) throws IOException {
+        if (node instanceof Token) {
+            Token token = (Token) node;
+            for (Minutiae minutiae : token.leadingMinutiae()) {
+                writer.write(minutiae.text());
+            }
+            writer.write(token.text());
+            for (Minutiae minutiae : token.trailingMinutiae()) {
+                writer.write(minutiae.text());
+            }
+            return;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            if (child != null) {
+                writeSourceCode(child, writer);
+            }
         }
     }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Converts the names used in OpenAPI definitions to Ballerina identifiers.
+ * <p>
+ * The same property, parameter and schema names are converted many times during a code generation. The escape
+ * pattern is compiled once, identifiers without special characters are handled by scanning their characters, and
+ * converted names are cached up to a fixed number of entries.
+ *
+ * @since 1.3.0
+ */
+public final class NameResolver {
+
+    private static final Pattern ESCAPE_PATTERN = Pattern.compile(GeneratorConstants.ESCAPE_PATTERN);
+    /**
+     * Characters matched by {@link GeneratorConstants#ESCAPE_PATTERN}.
+     */
+    private static final String ESCAPE_CHARACTERS = "[]\\?!<>@#&~`*-=^+();:/{}|.$ \t\n\u000B\f\r";
+    private static final Set<String> BAL_KEYWORDS = new HashSet<>(SyntaxInfo.keywords());
+    private static final int MAX_CACHE_SIZE = 10000;
+
+    private static final Map<String, String> SCHEMA_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, String> IDENTIFIER_NAMES = new ConcurrentHashMap<>();
+
+    private NameResolver() {
+    }
+
+    /**
+     * Escape special characters used in method names and identifiers.
+     *
+     * @param identifier identifier or method name
+     * @return escaped identifier
+     */
+    public static String escapeIdentifier(String identifier) {
+        if (isNumeric(identifier)) {
+            return "'" + identifier;
+        } else if (!isPlainIdentifier(identifier) || BAL_KEYWORDS.contains(identifier)) {
+            return "'" + ESCAPE_PATTERN.matcher(identifier).replaceAll("\\\\$1");
+        }
+        return identifier;
+    }
+
+    /**
+     * Generate a valid Ballerina name by removing the special characters of the given name.
+     *
+     * @param identifier function name, record name or operation id
+     * @param isSchema   whether the name is used as a type name
+     * @return valid Ballerina name
+     */
+    public static String getValidName(String identifier, boolean isSchema) {
+        Map<String, String> cache = isSchema ? SCHEMA_NAMES : IDENTIFIER_NAMES;
+        String validName = cache.get(identifier);
+        if (validName == null) {
+            validName = resolveValidName(identifier, isSchema);
+            if (cache.size() >= MAX_CACHE_SIZE) {
+                cache.clear();
+            }
+            cache.put(identifier, validName);
+        }
+        return validName;
+    }
+
+    /**
+     * Check whether the given name can be used as a schema name.
+     *
+     * @param recordName schema name
+     * @return false if the name only has digits
+     */
+    public static boolean isValidSchemaName(String recordName) {
+        return !isNumeric(recordName);
+    }
+
+    private static String resolveValidName(String identifier, boolean isSchema) {
+        //For the flatten enable we need to remove first Part of valid name check
+        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
+        if (!isNumeric(identifier)) {
+            if (!hasEscapeCharacter(identifier)) {
+                // Splitting a name without special characters gives the name itself.
+                identifier = identifier.isBlank() ? "" : identifier;
+            } else {
+                String[] split = ESCAPE_PATTERN.split(identifier);
+                StringBuilder validName = new StringBuilder();
+                for (String part : split) {
+                    if (!part.isBlank()) {
+                        if (split.length > 1) {
+                            part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                                    part.substring(1).toLowerCase(Locale.ENGLISH);
+                        }
+                        validName.append(part);
+                    }
+                }
+                identifier = validName.toString();
+            }
+        }
+        if (isSchema) {
+            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
+        } else {
+            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
+        }
+    }
+
+    /**
+     * Same as matching {@code \b[0-9]*\b}, which requires at least one digit.
+     */
+    private static boolean isNumeric(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Same as matching {@code \b[_a-zA-Z][_a-zA-Z0-9]*\b}.
+     */
+    private static boolean isPlainIdentifier(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            boolean isLetter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+            if (!isLetter && (i == 0 || c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasEscapeCharacter(String identifier) {
+        for (int i = 0; i < identifier.length(); i++) {
+            if (ESCAPE_CHARACTERS.indexOf(identifier.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
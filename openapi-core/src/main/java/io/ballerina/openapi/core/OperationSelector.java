@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.openapi.core.model.Filter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Selects the operations of an unresolved OpenAPI definition that are generated for a filter, and the components
+ * they refer to directly or indirectly.
+ * <p>
+ * The definition is selected from as the JSON tree it is read into, before it is deserialized, so that the operations
+ * and components that are not generated are never turned into the model of the definition. The other operations,
+ * and the schemas, responses, parameters, examples, request bodies, headers, links and callbacks that none of the
+ * selected operations refers to, are removed from the tree. The security schemes are kept, as the security
+ * requirements refer to them by name. The references to other files are left to the parser. All the components are
+ * kept when a reference cannot be matched to a component.
+ *
+ * @since 1.3.0
+ */
+public final class OperationSelector {
+
+    private static final String PATHS = "paths";
+    private static final String COMPONENTS = "components";
+    private static final String COMPONENTS_REFERENCE_PREFIX = "#/components/";
+    private static final String SCHEMAS = "schemas";
+    private static final String REFERENCE = "$ref";
+    private static final String DISCRIMINATOR = "discriminator";
+    private static final String MAPPING = "mapping";
+    private static final String TAGS = "tags";
+    private static final String OPERATION_ID = "operationId";
+    private static final List<String> HTTP_METHODS =
+            List.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+    private static final List<String> COMPONENT_TYPES = List.of(SCHEMAS, "responses", "parameters", "examples",
+            "requestBodies", "headers", "links", "callbacks");
+
+    private OperationSelector() {
+    }
+
+    /**
+     * Remove the operations that are not selected by the given filter, and the components that the selected
+     * operations do not refer to, from the given unresolved definition.
+     *
+     * @param rootNode JSON tree of the unresolved definition, which is modified
+     * @param filter   tags and operations to be generated
+     * @return the given tree
+     */
+    public static ObjectNode select(ObjectNode rootNode, Filter filter) {
+        JsonNode paths = rootNode.get(PATHS);
+        if (paths != null && paths.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> pathIterator = paths.fields();
+            while (pathIterator.hasNext()) {
+                JsonNode pathItem = pathIterator.next().getValue();
+                if (!pathItem.isObject() || pathItem.has(REFERENCE)) {
+                    // The operations of a referred path item are not known before it is resolved
+                    continue;
+                }
+                boolean hasOperations = false;
+                for (String method : HTTP_METHODS) {
+                    JsonNode operation = pathItem.get(method);
+                    if (operation == null) {
+                        continue;
+                    }
+                    if (isSelected(operation, filter)) {
+                        hasOperations = true;
+                    } else {
+                        ((ObjectNode) pathItem).remove(method);
+                    }
+                }
+                if (!hasOperations) {
+                    pathIterator.remove();
+                }
+            }
+        }
+        JsonNode components = rootNode.get(COMPONENTS);
+        if (components == null || !components.isObject()) {
+            return rootNode;
+        }
+        Map<String, ObjectNode> componentsByType = new LinkedHashMap<>();
+        for (String componentType : COMPONENT_TYPES) {
+            JsonNode typeComponents = components.get(componentType);
+            if (typeComponents != null && typeComponents.isObject()) {
+                componentsByType.put(componentType, (ObjectNode) typeComponents);
+            }
+        }
+
+        Set<String> referredComponents = new HashSet<>();
+        Deque<JsonNode> pendingNodes = new ArrayDeque<>();
+        if (paths != null) {
+            pendingNodes.add(paths);
+        }
+        while (!pendingNodes.isEmpty()) {
+            for (String reference : getComponentReferences(pendingNodes.pop())) {
+                if (!referredComponents.add(reference)) {
+                    continue;
+                }
+                JsonNode component = getComponent(componentsByType, reference);
+                if (component == null) {
+                    // e.g. an encoded reference, the components are kept rather than dropping a referred one
+                    return rootNode;
+                }
+                pendingNodes.add(component);
+            }
+        }
+        for (Map.Entry<String, ObjectNode> typeComponents : componentsByType.entrySet()) {
+            Iterator<String> names = typeComponents.getValue().fieldNames();
+            while (names.hasNext()) {
+                if (!referredComponents.contains(typeComponents.getKey() + "/" + escape(names.next()))) {
+                    names.remove();
+                }
+            }
+        }
+        return rootNode;
+    }
+
+    private static boolean isSelected(JsonNode operation, Filter filter) {
+        JsonNode tags = operation.get(TAGS);
+        if (tags != null) {
+            for (JsonNode tag : tags) {
+                if (filter.getTags().contains(tag.asText())) {
+                    return true;
+                }
+            }
+        }
+        JsonNode operationIdNode = operation.get(OPERATION_ID);
+        if (operationIdNode == null || !operationIdNode.isTextual()) {
+            return false;
+        }
+        String operationId = operationIdNode.asText().trim();
+        // The filter may have the operation id as it is or as its Ballerina name
+        return filter.getOperations().contains(operationId) ||
+                filter.getOperations().contains(GeneratorUtils.getValidName(operationId, false));
+    }
+
+    /**
+     * Returns the components referred by the given node, as the JSON pointers of the components relative to the
+     * components object, e.g. {@code schemas/Pet}.
+     */
+    private static Set<String> getComponentReferences(JsonNode rootNode) {
+        Set<String> references = new HashSet<>();
+        Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.add(rootNode);
+        while (!nodes.isEmpty()) {
+            JsonNode node = nodes.pop();
+            if (node.isObject()) {
+                JsonNode reference = node.get(REFERENCE);
+                if (reference != null && reference.isTextual() &&
+                        reference.asText().startsWith(COMPONENTS_REFERENCE_PREFIX)) {
+                    references.add(reference.asText().substring(COMPONENTS_REFERENCE_PREFIX.length()));
+                }
+                JsonNode discriminator = node.get(DISCRIMINATOR);
+                if (discriminator != null && discriminator.get(MAPPING) != null) {
+                    // The mapping refers to the schemas by reference or by name
+                    for (JsonNode mapping : discriminator.get(MAPPING)) {
+                        String target = mapping.asText();
+                        references.add(target.startsWith(COMPONENTS_REFERENCE_PREFIX) ?
+                                target.substring(COMPONENTS_REFERENCE_PREFIX.length()) : SCHEMAS + "/" + target);
+                    }
+                }
+            }
+            node.forEach(nodes::add);
+        }
+        return references;
+    }
+
+    private static JsonNode getComponent(Map<String, ObjectNode> componentsByType, String reference) {
+        int separatorIndex = reference.indexOf('/');
+        if (separatorIndex < 0) {
+            return null;
+        }
+        ObjectNode typeComponents = componentsByType.get(reference.substring(0, separatorIndex));
+        if (typeComponents == null) {
+            return null;
+        }
+        return typeComponents.get(unescape(reference.substring(separatorIndex + 1)));
+    }
+
+    private static String escape(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String name) {
+        return name.replace("~1", "/").replace("~0", "~");
+    }
+}
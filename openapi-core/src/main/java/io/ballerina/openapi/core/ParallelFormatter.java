@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Formats the independent syntax trees of a code generation (client, utils, types, etc.) concurrently.
+ * <p>
+ * The trees are formatted on a small, bounded pool of daemon threads shared by all the generations of the JVM. When
+ * more than one tree fails to format, the error of the tree that comes first in the given list is reported, so the
+ * reported error does not depend on the scheduling of the threads.
+ *
+ * @since 1.3.0
+ */
+public final class ParallelFormatter {
+
+    private static final int MAX_THREADS = 4;
+    private static final int THREADS = Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors());
+
+    private ParallelFormatter() {
+    }
+
+    /**
+     * Format the given syntax trees.
+     *
+     * @param syntaxTrees syntax trees to be formatted
+     * @return formatted source of each syntax tree, in the order of the given syntax trees
+     * @throws FormatterException when formatting a syntax tree fails
+     */
+    public static List<String> format(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        List<String> sources = new ArrayList<>(syntaxTrees.size());
+        for (SyntaxTree formattedSyntaxTree : formatSyntaxTrees(syntaxTrees)) {
+            sources.add(formattedSyntaxTree.toString());
+        }
+        return sources;
+    }
+
+    /**
+     * Format the given syntax trees, without creating the formatted sources. This is used when the formatted trees
+     * are written to the files directly.
+     *
+     * @param syntaxTrees syntax trees to be formatted
+     * @return formatted syntax trees, in the order of the given syntax trees
+     * @throws FormatterException when formatting a syntax tree fails
+     */
+    public static List<SyntaxTree> formatSyntaxTrees(List<SyntaxTree> syntaxTrees) throws FormatterException {
+        List<SyntaxTree> formattedSyntaxTrees = new ArrayList<>(syntaxTrees.size());
+        if (syntaxTrees.size() < 2 || THREADS < 2) {
+            for (SyntaxTree syntaxTree : syntaxTrees) {
+                formattedSyntaxTrees.add(Formatter.format(syntaxTree));
+            }
+            return formattedSyntaxTrees;
+        }
+
+        List<Future<SyntaxTree>> futures = new ArrayList<>(syntaxTrees.size());
+        for (SyntaxTree syntaxTree : syntaxTrees) {
+            futures.add(ExecutorHolder.EXECUTOR.submit(() -> Formatter.format(syntaxTree)));
+        }
+        try {
+            for (Future<SyntaxTree> future : futures) {
+                formattedSyntaxTrees.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof FormatterException) {
+                throw (FormatterException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while formatting the generated sources", e);
+        } finally {
+            for (Future<SyntaxTree> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return formattedSyntaxTrees;
+    }
+
+    /**
+     * Creates the formatter threads on first use only.
+     */
+    private static class ExecutorHolder {
+
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-formatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -53,21 +53,27 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.client.model.RemoteFunctionDependencies;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.OASOperation;
+import io.ballerina.openapi.core.model.OperationAnalysis;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariables;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -129,9 +135,10 @@ public class BallerinaClientGenerator {
 
     private final Filter filters;
     private List<ImportDeclarationNode> imports;
-    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    private TypeDefinitionRegistry typeDefinitionRegistry;
     private List<String> apiKeyNameList = new ArrayList<>();
     private final OpenAPI openAPI;
+    private final GenerationContext generationContext;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final List<String> remoteFunctionNameList;
@@ -139,13 +146,26 @@ public class BallerinaClientGenerator {
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
     private final boolean isPlugin;
+    private BallerinaServiceGenerator serviceGenerator;
+    private String clientClassName = GeneratorConstants.CLIENT_CLASS;
+    private boolean authRecordsIncluded = true;
+    private List<ModuleMemberDeclarationNode> authRecords;
+    private final Map<OASOperation, RemoteFunctionDependencies> functionDependencies = new LinkedHashMap<>();
 
     /**
      * Returns a list of type definition nodes.
      */
     public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
 
-        return typeDefinitionNodeList;
+        return typeDefinitionRegistry.getTypeDefinitions();
+    }
+
+    /**
+     * Returns the registry of the type definitions generated for the client.
+     */
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
+
+        return typeDefinitionRegistry;
     }
 
     /**
@@ -162,7 +182,43 @@ public class BallerinaClientGenerator {
     public void setTypeDefinitionNodeList(
             List<TypeDefinitionNode> typeDefinitionNodeList) {
 
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
+        this.typeDefinitionRegistry.registerAll(typeDefinitionNodeList);
+    }
+
+    /**
+     * Set the service generator of the same definition, so that the resource function of each operation is added to
+     * the service while the remote function of the operation is generated. The service generator should use the same
+     * filters as this client generator.
+     */
+    public void setServiceGenerator(BallerinaServiceGenerator serviceGenerator) {
+
+        this.serviceGenerator = serviceGenerator;
+    }
+
+    /**
+     * Set the name of the generated client class, when a definition is generated as more than one client.
+     */
+    public void setClientClassName(String clientClassName) {
+
+        this.clientClassName = clientClassName;
+    }
+
+    /**
+     * Set whether the records of the authentication configuration are generated with the client. The records are
+     * generated once for the clients of a module that share them.
+     */
+    public void setAuthRecordsIncluded(boolean authRecordsIncluded) {
+
+        this.authRecordsIncluded = authRecordsIncluded;
+    }
+
+    /**
+     * Returns the dependencies of the function of each operation generated so far, in the order of the functions.
+     */
+    public Map<OASOperation, RemoteFunctionDependencies> getFunctionDependencies() {
+
+        return functionDependencies;
     }
 
     public List<String> getRemoteFunctionNameList() {
@@ -184,9 +240,10 @@ public class BallerinaClientGenerator {
 
         this.filters = oasClientConfig.getFilters();
         this.imports = new ArrayList<>();
-        this.typeDefinitionNodeList = new ArrayList<>();
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
         this.openAPI = oasClientConfig.getOpenAPI();
-        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, oasClientConfig.isNullable());
+        this.generationContext = oasClientConfig.getGenerationContext();
+        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(generationContext);
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
         this.remoteFunctionNameList = new ArrayList<>();
         this.serverURL = "/";
@@ -203,16 +260,33 @@ public class BallerinaClientGenerator {
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
 
+        return generateSyntaxTree(generationContext.getOASIndex().getOperations(filters));
+    }
+
+    /**
+     * Generate the client syntax tree with the functions of the given operations.
+     *
+     * @param operations operations to generate the functions of
+     * @return return Syntax tree for the ballerina code.
+     * @throws BallerinaOpenApiException When function fail in process.
+     */
+    public SyntaxTree generateSyntaxTree(List<OASOperation> operations) throws BallerinaOpenApiException {
+
         // Create `ballerina/http` import declaration node
         ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA
                 , HTTP);
-        imports.add(importForHttp);
+        // Added first, as the imports of the functions of the shards may have been added already
+        imports.add(0, importForHttp);
         List<ModuleMemberDeclarationNode> nodes = new ArrayList<>();
-        // Add authentication related records
-        ballerinaAuthConfigGenerator.addAuthRelatedRecords(openAPI, nodes);
+        // Add authentication related records. These are created even if they are not included, as the init function
+        // depends on the authentication they find.
+        List<ModuleMemberDeclarationNode> authRelatedRecords = getAuthRecords();
+        if (authRecordsIncluded) {
+            nodes.addAll(authRelatedRecords);
+        }
 
         // Add class definition node to module member nodes
-        nodes.add(getClassDefinitionNode());
+        nodes.add(getClassDefinitionNode(operations));
 
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
         ModulePartNode modulePartNode =
@@ -222,11 +296,57 @@ public class BallerinaClientGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Generate a syntax tree with a client class that has only the functions of the given operations. This is used
+     * to generate the functions of a large definition in shards, releasing the syntax tree of each shard once it is
+     * formatted. The imports, the util functions and the type definitions of the functions are accumulated by this
+     * generator, so the shards are followed by {@link #generateSyntaxTree(List)} with no operations, which generates
+     * the rest of the client.
+     *
+     * @param operations operations of the shard
+     * @return syntax tree of the client class with the functions of the operations
+     * @throws BallerinaOpenApiException When function fail in process.
+     */
+    public SyntaxTree generateFunctionsSyntaxTree(List<OASOperation> operations) throws BallerinaOpenApiException {
+
+        // The functions add the API keys of the authentication to their requests
+        getAuthRecords();
+        List<Node> memberNodeList = new ArrayList<>(createRemoteFunctions(operations));
+        ClassDefinitionNode classDefinitionNode = createClassDefinitionNode(null, createToken(PUBLIC_KEYWORD),
+                createNodeList(createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD)),
+                createToken(CLASS_KEYWORD), createIdentifierToken(clientClassName),
+                createToken(OPEN_BRACE_TOKEN), createNodeList(memberNodeList), createToken(CLOSE_BRACE_TOKEN), null);
+        ModulePartNode modulePartNode = createModulePartNode(createEmptyNodeList(),
+                createNodeList(classDefinitionNode), createToken(EOF_TOKEN));
+        return SyntaxTree.from(TextDocuments.from("")).modifyWith(modulePartNode);
+    }
+
+    /**
+     * Returns the records of the authentication configuration, which are created on the first call. Creating them
+     * finds the authentication of the definition, which the init function and the remote functions depend on.
+     */
+    private List<ModuleMemberDeclarationNode> getAuthRecords() throws BallerinaOpenApiException {
+
+        if (authRecords == null) {
+            authRecords = new ArrayList<>();
+            ballerinaAuthConfigGenerator.addAuthRelatedRecords(openAPI, authRecords);
+        }
+        return authRecords;
+    }
+
     public BallerinaUtilGenerator getBallerinaUtilGenerator() {
 
         return ballerinaUtilGenerator;
     }
 
+    /**
+     * Returns the context of the current client generation.
+     */
+    public GenerationContext getGenerationContext() {
+
+        return generationContext;
+    }
+
     /**
      * Generate Class definition Node with below code structure.
      * <pre>
@@ -246,7 +366,8 @@ public class BallerinaClientGenerator {
      * }
      * </pre>
      */
-    private ClassDefinitionNode getClassDefinitionNode() throws BallerinaOpenApiException {
+    private ClassDefinitionNode getClassDefinitionNode(List<OASOperation> operations)
+            throws BallerinaOpenApiException {
         // Collect members for class definition node
         List<Node> memberNodeList = new ArrayList<>();
         // Add instance variable to class definition node
@@ -254,10 +375,10 @@ public class BallerinaClientGenerator {
         // Add init function to class definition node
         memberNodeList.add(createInitFunction());
         // Generate remote function Nodes
-        memberNodeList.addAll(createRemoteFunctions(openAPI.getPaths(), filters));
+        memberNodeList.addAll(createRemoteFunctions(operations));
         // Generate the class combining members
         MetadataNode metadataNode = getClassMetadataNode();
-        IdentifierToken className = createIdentifierToken(GeneratorConstants.CLIENT_CLASS);
+        IdentifierToken className = createIdentifierToken(clientClassName);
         NodeList<Token> classTypeQualifiers = createNodeList(
                 createToken(ISOLATED_KEYWORD), createToken(CLIENT_KEYWORD));
         return createClassDefinitionNode(metadataNode, createToken(PUBLIC_KEYWORD), classTypeQualifiers,
@@ -463,54 +584,67 @@ public class BallerinaClientGenerator {
     /**
      * Generate remote functions for OpenAPI operations.
      *
-     * @param paths  openAPI Paths
-     * @param filter user given tags and operations
+     * @param operations operations selected by the user given tags and operations
      * @return FunctionDefinitionNodes list
      * @throws BallerinaOpenApiException - throws when creating remote functions fails
      */
-    private List<FunctionDefinitionNode> createRemoteFunctions(Paths paths, Filter filter)
+    private List<FunctionDefinitionNode> createRemoteFunctions(List<OASOperation> operations)
             throws BallerinaOpenApiException {
 
-        List<String> filterTags = filter.getTags();
-        List<String> filterOperations = filter.getOperations();
         List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
-        Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
-        for (Map.Entry<String, PathItem> path : pathsItems) {
-            if (!path.getValue().readOperationsMap().isEmpty()) {
-                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
-                        path.getValue().readOperationsMap().entrySet()) {
-                    // create display annotation of the operation
-                    List<AnnotationNode> functionLevelAnnotationNodes = new ArrayList<>();
-                    if (operation.getValue().getExtensions() != null) {
-                        Map<String, Object> extensions = operation.getValue().getExtensions();
-                        DocCommentsGenerator.extractDisplayAnnotation(extensions, functionLevelAnnotationNodes);
-                    }
-                    List<String> operationTags = operation.getValue().getTags();
-                    String operationId = operation.getValue().getOperationId();
-                    if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
-                        // Generate remote function only if it is available in tag filter or operation filter or both
-                        if (operationTags != null || ((!filterOperations.isEmpty()) && (operationId != null))) {
-                            if (GeneratorUtils.hasTags(operationTags, filterTags) ||
-                                    ((operationId != null) && filterOperations.contains(operationId.trim()))) {
-                                // Generate remote function
-                                FunctionDefinitionNode functionDefinitionNode =
-                                        getClientMethodFunctionDefinitionNode(
-                                                functionLevelAnnotationNodes, path.getKey(), operation);
-                                functionDefinitionNodeList.add(functionDefinitionNode);
-                            }
-                        }
-                    } else {
-                        // Generate remote function
-                        FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
-                                functionLevelAnnotationNodes, path.getKey(), operation);
-                        functionDefinitionNodeList.add(functionDefinitionNode);
-                    }
-                }
+        for (OASOperation operation : operations) {
+            // create display annotation of the operation
+            List<AnnotationNode> functionLevelAnnotationNodes = new ArrayList<>();
+            if (operation.getOperation().getExtensions() != null) {
+                Map<String, Object> extensions = operation.getOperation().getExtensions();
+                DocCommentsGenerator.extractDisplayAnnotation(extensions, functionLevelAnnotationNodes);
+            }
+            // The parameters, request body and resource path are analyzed once for the client and the service
+            OperationAnalysis operationAnalysis = OperationAnalysis.of(operation, openAPI);
+            // The imports, util functions and types of each function are collected on their own before they are
+            // added to the client, so that the dependencies of the function are known
+            List<ImportDeclarationNode> functionImports = new ArrayList<>();
+            BallerinaUtilGenerator functionUtilGenerator = new BallerinaUtilGenerator();
+            TypeDefinitionRegistry functionTypes = new TypeDefinitionRegistry();
+            // Generate remote function
+            FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
+                    functionLevelAnnotationNodes, operationAnalysis, functionImports, functionUtilGenerator,
+                    functionTypes);
+            functionDefinitionNodeList.add(functionDefinitionNode);
+            functionDependencies.put(operation, addFunctionDependencies(functionImports, functionUtilGenerator,
+                    functionTypes));
+            if (serviceGenerator != null) {
+                serviceGenerator.addResourceFunction(operationAnalysis);
             }
         }
         return functionDefinitionNodeList;
     }
 
+    /**
+     * Add the imports, util functions and types of a function to the client, and return them as the dependencies of
+     * the function.
+     */
+    private RemoteFunctionDependencies addFunctionDependencies(List<ImportDeclarationNode> functionImports,
+                                                               BallerinaUtilGenerator functionUtilGenerator,
+                                                               TypeDefinitionRegistry functionTypes) {
+        List<String> modules = new ArrayList<>();
+        for (ImportDeclarationNode importNode : functionImports) {
+            StringBuilder module = new StringBuilder();
+            for (IdentifierToken identifierToken : importNode.moduleName()) {
+                module.append(identifierToken.toString().trim());
+            }
+            modules.add(module.toString());
+            GeneratorUtils.addImport(imports, module.toString());
+        }
+        ballerinaUtilGenerator.merge(functionUtilGenerator);
+        List<String> typeNames = new ArrayList<>();
+        for (TypeDefinitionNode typeDefinitionNode : functionTypes.getTypeDefinitions()) {
+            typeDefinitionRegistry.register(typeDefinitionNode);
+            typeNames.add(typeDefinitionNode.typeName().text());
+        }
+        return new RemoteFunctionDependencies(modules, functionUtilGenerator.getRequiredUtils(), typeNames);
+    }
+
     /**
      * Generate function definition node.
      * <pre>
@@ -528,10 +662,12 @@ public class BallerinaClientGenerator {
      * </pre>
      */
     private FunctionDefinitionNode getClientMethodFunctionDefinitionNode(List<AnnotationNode> annotationNodes,
-                                                                         String path,
-                                                                         Map.Entry<PathItem.HttpMethod, Operation>
-                                                                                 operation)
+                                                                         OperationAnalysis operationAnalysis,
+                                                                         List<ImportDeclarationNode> functionImports,
+                                                                         BallerinaUtilGenerator functionUtilGenerator,
+                                                                         TypeDefinitionRegistry functionTypes)
             throws BallerinaOpenApiException {
+        Map.Entry<PathItem.HttpMethod, Operation> operation = operationAnalysis.getOperationEntry();
         // Create api doc for function
         List<Node> remoteFunctionDocs = new ArrayList<>();
         if (operation.getValue().getSummary() != null) {
@@ -561,11 +697,9 @@ public class BallerinaClientGenerator {
         remoteFunctionNameList.add(operation.getValue().getOperationId());
 
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                ballerinaSchemaGenerator, typeDefinitionNodeList, resourceMode);
+                ballerinaSchemaGenerator, functionTypes, resourceMode);
         FunctionSignatureNode functionSignatureNode =
-                functionSignatureGenerator.getFunctionSignatureNode(operation.getValue(),
-                        remoteFunctionDocs);
-        typeDefinitionNodeList = functionSignatureGenerator.getTypeDefinitionNodeList();
+                functionSignatureGenerator.getFunctionSignatureNode(operationAnalysis, remoteFunctionDocs);
         // Create `Deprecated` annotation if an operation has mentioned as `deprecated:true`
         if (operation.getValue().getDeprecated() != null && operation.getValue().getDeprecated()) {
             DocCommentsGenerator.extractDeprecatedAnnotation(operation.getValue().getExtensions(),
@@ -576,14 +710,14 @@ public class BallerinaClientGenerator {
                 createNodeList(remoteFunctionDocs)), createNodeList(annotationNodes));
 
         // Create Function Body
-        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionNodeList,
-                openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
-        FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
-        imports = functionBodyGenerator.getImports();
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(functionImports, functionTypes,
+                openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, functionUtilGenerator, resourceMode);
+        // The imports of the function are added to the given list
+        FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(operationAnalysis);
 
         //Generate relative path
         NodeList<Node> relativeResourcePath = resourceMode ?
-                createNodeList(GeneratorUtils.getRelativeResourcePath(path, operation.getValue())) :
+                createNodeList(operationAnalysis.getRelativeResourcePath()) :
                 createEmptyNodeList();
         return createFunctionDefinitionNode(null,
                 metadataNode, qualifierList, functionKeyWord, functionName, relativeResourcePath,
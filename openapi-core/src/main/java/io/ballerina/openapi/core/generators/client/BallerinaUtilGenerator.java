@@ -18,10 +18,10 @@
 package io.ballerina.openapi.core.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -41,28 +41,23 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -125,7 +120,7 @@ public class BallerinaUtilGenerator {
     private boolean queryParamsFound = false;
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
+    private static volatile Map<String, FunctionDefinitionNode> utilFunctions = null;
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -137,6 +132,13 @@ public class BallerinaUtilGenerator {
     private static final String GET_MAP_FOR_HEADERS = "getMapForHeaders";
     private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
     private static final String CREATE_MULTIPART_BODY_PARTS = "createBodyParts";
+    private static final String UTIL_TEMPLATE = "templates/utils_openapi.bal";
+
+    public static final String HEADERS = "headers";
+    public static final String PATH_PARAMETERS = "pathParameters";
+    public static final String QUERY_PARAMETERS = "queryParameters";
+    public static final String REQUEST_BODY_ENCODING = "requestBodyEncoding";
+    public static final String MULTIPART_FORM_DATA = "multipartFormData";
 
     /**
      * Set `queryParamsFound` flag to `true` when at least one query parameter found.
@@ -185,6 +187,55 @@ public class BallerinaUtilGenerator {
         this.requestBodyMultipartFormDatafound = flag;
     }
 
+    /**
+     * Add the util functions required by the client of the given generator, so that the util file of a module is
+     * shared by all of its clients.
+     *
+     * @param utilGenerator util generator of another client of the module
+     */
+    public void merge(BallerinaUtilGenerator utilGenerator) {
+        this.headersFound |= utilGenerator.headersFound;
+        this.pathParametersFound |= utilGenerator.pathParametersFound;
+        this.queryParamsFound |= utilGenerator.queryParamsFound;
+        this.requestBodyEncodingFound |= utilGenerator.requestBodyEncodingFound;
+        this.requestBodyMultipartFormDatafound |= utilGenerator.requestBodyMultipartFormDatafound;
+    }
+
+    /**
+     * Returns the kinds of util functions found to be required, e.g. {@value #HEADERS}, so that the util file can be
+     * generated again without generating the functions of the client.
+     */
+    public Set<String> getRequiredUtils() {
+        Set<String> requiredUtils = new TreeSet<>();
+        if (headersFound) {
+            requiredUtils.add(HEADERS);
+        }
+        if (pathParametersFound) {
+            requiredUtils.add(PATH_PARAMETERS);
+        }
+        if (queryParamsFound) {
+            requiredUtils.add(QUERY_PARAMETERS);
+        }
+        if (requestBodyEncodingFound) {
+            requiredUtils.add(REQUEST_BODY_ENCODING);
+        }
+        if (requestBodyMultipartFormDatafound) {
+            requiredUtils.add(MULTIPART_FORM_DATA);
+        }
+        return requiredUtils;
+    }
+
+    /**
+     * Add the given kinds of util functions, as returned by {@link #getRequiredUtils()}.
+     */
+    public void addRequiredUtils(Collection<String> requiredUtils) {
+        this.headersFound |= requiredUtils.contains(HEADERS);
+        this.pathParametersFound |= requiredUtils.contains(PATH_PARAMETERS);
+        this.queryParamsFound |= requiredUtils.contains(QUERY_PARAMETERS);
+        this.requestBodyEncodingFound |= requiredUtils.contains(REQUEST_BODY_ENCODING);
+        this.requestBodyMultipartFormDatafound |= requiredUtils.contains(MULTIPART_FORM_DATA);
+    }
+
     /**
      * Generates util file syntax tree.
      *
@@ -218,24 +269,9 @@ public class BallerinaUtilGenerator {
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
 
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
+        for (Map.Entry<String, FunctionDefinitionNode> utilFunction : getUtilFunctions().entrySet()) {
+            if (functionNameList.contains(utilFunction.getKey())) {
+                memberDeclarationNodes.add(utilFunction.getValue());
             }
         }
 
@@ -413,30 +449,45 @@ public class BallerinaUtilGenerator {
     }
 
     /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
+     * Gets the functions of the utils_openapi.bal template indexed by the function name, in the order they are
+     * defined in the template. The template is parsed only once per JVM and the same nodes are reused by every
+     * client generation.
      *
-     * @return Path to utils_openapi.bal file in the temporary directory created
+     * @return Unmodifiable map of the function name to the function definition node
      * @throws IOException When failed to get the templates/utils_openapi.bal file from resources
      */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
-            }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
+    private static Map<String, FunctionDefinitionNode> getUtilFunctions() throws IOException {
+        Map<String, FunctionDefinitionNode> functions = utilFunctions;
+        if (functions == null) {
+            synchronized (BallerinaUtilGenerator.class) {
+                functions = utilFunctions;
+                if (functions == null) {
+                    functions = loadUtilFunctions();
+                    utilFunctions = functions;
                 }
-            }));
+            }
+        }
+        return functions;
+    }
+
+    private static Map<String, FunctionDefinitionNode> loadUtilFunctions() throws IOException {
+        String utilContent;
+        try (InputStream inputStream = BallerinaUtilGenerator.class.getClassLoader()
+                .getResourceAsStream(UTIL_TEMPLATE)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the " + UTIL_TEMPLATE + " file in resources");
+            }
+            utilContent = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+        }
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(utilContent));
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        Map<String, FunctionDefinitionNode> functions = new LinkedHashMap<>();
+        for (ModuleMemberDeclarationNode node : modulePartNode.members()) {
+            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
+                FunctionDefinitionNode functionNode = (FunctionDefinitionNode) node;
+                functions.put(functionNode.functionName().text(), functionNode);
+            }
         }
-        return path;
+        return Collections.unmodifiableMap(functions);
     }
 }
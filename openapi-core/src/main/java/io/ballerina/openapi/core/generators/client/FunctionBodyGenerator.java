@@ -38,13 +38,15 @@ import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
 import io.ballerina.compiler.syntax.tree.Token;
-import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.mime.MimeType;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.OperationAnalysis;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -106,21 +108,17 @@ import static io.ballerina.openapi.core.GeneratorConstants.DELETE;
 import static io.ballerina.openapi.core.GeneratorConstants.ENCODING;
 import static io.ballerina.openapi.core.GeneratorConstants.EXECUTE;
 import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
-import static io.ballerina.openapi.core.GeneratorConstants.HEADER;
 import static io.ballerina.openapi.core.GeneratorConstants.HEADER_VALUES;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_HEADERS;
 import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
 import static io.ballerina.openapi.core.GeneratorConstants.PATCH;
 import static io.ballerina.openapi.core.GeneratorConstants.POST;
 import static io.ballerina.openapi.core.GeneratorConstants.PUT;
-import static io.ballerina.openapi.core.GeneratorConstants.QUERY;
 import static io.ballerina.openapi.core.GeneratorConstants.QUERY_PARAM;
 import static io.ballerina.openapi.core.GeneratorConstants.RESOURCE_PATH;
 import static io.ballerina.openapi.core.GeneratorConstants.RESPONSE;
 import static io.ballerina.openapi.core.GeneratorConstants.SELF;
-import static io.ballerina.openapi.core.GeneratorUtils.generateBodyStatementForComplexUrl;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
-import static io.ballerina.openapi.core.GeneratorUtils.isComplexURL;
 import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.extractReferenceType;
 
 /**
@@ -132,9 +130,10 @@ public class FunctionBodyGenerator {
 
     private List<ImportDeclarationNode> imports;
     private boolean isHeader;
-    private final List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final TypeDefinitionRegistry typeDefinitionRegistry;
     private final OpenAPI openAPI;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
+    private final GenerationContext generationContext;
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
@@ -147,16 +146,17 @@ public class FunctionBodyGenerator {
         this.imports = imports;
     }
 
-    public FunctionBodyGenerator(List<ImportDeclarationNode> imports, List<TypeDefinitionNode> typeDefinitionNodeList,
+    public FunctionBodyGenerator(List<ImportDeclarationNode> imports, TypeDefinitionRegistry typeDefinitionRegistry,
                                  OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
                                  BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator,
                                  BallerinaUtilGenerator ballerinaUtilGenerator, boolean resourceMode) {
 
         this.imports = imports;
         this.isHeader = false;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
+        this.generationContext = ballerinaSchemaGenerator.getGenerationContext();
         this.ballerinaUtilGenerator = ballerinaUtilGenerator;
         this.ballerinaAuthConfigGenerator = ballerinaAuthConfigGenerator;
         this.resourceMode = resourceMode;
@@ -172,24 +172,38 @@ public class FunctionBodyGenerator {
      */
     public FunctionBodyNode getFunctionBodyNode(String path, Map.Entry<PathItem.HttpMethod, Operation> operation)
             throws BallerinaOpenApiException {
+        return getFunctionBodyNode(OperationAnalysis.of(path, operation.getKey(), operation.getValue(), openAPI));
+    }
+
+    /**
+     * Generate function body node for the remote function from the analysis of the operation shared with the
+     * service.
+     *
+     * @param operationAnalysis - analysis of the openapi operation
+     * @return - {@link FunctionBodyNode}
+     * @throws BallerinaOpenApiException - throws exception if generating FunctionBodyNode fails.
+     */
+    public FunctionBodyNode getFunctionBodyNode(OperationAnalysis operationAnalysis)
+            throws BallerinaOpenApiException {
 
+        String path = operationAnalysis.getPath();
+        Map.Entry<PathItem.HttpMethod, Operation> operation = operationAnalysis.getOperationEntry();
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
-                openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+                ballerinaSchemaGenerator, typeDefinitionRegistry);
         isHeader = false;
         // Create statements
         List<StatementNode> statementsList = new ArrayList<>();
         // Check whether given path is complex path , if complex it will handle adding these two statement
-        if (resourceMode && isComplexURL(path)) {
-            List<StatementNode> bodyStatements = generateBodyStatementForComplexUrl(path);
-            statementsList.addAll(bodyStatements);
+        if (resourceMode) {
+            statementsList.addAll(operationAnalysis.getComplexPathStatements());
         }
         //string path - common for every remote functions
         VariableDeclarationNode pathInt = getPathStatement(path, annotationNodes);
         statementsList.add(pathInt);
 
         //Handel query parameter map
-        handleParameterSchemaInOperation(operation, statementsList);
+        handleParameterSchemaInOperation(operationAnalysis, statementsList);
 
         String method = operation.getKey().name().trim().toLowerCase(Locale.ENGLISH);
         // This return type for target data type binding.
@@ -197,8 +211,10 @@ public class FunctionBodyGenerator {
         String returnType = returnTypeForTargetTypeField(rType);
         // Statement Generator for requestBody
         if (operation.getValue().getRequestBody() != null) {
-            RequestBody requestBody = operation.getValue().getRequestBody();
-            handleRequestBodyInOperation(statementsList, method, returnType, requestBody);
+            RequestBody requestBody = operationAnalysis.getRequestBody();
+            if (requestBody != null) {
+                handleRequestBodyInOperation(statementsList, method, returnType, requestBody);
+            }
         } else {
             createCommonFunctionBodyStatements(statementsList, method, returnType);
         }
@@ -211,13 +227,13 @@ public class FunctionBodyGenerator {
     /**
      * Generate statements for query parameters and headers.
      */
-    private void handleParameterSchemaInOperation(Map.Entry<PathItem.HttpMethod, Operation> operation,
+    private void handleParameterSchemaInOperation(OperationAnalysis operationAnalysis,
                                                   List<StatementNode> statementsList) throws BallerinaOpenApiException {
 
         List<String> queryApiKeyNameList = new ArrayList<>();
         List<String> headerApiKeyNameList = new ArrayList<>();
 
-        Set<String> securitySchemesAvailable = getSecurityRequirementForOperation(operation.getValue());
+        Set<String> securitySchemesAvailable = getSecurityRequirementForOperation(operationAnalysis.getOperation());
 
         if (securitySchemesAvailable.size() > 0) {
             Map<String, String> queryApiKeyMap = ballerinaAuthConfigGenerator.getQueryApiKeyNameList();
@@ -230,21 +246,8 @@ public class FunctionBodyGenerator {
                 }
             }
         }
-
-        List<Parameter> queryParameters = new ArrayList<>();
-        List<Parameter> headerParameters = new ArrayList<>();
-
-        if (operation.getValue().getParameters() != null) {
-            List<Parameter> parameters = operation.getValue().getParameters();
-            for (Parameter parameter : parameters) {
-                if (parameter.getIn().trim().equals(QUERY)) {
-                    queryParameters.add(parameter);
-                } else if (parameter.getIn().trim().equals(HEADER)) {
-                    headerParameters.add(parameter);
-                }
-            }
-        }
-        handleQueryParamsAndHeaders(queryParameters, headerParameters, statementsList, queryApiKeyNameList,
+        handleQueryParamsAndHeaders(new ArrayList<>(operationAnalysis.getQueryParameters()),
+                new ArrayList<>(operationAnalysis.getHeaderParameters()), statementsList, queryApiKeyNameList,
                 headerApiKeyNameList);
     }
 
@@ -435,8 +438,7 @@ public class FunctionBodyGenerator {
         for (Parameter parameter : queryParameters) {
             Schema paramSchema = parameter.getSchema();
             if (paramSchema.get$ref() != null) {
-                paramSchema = openAPI.getComponents().getSchemas().get(
-                        getValidName(extractReferenceType(paramSchema.get$ref()), true));
+                paramSchema = generationContext.getReferencedSchema(paramSchema.get$ref());
             }
             if (paramSchema != null && (paramSchema.getProperties() != null ||
                     (paramSchema.getType() != null && paramSchema.getType().equals("array")) ||
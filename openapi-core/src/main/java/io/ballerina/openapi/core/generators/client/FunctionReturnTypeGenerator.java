@@ -24,7 +24,8 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
-import io.swagger.v3.oas.models.OpenAPI;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
@@ -38,7 +39,6 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -64,20 +64,18 @@ import static io.ballerina.openapi.core.GeneratorUtils.isValidSchemaName;
  * @since 1.3.0
  */
 public class FunctionReturnTypeGenerator {
-    private OpenAPI openAPI;
     private BallerinaTypesGenerator ballerinaSchemaGenerator;
-    private List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
+    private TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
 
     public FunctionReturnTypeGenerator() {
 
     }
 
-    public FunctionReturnTypeGenerator(OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
-                                       List<TypeDefinitionNode> typeDefinitionNodeList) {
+    public FunctionReturnTypeGenerator(BallerinaTypesGenerator ballerinaSchemaGenerator,
+                                       TypeDefinitionRegistry typeDefinitionRegistry) {
 
-        this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
     }
 
     /**
@@ -149,8 +147,9 @@ public class FunctionReturnTypeGenerator {
             MapSchema mapSchema = (MapSchema) schema;
             type = handleResponseWithMapSchema(operation, media, mapSchema);
         } else if (schema.get$ref() != null) {
-            type = getValidName(extractReferenceType(schema.get$ref()), true);
-            Schema componentSchema = openAPI.getComponents().getSchemas().get(type);
+            GenerationContext generationContext = ballerinaSchemaGenerator.getGenerationContext();
+            type = generationContext.getReferencedTypeName(schema.get$ref());
+            Schema componentSchema = generationContext.getReferencedSchema(schema.get$ref());
             if (!isValidSchemaName(type)) {
                 String operationId = operation.getOperationId();
                 type = Character.toUpperCase(operationId.charAt(0)) + operationId.substring(1) +
@@ -353,18 +352,8 @@ public class FunctionReturnTypeGenerator {
      * @param typeDefNode - Generated Node
      */
     public void updateTypeDefinitionNodeList(String typeName, TypeDefinitionNode typeDefNode) {
-        boolean isExit = false;
-        if (!typeDefinitionNodeList.isEmpty()) {
-            for (TypeDefinitionNode typeNode : typeDefinitionNodeList) {
-                if (typeNode.typeName().toString().trim().equals(typeName)) {
-                    isExit = true;
-                }
-            }
-            if (!isExit) {
-                typeDefinitionNodeList.add(typeDefNode);
-            }
-        } else {
-            typeDefinitionNodeList.add(typeDefNode);
+        if (!typeDefinitionRegistry.contains(typeName)) {
+            typeDefinitionRegistry.register(typeDefNode);
         }
     }
 }
@@ -40,6 +40,9 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.OperationAnalysis;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.headers.Header;
@@ -57,6 +60,7 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -113,25 +117,27 @@ import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 public class FunctionSignatureGenerator {
     private final OpenAPI openAPI;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
-    private final List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final GenerationContext generationContext;
+    private final TypeDefinitionRegistry typeDefinitionRegistry;
     private FunctionReturnTypeGenerator functionReturnType;
     private boolean deprecatedParamFound = false;
 
     private boolean isResource;
 
-    public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
-        return typeDefinitionNodeList;
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
+        return typeDefinitionRegistry;
     }
 
     public FunctionSignatureGenerator(OpenAPI openAPI,
                                       BallerinaTypesGenerator ballerinaSchemaGenerator,
-                                      List<TypeDefinitionNode> typeDefinitionNodeList, boolean isResource) {
+                                      TypeDefinitionRegistry typeDefinitionRegistry, boolean isResource) {
 
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.generationContext = ballerinaSchemaGenerator.getGenerationContext();
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
         this.functionReturnType = new FunctionReturnTypeGenerator
-                (openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+                (ballerinaSchemaGenerator, typeDefinitionRegistry);
         this.isResource = isResource;
 
     }
@@ -145,11 +151,35 @@ public class FunctionSignatureGenerator {
      */
     public FunctionSignatureNode getFunctionSignatureNode(Operation operation, List<Node> remoteFunctionDoc)
             throws BallerinaOpenApiException {
+        List<Parameter> parameters = operation.getParameters() == null ? Collections.emptyList() :
+                operation.getParameters();
+        return getFunctionSignatureNode(operation, parameters,
+                OperationAnalysis.resolveRequestBody(operation.getRequestBody(), openAPI), remoteFunctionDoc);
+    }
+
+    /**
+     * This function for generate function signatures from the analysis of the operation shared with the service.
+     *
+     * @param operationAnalysis - analysis of the openapi operation
+     * @return {@link FunctionSignatureNode}
+     * @throws BallerinaOpenApiException - throws exception when node creation fails.
+     */
+    public FunctionSignatureNode getFunctionSignatureNode(OperationAnalysis operationAnalysis,
+                                                          List<Node> remoteFunctionDoc)
+            throws BallerinaOpenApiException {
+        return getFunctionSignatureNode(operationAnalysis.getOperation(), operationAnalysis.getParameters(),
+                operationAnalysis.getRequestBody(), remoteFunctionDoc);
+    }
+
+    private FunctionSignatureNode getFunctionSignatureNode(Operation operation, List<Parameter> operationParameters,
+                                                           RequestBody requestBody, List<Node> remoteFunctionDoc)
+            throws BallerinaOpenApiException {
         // Store the parameters for method.
         List<Node> parameterList = new ArrayList<>();
         functionReturnType = new FunctionReturnTypeGenerator
-                (openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
-        setFunctionParameters(operation, parameterList, createToken(COMMA_TOKEN), remoteFunctionDoc);
+                (ballerinaSchemaGenerator, typeDefinitionRegistry);
+        setFunctionParameters(operation, operationParameters, requestBody, parameterList, createToken(COMMA_TOKEN),
+                remoteFunctionDoc);
 
         if (parameterList.size() >= 2) {
             parameterList.remove(parameterList.size() - 1);
@@ -178,13 +208,13 @@ public class FunctionSignatureGenerator {
     /**
      * Generate function parameters.
      */
-    private void setFunctionParameters(Operation operation, List<Node> parameterList, Token comma,
-                                       List<Node> remoteFunctionDoc) throws BallerinaOpenApiException {
+    private void setFunctionParameters(Operation operation, List<Parameter> parameters, RequestBody requestBody,
+                                       List<Node> parameterList, Token comma, List<Node> remoteFunctionDoc)
+            throws BallerinaOpenApiException {
 
-        List<Parameter> parameters = operation.getParameters();
         List<Node> defaultable = new ArrayList<>();
         List<Node> deprecatedParamDocComments = new ArrayList<>();
-        if (parameters != null) {
+        if (!parameters.isEmpty()) {
             for (Parameter parameter : parameters) {
                 if (parameter.getDescription() != null && !parameter.getDescription().isBlank()) {
                     MarkdownParameterDocumentationLineNode paramAPIDoc =
@@ -230,18 +260,10 @@ public class FunctionSignatureGenerator {
             }
         }
 
-        // Handle RequestBody
-        if (operation.getRequestBody() != null) {
-            RequestBody requestBody = operation.getRequestBody();
-            if (requestBody.getContent() != null) {
-                setRequestBodyParameters(operation.getOperationId(), requestBody, remoteFunctionDoc, parameterList,
-                        defaultable);
-            } else if (requestBody.get$ref() != null) {
-                String requestBodyName = extractReferenceType(requestBody.get$ref());
-                RequestBody requestBodySchema = openAPI.getComponents().getRequestBodies().get(requestBodyName.trim());
-                setRequestBodyParameters(operation.getOperationId(), requestBodySchema, remoteFunctionDoc,
-                        parameterList, defaultable);
-            }
+        // Handle RequestBody, of which the reference is already resolved
+        if (requestBody != null && requestBody.getContent() != null) {
+            setRequestBodyParameters(operation.getOperationId(), requestBody, remoteFunctionDoc, parameterList,
+                    defaultable);
         }
         remoteFunctionDoc.addAll(deprecatedParamDocComments);
         //Filter defaultable parameters
@@ -294,7 +316,7 @@ public class FunctionSignatureGenerator {
         Schema parameterSchema = parameter.getSchema();
         String paramType = "";
         if (parameterSchema.get$ref() != null) {
-            paramType = getValidName(extractReferenceType(parameterSchema.get$ref()), true);
+            paramType = generationContext.getReferencedTypeName(parameterSchema.get$ref());
         } else {
             paramType = convertOpenAPITypeToBallerina(parameterSchema.getType().trim());
             if (parameterSchema.getType().equals(NUMBER)) {
@@ -315,8 +337,8 @@ public class FunctionSignatureGenerator {
                                 parameter.getName());
                     }
                 } else if (arraySchema.getItems().get$ref() != null) {
-                    paramType = getValidName(extractReferenceType(
-                            arraySchema.getItems().get$ref().trim()), true) + SQUARE_BRACKETS;
+                    paramType = generationContext.getReferencedTypeName(arraySchema.getItems().get$ref().trim()) +
+                            SQUARE_BRACKETS;
                 } else {
                     throw new BallerinaOpenApiException("Please define the array item type of the parameter : " +
                             parameter.getName());
@@ -369,8 +391,8 @@ public class FunctionSignatureGenerator {
         String type = "";
         Schema parameterSchema = parameter.getSchema();
         if (parameterSchema.get$ref() != null) {
-            type = getValidName(extractReferenceType(parameterSchema.get$ref()), true);
-            Schema schema = openAPI.getComponents().getSchemas().get(type.trim());
+            type = generationContext.getReferencedTypeName(parameterSchema.get$ref());
+            Schema schema = generationContext.getReferencedSchema(parameterSchema.get$ref());
             if (schema instanceof ObjectSchema) {
                 throw new BallerinaOpenApiException("Ballerina does not support object type path parameters.");
             }
@@ -495,7 +517,7 @@ public class FunctionSignatureGenerator {
                 if (next.getKey().equals(ANY_TYPE) || next.getKey().contains(VENDOR_SPECIFIC_TYPE)) {
                     paramType = SyntaxKind.BYTE_KEYWORD.stringValue() + SQUARE_BRACKETS;
                 } else if (schema.get$ref() != null) {
-                    paramType = getValidName(extractReferenceType(schema.get$ref().trim()), true);
+                    paramType = generationContext.getReferencedTypeName(schema.get$ref().trim());
                 } else if (schema.getType() != null && !schema.getType().equals(ARRAY) && !schema.getType().equals(
                         OBJECT)) {
                     String typeOfPayload = schema.getType().trim();
@@ -568,7 +590,7 @@ public class FunctionSignatureGenerator {
         if (arrayItems.getType() != null) {
             paramType = convertOpenAPITypeToBallerina(arrayItems.getType()) + SQUARE_BRACKETS;
         } else if (arrayItems.get$ref() != null) {
-            paramType = getValidName(extractReferenceType(arrayItems.get$ref()), true) + SQUARE_BRACKETS;
+            paramType = generationContext.getReferencedTypeName(arrayItems.get$ref()) + SQUARE_BRACKETS;
         } else if (arrayItems instanceof ComposedSchema) {
             paramType = "CompoundArrayItem" + getValidName(operationId, true) + "Request";
             // TODO - Add API doc by checking requestBody
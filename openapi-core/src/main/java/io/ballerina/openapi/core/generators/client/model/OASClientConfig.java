@@ -18,6 +18,7 @@
 package io.ballerina.openapi.core.generators.client.model;
 
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
@@ -32,6 +33,7 @@ public class OASClientConfig {
     private final boolean resourceMode;
     private final boolean isPlugin;
     private final String license;
+    private final GenerationContext generationContext;
 
 
     private OASClientConfig(Builder clientConfigBuilder) {
@@ -41,6 +43,7 @@ public class OASClientConfig {
         this.isPlugin = clientConfigBuilder.isPlugin;
         this.resourceMode = clientConfigBuilder.resourceMode;
         this.license = clientConfigBuilder.license;
+        this.generationContext = new GenerationContext(openAPI, nullable);
     }
 
     public OpenAPI getOpenAPI() {
@@ -67,6 +70,13 @@ public class OASClientConfig {
         return license;
     }
 
+    /**
+     * Returns the context shared by the generators of this client generation.
+     */
+    public GenerationContext getGenerationContext() {
+        return generationContext;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * What the function of an operation needs from the rest of the generated client: the imports of the client file,
+ * the kinds of util functions of the utils file and the inline types of the types file. Recording these for each
+ * function lets a function be generated again on its own, while the functions of the other operations are kept.
+ *
+ * @since 1.3.0
+ */
+public class RemoteFunctionDependencies {
+
+    private final List<String> imports;
+    private final Set<String> requiredUtils;
+    private final List<String> typeNames;
+
+    /**
+     * @param imports       names of the imported modules of the {@code ballerina} organization, e.g. {@code mime}
+     * @param requiredUtils kinds of util functions, see
+     *                      {@link io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator#getRequiredUtils()}
+     * @param typeNames     names of the inline types generated for the function
+     */
+    public RemoteFunctionDependencies(List<String> imports, Set<String> requiredUtils, List<String> typeNames) {
+        this.imports = Collections.unmodifiableList(imports);
+        this.requiredUtils = Collections.unmodifiableSet(requiredUtils);
+        this.typeNames = Collections.unmodifiableList(typeNames);
+    }
+
+    public List<String> getImports() {
+        return imports;
+    }
+
+    public Set<String> getRequiredUtils() {
+        return requiredUtils;
+    }
+
+    public List<String> getTypeNames() {
+        return typeNames;
+    }
+}
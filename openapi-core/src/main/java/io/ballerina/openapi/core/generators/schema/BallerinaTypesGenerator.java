@@ -36,12 +36,12 @@ import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
-import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.AllOfRecordTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.ArrayTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.RecordTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.UnionTypeGenerator;
-import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.TypeDefinitionRegistry;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.Components;
@@ -49,9 +49,13 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -65,8 +69,27 @@ import static io.ballerina.openapi.converter.Constants.HTTP;
  */
 public class BallerinaTypesGenerator {
 
-    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    /**
+     * Minimum number of component schemas for which the type definitions are generated in parallel.
+     */
+    private static final int PARALLEL_GENERATION_THRESHOLD = 64;
+
+    private final GenerationContext context;
+    private TypeDefinitionRegistry typeDefinitionRegistry;
     private boolean hasConstraints;
+    private final Map<String, List<String>> schemaTypeNames = new LinkedHashMap<>();
+
+    /**
+     * This public constructor is used to generate record and other relevant data type within the given code
+     * generation context.
+     *
+     * @param context context of the current code generation
+     */
+    public BallerinaTypesGenerator(GenerationContext context) {
+        this.context = context;
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
+        this.hasConstraints = false;
+    }
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -76,9 +99,7 @@ public class BallerinaTypesGenerator {
      * @param isNullable nullable value
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable) {
-        GeneratorMetaData.createInstance(openAPI, isNullable);
-        this.typeDefinitionNodeList = new LinkedList<>();
-        this.hasConstraints = false;
+        this(new GenerationContext(openAPI, isNullable));
     }
 
     /**
@@ -89,43 +110,130 @@ public class BallerinaTypesGenerator {
      */
     public BallerinaTypesGenerator(OpenAPI openAPI) {
         this(openAPI, false);
-        GeneratorMetaData.createInstance(openAPI, false);
+    }
+
+    /**
+     * Returns the context of the code generation this generator belongs to.
+     */
+    public GenerationContext getGenerationContext() {
+        return context;
     }
 
     /**
      * Set the typeDefinitionNodeList.
      */
     public void setTypeDefinitionNodeList(List<TypeDefinitionNode> typeDefinitionNodeList) {
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
+        this.typeDefinitionRegistry.registerAll(typeDefinitionNodeList);
+    }
+
+    /**
+     * Set the registry that the generated type definitions are added to.
+     */
+    public void setTypeDefinitionRegistry(TypeDefinitionRegistry typeDefinitionRegistry) {
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
+    }
+
+    /**
+     * Returns the registry of the type definitions generated for the module.
+     */
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
+        return typeDefinitionRegistry;
     }
 
     /**
      * Generate syntaxTree for component schema.
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
-        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        OpenAPI openAPI = context.getOpenAPI();
         List<TypeDefinitionNode> typeDefinitionNodeListForSchema = new ArrayList<>();
         if (openAPI.getComponents() != null) {
             // Create typeDefinitionNode
             Components components = openAPI.getComponents();
             Map<String, Schema> schemas = components.getSchemas();
             if (schemas != null) {
+                List<Map.Entry<String, Schema>> validSchemas = new ArrayList<>();
                 for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
                     String schemaKey = schema.getKey().trim();
                     if (!hasConstraints) {
                         hasConstraints = GeneratorUtils.hasConstraints(schema.getValue());
                     }
                     if (GeneratorUtils.isValidSchemaName(schemaKey)) {
-                        List<Node> schemaDoc = new ArrayList<>();
-                        typeDefinitionNodeListForSchema.add(getTypeDefinitionNode
-                                (schema.getValue(), schemaKey, schemaDoc));
+                        validSchemas.add(schema);
                     }
                 }
+                // Type generators are merged in the schema order, so that the output does not depend on whether
+                // they were generated in parallel.
+                List<SchemaType> schemaTypes = generateSchemaTypes(validSchemas);
+                for (int i = 0; i < schemaTypes.size(); i++) {
+                    SchemaType schemaType = schemaTypes.get(i);
+                    List<TypeDefinitionNode> inlineTypes = getInlineTypes(schemaType.typeGenerator);
+                    typeDefinitionRegistry.registerAll(inlineTypes);
+                    typeDefinitionNodeListForSchema.add(schemaType.typeDefinitionNode);
+
+                    List<String> typeNames = new ArrayList<>();
+                    for (TypeDefinitionNode inlineType : inlineTypes) {
+                        typeNames.add(inlineType.typeName().text());
+                    }
+                    typeNames.add(schemaType.typeDefinitionNode.typeName().text());
+                    schemaTypeNames.put(validSchemas.get(i).getKey(), typeNames);
+                }
+            }
+        }
+        return createSyntaxTree(typeDefinitionNodeListForSchema);
+    }
+
+    /**
+     * Generate the syntax tree of already generated type definitions, without generating the component schemas
+     * again. This is used to regenerate only the type definitions of the changed schemas of a definition.
+     *
+     * @param inlineTypes type definitions of the inline schemas, in the order they were generated
+     * @param schemaTypes type definitions of the component schemas, in the order of the schemas
+     * @return syntax tree of the types module
+     */
+    public SyntaxTree generateSyntaxTree(List<TypeDefinitionNode> inlineTypes, List<TypeDefinitionNode> schemaTypes) {
+        OpenAPI openAPI = context.getOpenAPI();
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (Schema<?> schema : openAPI.getComponents().getSchemas().values()) {
+                if (!hasConstraints) {
+                    hasConstraints = GeneratorUtils.hasConstraints(schema);
+                }
             }
         }
+        typeDefinitionRegistry.registerAll(inlineTypes);
+        return createSyntaxTree(schemaTypes);
+    }
+
+    /**
+     * Generate the type definitions of the given component schema, without adding them to this generator.
+     *
+     * @param schemaName name of the component schema
+     * @param schema     component schema
+     * @return type definitions of the inline schemas of the schema, followed by the type definition of the schema
+     * @throws BallerinaOpenApiException when unsupported schema type is found
+     */
+    public List<TypeDefinitionNode> generateSchemaTypeDefinitions(String schemaName, Schema schema)
+            throws BallerinaOpenApiException {
+        SchemaType schemaType = generateSchemaType(schema, schemaName.trim(), new ArrayList<>());
+        List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>(getInlineTypes(schemaType.typeGenerator));
+        typeDefinitionNodes.add(schemaType.typeDefinitionNode);
+        return typeDefinitionNodes;
+    }
+
+    /**
+     * Returns the names of the type definitions generated for each component schema by {@link #generateSyntaxTree()},
+     * the inline types of the schema followed by the type of the schema itself.
+     */
+    public Map<String, List<String>> getSchemaTypeNames() {
+        return Collections.unmodifiableMap(schemaTypeNames);
+    }
+
+    private SyntaxTree createSyntaxTree(List<TypeDefinitionNode> typeDefinitionNodeListForSchema) {
         //Create imports for the http module, when record has http type inclusions.
         NodeList<ImportDeclarationNode> imports = generateImportNodes();
-        typeDefinitionNodeList.addAll(typeDefinitionNodeListForSchema);
+        // The component schema types take precedence over the inline types of the same name
+        typeDefinitionRegistry.registerSchemaTypes(typeDefinitionNodeListForSchema);
+        List<TypeDefinitionNode> typeDefinitionNodeList = typeDefinitionRegistry.getTypeDefinitions();
         // Create module member declaration
         NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createNodeList(
                 typeDefinitionNodeList.toArray(new TypeDefinitionNode[typeDefinitionNodeList.size()]));
@@ -140,11 +248,10 @@ public class BallerinaTypesGenerator {
 
     private NodeList<ImportDeclarationNode> generateImportNodes() {
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        if (!typeDefinitionNodeList.isEmpty()) {
+        if (!typeDefinitionRegistry.isEmpty()) {
             importsForTypeDefinitions(imports);
         }
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
-        if (hasConstraints && !nullable) {
+        if (hasConstraints && !context.isNullable()) {
             //import for constraint
             ImportDeclarationNode importForConstraint = GeneratorUtils.getImportDeclarationNode(
                     GeneratorConstants.BALLERINA,
@@ -158,7 +265,7 @@ public class BallerinaTypesGenerator {
     }
 
     private void importsForTypeDefinitions(List<ImportDeclarationNode> imports) {
-        for (TypeDefinitionNode node : typeDefinitionNodeList) {
+        for (TypeDefinitionNode node : typeDefinitionRegistry.getTypeDefinitions()) {
             if (!(node.typeDescriptor() instanceof RecordTypeDescriptorNode)) {
                 continue;
             }
@@ -194,51 +301,93 @@ public class BallerinaTypesGenerator {
      */
     public TypeDefinitionNode getTypeDefinitionNode(Schema schema, String typeName, List<Node> schemaDocs)
             throws BallerinaOpenApiException {
+        SchemaType schemaType = generateSchemaType(schema, typeName, schemaDocs);
+        registerInlineTypes(schemaType.typeGenerator);
+        return schemaType.typeDefinitionNode;
+    }
+
+    /**
+     * Generate the type definitions of the given component schemas. Large component sections are generated on the
+     * common fork-join pool, as the schemas are independent of each other. The result is in the order of the given
+     * schemas.
+     */
+    private List<SchemaType> generateSchemaTypes(List<Map.Entry<String, Schema>> schemas)
+            throws BallerinaOpenApiException {
+        if (schemas.size() < PARALLEL_GENERATION_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            List<SchemaType> schemaTypes = new ArrayList<>();
+            for (Map.Entry<String, Schema> schema : schemas) {
+                schemaTypes.add(generateSchemaType(schema.getValue(), schema.getKey().trim(), new ArrayList<>()));
+            }
+            return schemaTypes;
+        }
+        try {
+            return schemas.parallelStream().map(schema -> {
+                try {
+                    return generateSchemaType(schema.getValue(), schema.getKey().trim(), new ArrayList<>());
+                } catch (BallerinaOpenApiException e) {
+                    throw new CompletionException(e);
+                }
+            }).collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BallerinaOpenApiException) {
+                throw (BallerinaOpenApiException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Create the type definition of a schema without touching the state of this generator, so that it can be
+     * called concurrently for different schemas.
+     */
+    private SchemaType generateSchemaType(Schema schema, String typeName, List<Node> schemaDocs)
+            throws BallerinaOpenApiException {
         IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(GeneratorUtils.getValidName(
                 typeName.trim(), true));
         TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
-                typeName.trim(), true), null);
+                typeName.trim(), true), null, context);
         List<AnnotationNode> typeAnnotations = new ArrayList<>();
         AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(schema);
         if (constraintNode != null) {
             typeAnnotations.add(constraintNode);
         }
-        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations);
+        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations, context.getOpenAPI());
         TypeDefinitionNode typeDefinitionNode =
                 typeGenerator.generateTypeDefinitionNode(typeNameToken, schemaDocs, typeAnnotations);
+        return new SchemaType(typeGenerator, typeDefinitionNode);
+    }
 
+    /**
+     * Add the type definitions created by a type generator for inline schemas and constrained array items.
+     */
+    private void registerInlineTypes(TypeGenerator typeGenerator) {
+        typeDefinitionRegistry.registerAll(getInlineTypes(typeGenerator));
+    }
+
+    private static List<TypeDefinitionNode> getInlineTypes(TypeGenerator typeGenerator) {
         if (typeGenerator instanceof ArrayTypeGenerator &&
                 ((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint() != null) {
-            typeDefinitionNodeList.add(((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint());
-        } else if (typeGenerator instanceof RecordTypeGenerator &&
-                !((RecordTypeGenerator) typeGenerator).getTypeDefinitionNodeList().isEmpty()) {
-            removeDuplicateNode(((RecordTypeGenerator) typeGenerator).getTypeDefinitionNodeList());
-        } else if (typeGenerator instanceof AllOfRecordTypeGenerator &&
-                !((AllOfRecordTypeGenerator) typeGenerator).getTypeDefinitionNodeList().isEmpty()) {
-            removeDuplicateNode(((AllOfRecordTypeGenerator) typeGenerator).getTypeDefinitionNodeList());
-        } else if (typeGenerator instanceof UnionTypeGenerator &&
-                !((UnionTypeGenerator) typeGenerator).getTypeDefinitionNodeList().isEmpty()) {
-            removeDuplicateNode(((UnionTypeGenerator) typeGenerator).getTypeDefinitionNodeList());
+            return List.of(((ArrayTypeGenerator) typeGenerator).getArrayItemWithConstraint());
+        } else if (typeGenerator instanceof RecordTypeGenerator) {
+            // Also covers the allOf record type generator
+            return ((RecordTypeGenerator) typeGenerator).getTypeDefinitionNodeList();
+        } else if (typeGenerator instanceof UnionTypeGenerator) {
+            return ((UnionTypeGenerator) typeGenerator).getTypeDefinitionNodeList();
         }
-        return typeDefinitionNode;
+        return Collections.emptyList();
     }
 
     /**
-     * Remove duplicate of the TypeDefinitionNode.
+     * Type definition generated for a schema together with the generator that created it.
      */
-    private void removeDuplicateNode(List<TypeDefinitionNode> newConstraintNode) {
+    private static class SchemaType {
 
-        for (TypeDefinitionNode newNode : newConstraintNode) {
-            boolean isExist = false;
-            for (TypeDefinitionNode oldNode : typeDefinitionNodeList) {
-                if (newNode.typeName().text().equals(oldNode.typeName().text())) {
-                    isExist = true;
-                    break;
-                }
-            }
-            if (!isExist) {
-                typeDefinitionNodeList.add(newNode);
-            }
+        private final TypeGenerator typeGenerator;
+        private final TypeDefinitionNode typeDefinitionNode;
+
+        SchemaType(TypeGenerator typeGenerator, TypeDefinitionNode typeDefinitionNode) {
+            this.typeGenerator = typeGenerator;
+            this.typeDefinitionNode = typeDefinitionNode;
         }
     }
 }
@@ -46,7 +46,7 @@ import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.Recor
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.ReferencedTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.UnionTypeGenerator;
-import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
@@ -93,28 +93,30 @@ public class TypeGeneratorUtils {
      *
      * @param schemaValue Schema object
      * @param typeName    parameter name
+     * @param context     context of the current code generation
      * @return Relevant SchemaType object
      */
-    public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName, String parentName) {
+    public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName, String parentName,
+                                                 GenerationContext context) {
 
         if (schemaValue.get$ref() != null) {
-            return new ReferencedTypeGenerator(schemaValue, typeName);
+            return new ReferencedTypeGenerator(schemaValue, typeName, context);
         } else if (schemaValue instanceof ComposedSchema) {
             ComposedSchema composedSchema = (ComposedSchema) schemaValue;
             if (composedSchema.getAllOf() != null) {
-                return new AllOfRecordTypeGenerator(schemaValue, typeName);
+                return new AllOfRecordTypeGenerator(schemaValue, typeName, context);
             } else {
-                return new UnionTypeGenerator(schemaValue, typeName);
+                return new UnionTypeGenerator(schemaValue, typeName, context);
             }
         } else if ((schemaValue.getType() != null && schemaValue.getType().equals(GeneratorConstants.OBJECT)) ||
                 schemaValue instanceof ObjectSchema || schemaValue.getProperties() != null) {
-            return new RecordTypeGenerator(schemaValue, typeName);
+            return new RecordTypeGenerator(schemaValue, typeName, context);
         } else if (schemaValue instanceof ArraySchema) {
-            return new ArrayTypeGenerator(schemaValue, typeName, parentName);
+            return new ArrayTypeGenerator(schemaValue, typeName, parentName, context);
         } else if (schemaValue.getType() != null && primitiveTypeList.contains(schemaValue.getType())) {
-            return new PrimitiveTypeGenerator(schemaValue, typeName);
+            return new PrimitiveTypeGenerator(schemaValue, typeName, context);
         } else { // when schemaValue.type == null
-            return new AnyDataTypeGenerator(schemaValue, typeName);
+            return new AnyDataTypeGenerator(schemaValue, typeName, context);
         }
     }
 
@@ -129,11 +131,12 @@ public class TypeGeneratorUtils {
      *
      * @param schema           Schema of the property
      * @param originalTypeDesc Type name
+     * @param nullable         Whether the nullable option is enabled for the code generation
      * @return Final type of the field
      */
-    public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc) {
+    public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc,
+                                                     boolean nullable) {
         TypeDescriptorNode nillableType = originalTypeDesc;
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
         if (schema.getNullable() != null) {
             if (schema.getNullable()) {
                 nillableType = createOptionalTypeDescriptorNode(originalTypeDesc, createToken(QUESTION_MARK_TOKEN));
@@ -150,10 +153,11 @@ public class TypeGeneratorUtils {
                                              Schema<?> fieldSchema,
                                              NodeList<Node> schemaDocNodes,
                                              IdentifierToken fieldName,
-                                             TypeDescriptorNode fieldTypeName) {
+                                             TypeDescriptorNode fieldTypeName,
+                                             boolean nullable) {
 
         updateRecordFieldList(required, recordFieldList, field, fieldSchema, schemaDocNodes, fieldName,
-                fieldTypeName, System.err);
+                fieldTypeName, nullable, System.err);
     }
 
     public static void updateRecordFieldList(List<String> required,
@@ -163,6 +167,7 @@ public class TypeGeneratorUtils {
                                              NodeList<Node> schemaDocNodes,
                                              IdentifierToken fieldName,
                                              TypeDescriptorNode fieldTypeName,
+                                             boolean nullable,
                                              PrintStream outStream) {
 
         MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(schemaDocNodes);
@@ -173,7 +178,6 @@ public class TypeGeneratorUtils {
                 constraintNode != null && fieldSchema.getNullable() != null && fieldSchema.getNullable() ||
                         (fieldSchema instanceof ComposedSchema && (((ComposedSchema) fieldSchema).getOneOf() != null ||
                                 ((ComposedSchema) fieldSchema).getAnyOf() != null));
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
         if (nullable) {
             constraintNode = null;
         } else if (isConstraintSupport) {
@@ -429,10 +433,11 @@ public class TypeGeneratorUtils {
     /**
      * Creates API documentation for record fields.
      *
-     * @param field Schema of the field to generate
+     * @param field   Schema of the field to generate
+     * @param openAPI OAS definition used to resolve the referred schemas
      * @return Documentation node list
      */
-    public static List<Node> getFieldApiDocs(Schema<?> field) {
+    public static List<Node> getFieldApiDocs(Schema<?> field, OpenAPI openAPI) {
 
         List<Node> schemaDoc = new ArrayList<>();
         if (field.getDescription() != null) {
@@ -441,7 +446,6 @@ public class TypeGeneratorUtils {
         } else if (field.get$ref() != null) {
             String[] split = field.get$ref().trim().split("/");
             String componentName = GeneratorUtils.getValidName(split[split.length - 1], true);
-            OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
             if (openAPI.getComponents().getSchemas().get(componentName) != null) {
                 Schema<?> schema = openAPI.getComponents().getSchemas().get(componentName);
                 if (schema.getDescription() != null) {
@@ -459,9 +463,11 @@ public class TypeGeneratorUtils {
      * @param documentation   Documentation node list
      * @param schemaValue     OpenAPI schema
      * @param typeAnnotations Annotation list of the record
+     * @param openAPI         OAS definition used to resolve the referred schemas
      */
     public static void getRecordDocs(List<Node> documentation, Schema schemaValue,
-                                     List<AnnotationNode> typeAnnotations) throws BallerinaOpenApiException {
+                                     List<AnnotationNode> typeAnnotations, OpenAPI openAPI)
+            throws BallerinaOpenApiException {
 
         if (schemaValue.getDescription() != null) {
             documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
@@ -469,8 +475,7 @@ public class TypeGeneratorUtils {
         } else if (schemaValue.get$ref() != null) {
             String typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(
                     schemaValue.get$ref()), true);
-            Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().
-                    getComponents().getSchemas().get(typeName);
+            Schema<?> refSchema = openAPI.getComponents().getSchemas().get(typeName);
             if (refSchema.getDescription() != null) {
                 documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                         refSchema.getDescription(), false));
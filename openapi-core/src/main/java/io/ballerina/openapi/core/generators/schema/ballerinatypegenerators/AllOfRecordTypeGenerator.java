@@ -27,6 +27,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -66,9 +67,9 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
  * @since 1.3.0
  */
 public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
-    public AllOfRecordTypeGenerator(Schema schema, String typeName) {
+    public AllOfRecordTypeGenerator(Schema schema, String typeName, GenerationContext context) {
 
-        super(schema, typeName);
+        super(schema, typeName, context);
     }
 
     /**
@@ -82,7 +83,7 @@ public class AllOfRecordTypeGenerator extends RecordTypeGenerator {
         List<Schema> allOfSchemas = composedSchema.getAllOf();
         if (allOfSchemas.size() == 1 && allOfSchemas.get(0).get$ref() != null) {
             ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(allOfSchemas.get(0),
-                    typeName);
+                    typeName, context);
             return referencedTypeGenerator.generateTypeDescriptorNode();
         } else {
             List<Node> recordFieldList = generateAllOfRecordFields(allOfSchemas);
@@ -22,6 +22,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.media.Schema;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -44,8 +45,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class AnyDataTypeGenerator extends TypeGenerator {
 
-    public AnyDataTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public AnyDataTypeGenerator(Schema schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     /**
@@ -54,6 +55,6 @@ public class AnyDataTypeGenerator extends TypeGenerator {
     @Override
     public TypeDescriptorNode generateTypeDescriptorNode() throws BallerinaOpenApiException {
         return TypeGeneratorUtils.getNullableType(schema, createSimpleNameReferenceNode(
-                createIdentifierToken(GeneratorConstants.ANY_DATA)));
+                createIdentifierToken(GeneratorConstants.ANY_DATA)), context.isNullable());
     }
 }
@@ -33,6 +33,7 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -68,8 +69,9 @@ public class ArrayTypeGenerator extends TypeGenerator {
     private String parentType = null;
     private TypeDefinitionNode arrayItemWithConstraint = null;
 
-    public ArrayTypeGenerator(Schema schema, String typeName, String parentType) {
-        super(schema, typeName);
+    public ArrayTypeGenerator(Schema schema, String typeName, String parentType,
+                              GenerationContext context) {
+        super(schema, typeName, context);
         this.parentType = parentType;
     }
 
@@ -96,7 +98,7 @@ public class ArrayTypeGenerator extends TypeGenerator {
                             parentType + "-" + normalizedTypeName + "-Items-" + items.getType() :
                             normalizedTypeName + "-Items-" + items.getType(),
                     true);
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, context);
             List<AnnotationNode> typeAnnotations = new ArrayList<>();
             AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(items);
             if (constraintNode != null) {
@@ -107,7 +109,7 @@ public class ArrayTypeGenerator extends TypeGenerator {
                     new ArrayList<>(),
                     typeAnnotations);
         } else {
-            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null);
+            typeGenerator = TypeGeneratorUtils.getTypeGenerator(items, typeName, null, context);
         }
 
         TypeDescriptorNode typeDescriptorNode;
@@ -146,6 +148,6 @@ public class ArrayTypeGenerator extends TypeGenerator {
         ArrayTypeDescriptorNode arrayTypeDescriptorNode = createArrayTypeDescriptorNode(typeDescriptorNode
                 , arrayDimensions);
 
-        return getNullableType(arraySchema, arrayTypeDescriptorNode);
+        return getNullableType(arraySchema, arrayTypeDescriptorNode, context.isNullable());
     }
 }
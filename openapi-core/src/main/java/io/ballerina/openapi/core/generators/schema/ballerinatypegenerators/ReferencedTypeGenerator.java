@@ -19,15 +19,10 @@
 package io.ballerina.openapi.core.generators.schema.ballerinatypegenerators;
 
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
-import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
-import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
-import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.media.Schema;
 
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
-import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
-
 /**
  * Generate TypeDefinitionNode and TypeDescriptorNode for referenced schemas.
  * -- ex:
@@ -49,8 +44,8 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
  */
 public class ReferencedTypeGenerator extends TypeGenerator {
 
-    public ReferencedTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public ReferencedTypeGenerator(Schema schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     /**
@@ -59,13 +54,6 @@ public class ReferencedTypeGenerator extends TypeGenerator {
     @Override
     public TypeDescriptorNode generateTypeDescriptorNode() throws BallerinaOpenApiException {
 
-        String typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(schema.get$ref()), true);
-        Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas().get(typeName);
-        TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
-        if (refSchema == null) {
-            throw new BallerinaOpenApiException(String.format("Undefined $ref: '%s' in openAPI contract.",
-                    schema.get$ref()));
-        }
-        return TypeGeneratorUtils.getNullableType(refSchema, typeDescriptorNode);
+        return context.getReferencedTypeDescriptor(schema.get$ref());
     }
 }
@@ -26,6 +26,7 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.List;
@@ -48,10 +49,12 @@ public abstract class TypeGenerator {
 
     Schema schema;
     String typeName;
+    final GenerationContext context;
 
-    public TypeGenerator(Schema schema, String typeName) {
+    public TypeGenerator(Schema schema, String typeName, GenerationContext context) {
         this.schema = schema;
         this.typeName = typeName;
+        this.context = context;
     }
 
     /**
@@ -24,7 +24,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
-import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.ballerina.openapi.core.model.GenerationContext;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -56,8 +56,8 @@ import static io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils.get
  */
 public class UnionTypeGenerator extends TypeGenerator {
 
-    public UnionTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public UnionTypeGenerator(Schema schema, String typeName, GenerationContext context) {
+        super(schema, typeName, context);
     }
 
     private final List<TypeDefinitionNode> typeDefinitionNodeList = new ArrayList<>();
@@ -78,7 +78,7 @@ public class UnionTypeGenerator extends TypeGenerator {
             schemas = composedSchema.getAnyOf();
         }
         TypeDescriptorNode unionTypeDesc = getUnionType(schemas, typeName);
-        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc);
+        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc, context.isNullable());
     }
 
     /**
@@ -94,10 +94,9 @@ public class UnionTypeGenerator extends TypeGenerator {
 
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
         for (Schema schema : schemas) {
-            TypeGenerator typeGenerator = getTypeGenerator(schema, typeName, null);
+            TypeGenerator typeGenerator = getTypeGenerator(schema, typeName, null, context);
             TypeDescriptorNode typeDescriptorNode = typeGenerator.generateTypeDescriptorNode();
-            if (typeDescriptorNode instanceof OptionalTypeDescriptorNode &&
-                    GeneratorMetaData.getInstance().isNullable()) {
+            if (typeDescriptorNode instanceof OptionalTypeDescriptorNode && context.isNullable()) {
                 Node internalTypeDesc = ((OptionalTypeDescriptorNode) typeDescriptorNode).typeDescriptor();
                 typeDescriptorNode = (TypeDescriptorNode) internalTypeDesc;
             }
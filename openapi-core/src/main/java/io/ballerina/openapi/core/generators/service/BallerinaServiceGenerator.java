@@ -44,12 +44,14 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.GenerationContext;
+import io.ballerina.openapi.core.model.OASOperation;
+import io.ballerina.openapi.core.model.OperationAnalysis;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 
 import java.util.ArrayList;
@@ -58,7 +60,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -82,16 +83,23 @@ import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtil
  */
 public class BallerinaServiceGenerator {
     private boolean isNullableRequired;
+    private final GenerationContext context;
     private final OpenAPI openAPI;
     private final Filter filter;
     private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
+    private List<Node> resourceFunctions;
 
-    public BallerinaServiceGenerator(OpenAPI openAPI, Filter filter) {
-        this.openAPI = openAPI;
+    public BallerinaServiceGenerator(GenerationContext context, Filter filter) {
+        this.context = context;
+        this.openAPI = context.getOpenAPI();
         this.filter = filter;
         this.isNullableRequired = false;
     }
 
+    public BallerinaServiceGenerator(OpenAPI openAPI, Filter filter) {
+        this(new GenerationContext(openAPI, false), filter);
+    }
+
     public List<TypeDefinitionNode> getTypeInclusionRecords() {
         List<TypeDefinitionNode> typeRecords = new ArrayList<>();
         this.typeInclusionRecords.forEach((key, value) -> {
@@ -111,8 +119,8 @@ public class BallerinaServiceGenerator {
         SimpleNameReferenceNode listenerName = createSimpleNameReferenceNode(listenerDeclarationNode.variableName());
         SeparatedNodeList<ExpressionNode> expressions = createSeparatedNodeList(listenerName);
 
-        // Fill the members with function
-        List<Node> functions = createResourceFunctions(openAPI, filter);
+        // Fill the members with function, unless they were added while generating the client of the same definition
+        List<Node> functions = resourceFunctions != null ? resourceFunctions : createResourceFunctions(filter);
 
         NodeList<Node> members = createNodeList(functions);
         // Create annotation if nullable property is enabled
@@ -142,18 +150,28 @@ public class BallerinaServiceGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
-    private List<Node> createResourceFunctions(OpenAPI openApi, Filter filter) throws BallerinaOpenApiException {
+    /**
+     * Generate the resource function of the given operation and add it to the service. Once a resource function is
+     * added, {@link #generateSyntaxTree()} uses the added functions instead of traversing the operations again.
+     * <p>
+     * This is used to generate the client and the service of a definition in a single traversal of the operations,
+     * reusing the analysis of each operation created for the client.
+     *
+     * @param operationAnalysis analysis of an operation selected by the filter of this generator
+     * @throws BallerinaOpenApiException when the resource function generation fails
+     */
+    public void addResourceFunction(OperationAnalysis operationAnalysis) throws BallerinaOpenApiException {
+        if (resourceFunctions == null) {
+            resourceFunctions = new ArrayList<>();
+        }
+        resourceFunctions.add(getResourceFunction(operationAnalysis));
+    }
+
+    private List<Node> createResourceFunctions(Filter filter) throws BallerinaOpenApiException {
 
         List<Node> functions = new ArrayList<>();
-        if (!openApi.getPaths().isEmpty()) {
-            Paths paths = openApi.getPaths();
-            Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
-            for (Map.Entry<String, PathItem> path : pathsItems) {
-                if (!path.getValue().readOperationsMap().isEmpty()) {
-                    Map<PathItem.HttpMethod, Operation> operationMap = path.getValue().readOperationsMap();
-                    functions.addAll(applyFiltersForOperations(filter, path.getKey(), operationMap));
-                }
-            }
+        for (OASOperation operation : context.getOASIndex().getOperations(filter)) {
+            functions.add(getResourceFunction(OperationAnalysis.of(operation, openAPI)));
         }
         return functions;
     }
@@ -171,72 +189,32 @@ public class BallerinaServiceGenerator {
         }
     }
 
-    private List<Node> applyFiltersForOperations(Filter filter, String path,
-                                                 Map<PathItem.HttpMethod, Operation> operationMap)
-            throws BallerinaOpenApiException {
-
-        List<Node> functions = new ArrayList<>();
-        for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
-            //Add filter availability
-            //1.Tag filter
-            //2.Operation filter
-            //3. Both tag and operation filter
-            List<String> filterTags = filter.getTags();
-            List<String> operationTags = operation.getValue().getTags();
-            List<String> filterOperations = filter.getOperations();
-            if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
-                if (operationTags != null || ((!filterOperations.isEmpty())
-                        && (operation.getValue().getOperationId() != null))) {
-                    if ((operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) ||
-                            ((operation.getValue().getOperationId() != null) &&
-                                    filterOperations.contains(operation.getValue().getOperationId().trim()))) {
-                        // getRelative resource path
-                        List<Node> functionRelativeResourcePath = GeneratorUtils.getRelativeResourcePath(path,
-                                operation.getValue());
-                        // function call
-                        FunctionDefinitionNode functionDefinitionNode = getResourceFunction(operation,
-                                functionRelativeResourcePath, path);
-                        functions.add(functionDefinitionNode);
-                    }
-                }
-            } else {
-                // getRelative resource path
-                List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(path, operation.getValue());
-                // function call
-                FunctionDefinitionNode resourceFunction = getResourceFunction(operation, relativeResourcePath, path);
-                functions.add(resourceFunction);
-            }
-        }
-        return functions;
-    }
-
     /**
      * Generate resource function for given operation.
      *
-     * @param operation -  OAS operation
-     * @param pathNodes -  Relative path nodes
+     * @param operationAnalysis -  analysis of the OAS operation
      * @return - {@link FunctionDefinitionNode} relevant resource
      * @throws BallerinaOpenApiException when the process failure occur
      */
-    private FunctionDefinitionNode getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
-                                                       List<Node> pathNodes, String path)
+    private FunctionDefinitionNode getResourceFunction(OperationAnalysis operationAnalysis)
             throws BallerinaOpenApiException {
 
+        Map.Entry<PathItem.HttpMethod, Operation> operation = operationAnalysis.getOperationEntry();
+        String path = operationAnalysis.getPath();
         NodeList<Token> qualifiersList = createNodeList(createIdentifierToken(GeneratorConstants.RESOURCE,
                 GeneratorUtils.SINGLE_WS_MINUTIAE, GeneratorUtils.SINGLE_WS_MINUTIAE));
         Token functionKeyWord = createIdentifierToken(GeneratorConstants.FUNCTION, GeneratorUtils.SINGLE_WS_MINUTIAE,
                 GeneratorUtils.SINGLE_WS_MINUTIAE);
         IdentifierToken functionName = createIdentifierToken(operation.getKey().name()
                 .toLowerCase(Locale.ENGLISH), GeneratorUtils.SINGLE_WS_MINUTIAE, GeneratorUtils.SINGLE_WS_MINUTIAE);
-        NodeList<Node> relativeResourcePath = createNodeList(pathNodes);
+        NodeList<Node> relativeResourcePath = createNodeList(operationAnalysis.getRelativeResourcePath());
         ParametersGenerator parametersGenerator = new ParametersGenerator(false);
-        parametersGenerator.generateResourcesInputs(operation);
+        parametersGenerator.generateResourcesInputs(operationAnalysis.getParameters());
         List<Node> params = new ArrayList<>(parametersGenerator.getRequiredParams());
 
-        // Handle request Body (Payload)
-        if (operation.getValue().getRequestBody() != null) {
-            RequestBody requestBody = operation.getValue().getRequestBody();
-            requestBody = resolveRequestBodyReference(requestBody);
+        // Handle request Body (Payload), of which the reference is already resolved
+        if (operationAnalysis.getRequestBody() != null) {
+            RequestBody requestBody = operationAnalysis.getRequestBody();
             if (requestBody.getContent() != null) {
                 RequestBodyGenerator requestBodyGen = new RequestBodyGenerator(this.openAPI.getComponents(),
                         requestBody);
@@ -268,7 +246,7 @@ public class BallerinaServiceGenerator {
 
         // Function Body Node
         // If path parameter has some special characters, extra body statements are added to handle the complexity.
-        List<StatementNode> bodyStatements = GeneratorUtils.generateBodyStatementForComplexUrl(path);
+        List<StatementNode> bodyStatements = operationAnalysis.getComplexPathStatements();
         FunctionBodyBlockNode functionBodyBlockNode = createFunctionBodyBlockNode(
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN),
                 null,
@@ -281,17 +259,4 @@ public class BallerinaServiceGenerator {
                 qualifiersList, functionKeyWord, functionName, relativeResourcePath, functionSignatureNode,
                 functionBodyBlockNode);
     }
-
-    /**
-     * Resolve requestBody reference.
-     */
-    private RequestBody resolveRequestBodyReference(RequestBody requestBody) throws BallerinaOpenApiException {
-
-        if (requestBody.get$ref() != null) {
-            String requestBodyName = GeneratorUtils.extractReferenceType(requestBody.get$ref());
-            requestBody = resolveRequestBodyReference(openAPI.getComponents()
-                    .getRequestBodies().get(requestBodyName.trim()));
-        }
-        return requestBody;
-    }
 }
@@ -105,35 +105,45 @@ public class ParametersGenerator {
     public void generateResourcesInputs(Map.Entry<PathItem.HttpMethod, Operation> operation)
             throws BallerinaOpenApiException {
 
+        if (operation.getValue().getParameters() != null) {
+            generateResourcesInputs(operation.getValue().getParameters());
+        }
+    }
+
+    /**
+     * This function for generating the given operation parameters.
+     *
+     * @param parameters parameters of the OAS operation
+     * @throws BallerinaOpenApiException when the parameter generation fails.
+     */
+    public void generateResourcesInputs(List<Parameter> parameters) throws BallerinaOpenApiException {
+
         Token comma = createToken(SyntaxKind.COMMA_TOKEN);
         // Handle header and query parameters
-        if (operation.getValue().getParameters() != null) {
-            List<Parameter> parameters = operation.getValue().getParameters();
-            for (Parameter parameter : parameters) {
-                if (parameter.getIn().trim().equals(GeneratorConstants.HEADER)) {
-                    ParameterNode param = handleHeader(parameter);
-                    if (param.kind() == SyntaxKind.DEFAULTABLE_PARAM) {
-                        defaultableParams.add(param);
-                        defaultableParams.add(comma);
-                    } else {
-                        requiredParams.add(param);
-                        requiredParams.add(comma);
-                    }
-                } else if (parameter.getIn().trim().equals(GeneratorConstants.QUERY)) {
-                    if (parameter.getRequired() != null && parameter.getRequired() &&
-                            (parameter.getSchema().getNullable() != null && parameter.getSchema().getNullable())) {
-                        isNullableRequired = true;
-                    }
-                    // type  BasicType boolean|int|float|decimal|string ;
-                    // public type () |BasicType|BasicType []| map<json>;
-                    Node param = createNodeForQueryParam(parameter);
-                    if (param.kind() == SyntaxKind.DEFAULTABLE_PARAM) {
-                        defaultableParams.add(param);
-                        defaultableParams.add(comma);
-                    } else {
-                        requiredParams.add(param);
-                        requiredParams.add(comma);
-                    }
+        for (Parameter parameter : parameters) {
+            if (parameter.getIn().trim().equals(GeneratorConstants.HEADER)) {
+                ParameterNode param = handleHeader(parameter);
+                if (param.kind() == SyntaxKind.DEFAULTABLE_PARAM) {
+                    defaultableParams.add(param);
+                    defaultableParams.add(comma);
+                } else {
+                    requiredParams.add(param);
+                    requiredParams.add(comma);
+                }
+            } else if (parameter.getIn().trim().equals(GeneratorConstants.QUERY)) {
+                if (parameter.getRequired() != null && parameter.getRequired() &&
+                        (parameter.getSchema().getNullable() != null && parameter.getSchema().getNullable())) {
+                    isNullableRequired = true;
+                }
+                // type  BasicType boolean|int|float|decimal|string ;
+                // public type () |BasicType|BasicType []| map<json>;
+                Node param = createNodeForQueryParam(parameter);
+                if (param.kind() == SyntaxKind.DEFAULTABLE_PARAM) {
+                    defaultableParams.add(param);
+                    defaultableParams.add(comma);
+                } else {
+                    requiredParams.add(param);
+                    requiredParams.add(comma);
                 }
             }
         }
@@ -18,13 +18,31 @@
 
 package io.ballerina.openapi.core.model;
 
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
  * Model class to hold generated source file information.
+ * <p>
+ * The content of a generated Ballerina source can be held as its formatted syntax tree instead of a string, so that
+ * it is written to the file token by token without materializing the whole source in memory. The content of a very
+ * large source can also be held in a temporary file, which is copied to the generated file.
  *
  * @since 1.3.0
  */
 public class GenSrcFile {
     private String content;
+    private SyntaxTree syntaxTree;
+    private Path contentPath;
     private String fileName;
     private String pkgName;
     private GenFileType type;
@@ -56,12 +74,84 @@ public class GenSrcFile {
         this.content = content;
     }
 
+    public GenSrcFile(GenFileType type, String pkgName, String fileName, SyntaxTree syntaxTree) {
+        this.type = type;
+        this.fileName = fileName;
+        this.syntaxTree = syntaxTree;
+    }
+
+    public GenSrcFile(GenFileType type, String pkgName, String fileName, Path contentPath) {
+        this.type = type;
+        this.fileName = fileName;
+        this.contentPath = contentPath;
+    }
+
+    /**
+     * Returns the content of the file. The content of a file held as a syntax tree is created on each call, so
+     * {@link #writeContent(Writer)} should be preferred for writing it.
+     */
     public String getContent() {
+        if (content == null && syntaxTree != null) {
+            return syntaxTree.toSourceCode();
+        }
+        if (content == null && contentPath != null) {
+            try {
+                return Files.readString(contentPath);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return content;
     }
 
     public void setContent(String content) {
         this.content = content;
+        this.syntaxTree = null;
+        this.contentPath = null;
+    }
+
+    /**
+     * Write the content of the file to the given writer, streaming the tokens of the syntax tree if the file is
+     * held as a syntax tree.
+     *
+     * @param writer writer the content is written to
+     * @throws IOException when writing fails
+     */
+    public void writeContent(Writer writer) throws IOException {
+        if (content == null && syntaxTree != null) {
+            GeneratorUtils.writeSourceCode(syntaxTree.rootNode(), writer);
+        } else if (content == null && contentPath != null) {
+            try (Reader reader = Files.newBufferedReader(contentPath, StandardCharsets.UTF_8)) {
+                reader.transferTo(writer);
+            }
+        } else if (content != null) {
+            writer.write(content);
+        }
+    }
+
+    /**
+     * Check whether the file has no content other than white spaces.
+     */
+    public boolean isBlank() {
+        if (content == null && syntaxTree != null) {
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            return modulePartNode.imports().isEmpty() && modulePartNode.members().isEmpty() &&
+                    modulePartNode.eofToken().toSourceCode().isBlank();
+        }
+        if (content == null && contentPath != null) {
+            // The file is read only up to its first character other than a white space
+            try (Reader reader = Files.newBufferedReader(contentPath, StandardCharsets.UTF_8)) {
+                for (int c = reader.read(); c != -1; c = reader.read()) {
+                    if (!Character.isWhitespace(c)) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return content == null || content.isBlank();
     }
 
     public String getFileName() {
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.TypeGeneratorUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+
+/**
+ * Stores the state shared by the generators of a single code generation.
+ * <p>
+ * A new context is created for each OpenAPI definition and passed explicitly to the client, service, types and
+ * test generators, so that independent definitions can be generated concurrently in the same JVM. The context also
+ * memoizes the resolution of {@code $ref} values, as the same component schemas are referred to from many
+ * operations and schemas of a definition.
+ *
+ * @since 1.3.0
+ */
+public class GenerationContext {
+
+    private final OpenAPI openAPI;
+    private final boolean nullable;
+    private final Map<String, String> referencedTypeNames = new ConcurrentHashMap<>();
+    private final Map<String, TypeDescriptorNode> referencedTypeDescriptors = new ConcurrentHashMap<>();
+    private volatile OASIndex oasIndex;
+
+    public GenerationContext(OpenAPI openAPI, boolean nullable) {
+        this.openAPI = openAPI;
+        this.nullable = nullable;
+    }
+
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    /**
+     * Returns the index of the operations and component schemas of the definition. The index is built on the first
+     * call and shared by all the generators of this context.
+     */
+    public OASIndex getOASIndex() {
+        OASIndex index = oasIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = oasIndex;
+                if (index == null) {
+                    index = OASIndex.from(openAPI);
+                    oasIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the Ballerina type name of the component schema referred by the given local reference.
+     *
+     * @param reference {@code $ref} value
+     * @return valid Ballerina type name of the referred schema
+     * @throws BallerinaOpenApiException when the reference is not a local reference
+     */
+    public String getReferencedTypeName(String reference) throws BallerinaOpenApiException {
+        String typeName = referencedTypeNames.get(reference);
+        if (typeName == null) {
+            typeName = GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(reference), true);
+            referencedTypeNames.put(reference, typeName);
+        }
+        return typeName;
+    }
+
+    /**
+     * Returns the component schema referred by the given local reference.
+     *
+     * @param reference {@code $ref} value
+     * @return referred schema, or null when the components section does not define it
+     * @throws BallerinaOpenApiException when the reference is not a local reference
+     */
+    public Schema<?> getReferencedSchema(String reference) throws BallerinaOpenApiException {
+        String typeName = getReferencedTypeName(reference);
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return null;
+        }
+        return openAPI.getComponents().getSchemas().get(typeName);
+    }
+
+    /**
+     * Returns the type descriptor used for a field or a type that refers to a component schema.
+     *
+     * @param reference {@code $ref} value
+     * @return type descriptor of the referred type, nilable when the referred schema is nullable
+     * @throws BallerinaOpenApiException when the referred schema is not defined in the components section
+     */
+    public TypeDescriptorNode getReferencedTypeDescriptor(String reference) throws BallerinaOpenApiException {
+        TypeDescriptorNode typeDescriptorNode = referencedTypeDescriptors.get(reference);
+        if (typeDescriptorNode == null) {
+            Schema<?> refSchema = getReferencedSchema(reference);
+            if (refSchema == null) {
+                throw new BallerinaOpenApiException(String.format("Undefined $ref: '%s' in openAPI contract.",
+                        reference));
+            }
+            typeDescriptorNode = TypeGeneratorUtils.getNullableType(refSchema, createSimpleNameReferenceNode(
+                    createIdentifierToken(getReferencedTypeName(reference))), nullable);
+            referencedTypeDescriptors.put(reference, typeDescriptorNode);
+        }
+        return typeDescriptorNode;
+    }
+}
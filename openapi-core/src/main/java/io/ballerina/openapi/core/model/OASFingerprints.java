@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.core.util.Json;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Content fingerprints of a normalized OpenAPI definition, used to find the parts of the definition that changed
+ * since a previous code generation.
+ * <p>
+ * Each component schema has a fingerprint of its content and of the component schemas it refers to directly or
+ * indirectly. Each operation has a fingerprint of its content, of the path level fields of its path and of all the
+ * component schemas it refers to. The definition fingerprint covers everything else (info, servers, security, the
+ * other components, etc.) together with the given generation options, so a change of it affects the whole
+ * generation.
+ *
+ * @since 1.3.0
+ */
+public class OASFingerprints {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String[] HTTP_METHODS = {"get", "put", "post", "delete", "options", "head", "patch",
+            "trace"};
+
+    private final String definitionFingerprint;
+    private final Map<String, String> schemaFingerprints;
+    private final Map<String, String> operationFingerprints;
+
+    public OASFingerprints(String definitionFingerprint, Map<String, String> schemaFingerprints,
+                           Map<String, String> operationFingerprints) {
+        this.definitionFingerprint = definitionFingerprint;
+        this.schemaFingerprints = Collections.unmodifiableMap(schemaFingerprints);
+        this.operationFingerprints = Collections.unmodifiableMap(operationFingerprints);
+    }
+
+    /**
+     * Compute the fingerprints of the definition of the given generation context.
+     *
+     * @param context context of the code generation
+     * @param options generation options that affect the whole generated code
+     * @return fingerprints of the definition
+     */
+    public static OASFingerprints from(GenerationContext context, String options) {
+        ObjectNode definition = Json.mapper().valueToTree(context.getOpenAPI());
+
+        OASIndex oasIndex = context.getOASIndex();
+        Map<String, String> schemaContents = new LinkedHashMap<>();
+        JsonNode components = definition.get("components");
+        if (components instanceof ObjectNode && components.get("schemas") != null) {
+            Iterator<Map.Entry<String, JsonNode>> schemas = components.get("schemas").fields();
+            while (schemas.hasNext()) {
+                Map.Entry<String, JsonNode> schema = schemas.next();
+                schemaContents.put(schema.getKey(), schema.getValue().toString());
+            }
+            ((ObjectNode) components).remove("schemas");
+        }
+        // The types of a schema may depend on the schemas it refers to, so these are part of its fingerprint
+        Map<String, String> schemaFingerprints = new LinkedHashMap<>();
+        for (Map.Entry<String, String> schemaContent : schemaContents.entrySet()) {
+            StringBuilder content = new StringBuilder(schemaContent.getValue());
+            Deque<String> references = new ArrayDeque<>(oasIndex.getSchemaDependencies(schemaContent.getKey()));
+            for (String schemaName : getReferredSchemas(oasIndex, references)) {
+                content.append(schemaName).append(schemaContents.get(schemaName));
+            }
+            schemaFingerprints.put(schemaContent.getKey(), hash(content.toString()));
+        }
+
+        Map<String, String> operationFingerprints = new LinkedHashMap<>();
+        JsonNode paths = definition.remove("paths");
+        if (paths != null) {
+            Iterator<Map.Entry<String, JsonNode>> pathItems = paths.fields();
+            while (pathItems.hasNext()) {
+                Map.Entry<String, JsonNode> pathItem = pathItems.next();
+                if (!(pathItem.getValue() instanceof ObjectNode)) {
+                    continue;
+                }
+                ObjectNode pathLevelFields = ((ObjectNode) pathItem.getValue()).deepCopy();
+                pathLevelFields.remove(Arrays.asList(HTTP_METHODS));
+                for (String method : HTTP_METHODS) {
+                    JsonNode operation = pathItem.getValue().get(method);
+                    if (operation == null) {
+                        continue;
+                    }
+                    StringBuilder content = new StringBuilder(pathLevelFields.toString()).append(operation);
+                    Deque<String> references = getSchemaReferences(operation, pathLevelFields);
+                    for (String schemaName : getReferredSchemas(oasIndex, references)) {
+                        content.append(schemaName).append(schemaContents.get(schemaName));
+                    }
+                    operationFingerprints.put(getOperationKey(method, pathItem.getKey()), hash(content.toString()));
+                }
+            }
+        }
+        String definitionFingerprint = hash(definition.toString() + options);
+        return new OASFingerprints(definitionFingerprint, schemaFingerprints, operationFingerprints);
+    }
+
+    /**
+     * Returns the key of an operation in {@link #getOperationFingerprints()}.
+     */
+    public static String getOperationKey(String method, String path) {
+        return method.toUpperCase(Locale.ENGLISH) + " " + path;
+    }
+
+    public String getDefinitionFingerprint() {
+        return definitionFingerprint;
+    }
+
+    /**
+     * Returns the fingerprint of each component schema, in the order of the schemas.
+     */
+    public Map<String, String> getSchemaFingerprints() {
+        return schemaFingerprints;
+    }
+
+    /**
+     * Returns the fingerprint of each operation keyed by {@link #getOperationKey(String, String)}, in the order of
+     * the operations.
+     */
+    public Map<String, String> getOperationFingerprints() {
+        return operationFingerprints;
+    }
+
+    /**
+     * Returns the names of the component schemas the given nodes refer to directly.
+     */
+    private static Deque<String> getSchemaReferences(JsonNode... nodes) {
+        Deque<String> references = new ArrayDeque<>();
+        Deque<JsonNode> pendingNodes = new ArrayDeque<>(Arrays.asList(nodes));
+        while (!pendingNodes.isEmpty()) {
+            JsonNode node = pendingNodes.pop();
+            JsonNode reference = node.get("$ref");
+            String schemaName = reference != null && reference.isTextual() ?
+                    OASIndex.getReferencedSchemaName(reference.asText()) : null;
+            if (schemaName != null) {
+                references.push(schemaName);
+            }
+            for (JsonNode child : node) {
+                if (child.isContainerNode()) {
+                    pendingNodes.push(child);
+                }
+            }
+        }
+        return references;
+    }
+
+    /**
+     * Returns the given component schemas together with the schemas they refer to directly or indirectly, in a
+     * stable order.
+     */
+    private static Set<String> getReferredSchemas(OASIndex oasIndex, Deque<String> references) {
+        Set<String> referredSchemas = new TreeSet<>();
+        while (!references.isEmpty()) {
+            String schemaName = references.pop();
+            if (referredSchemas.add(schemaName)) {
+                references.addAll(oasIndex.getSchemaDependencies(schemaName));
+            }
+        }
+        return referredSchemas;
+    }
+
+    private static String hash(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(HASH_ALGORITHM).digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
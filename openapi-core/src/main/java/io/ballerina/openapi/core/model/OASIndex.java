@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable index of a normalized OpenAPI definition shared by the generators of a code generation.
+ * <p>
+ * The operations are read from the paths once, in the order of the definition, and indexed by tag and operation id.
+ * The index also keeps the component schemas each component schema refers to, so that the generators do not need to
+ * walk the swagger model again for these.
+ *
+ * @since 1.3.0
+ */
+public class OASIndex {
+
+    private static final String SCHEMA_REFERENCE_PREFIX = "#/components/schemas/";
+
+    private final List<OASOperation> operations;
+    private final Map<String, List<OASOperation>> operationsByTag;
+    private final Map<String, OASOperation> operationsById;
+    private final Map<String, Set<String>> schemaDependencies;
+
+    private OASIndex(List<OASOperation> operations, Map<String, List<OASOperation>> operationsByTag,
+                     Map<String, OASOperation> operationsById, Map<String, Set<String>> schemaDependencies) {
+        this.operations = operations;
+        this.operationsByTag = operationsByTag;
+        this.operationsById = operationsById;
+        this.schemaDependencies = schemaDependencies;
+    }
+
+    /**
+     * Build the index of the given OpenAPI definition.
+     *
+     * @param openAPI normalized OpenAPI definition
+     * @return index of the definition
+     */
+    public static OASIndex from(OpenAPI openAPI) {
+        List<OASOperation> operations = new ArrayList<>();
+        Map<String, List<OASOperation>> operationsByTag = new LinkedHashMap<>();
+        Map<String, OASOperation> operationsById = new LinkedHashMap<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                        path.getValue().readOperationsMap().entrySet()) {
+                    OASOperation oasOperation = new OASOperation(path.getKey(), operation.getKey(),
+                            operation.getValue());
+                    operations.add(oasOperation);
+                    for (String tag : oasOperation.getTags()) {
+                        operationsByTag.computeIfAbsent(tag, key -> new ArrayList<>()).add(oasOperation);
+                    }
+                    String operationId = operation.getValue().getOperationId();
+                    if (operationId != null) {
+                        operationsById.putIfAbsent(operationId.trim(), oasOperation);
+                    }
+                }
+            }
+        }
+        operationsByTag.replaceAll((tag, taggedOperations) -> Collections.unmodifiableList(taggedOperations));
+
+        Map<String, Set<String>> schemaDependencies = new LinkedHashMap<>();
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            for (Map.Entry<String, Schema> schema : openAPI.getComponents().getSchemas().entrySet()) {
+                Set<String> references = new LinkedHashSet<>();
+                collectSchemaReferences(schema.getValue(), references, new IdentityHashMap<>());
+                schemaDependencies.put(schema.getKey(), Collections.unmodifiableSet(references));
+            }
+        }
+        return new OASIndex(Collections.unmodifiableList(operations), Collections.unmodifiableMap(operationsByTag),
+                Collections.unmodifiableMap(operationsById), Collections.unmodifiableMap(schemaDependencies));
+    }
+
+    /**
+     * Returns all the operations in the order they are defined.
+     */
+    public List<OASOperation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Returns the operations selected by the given tag and operation filters, in the order they are defined.
+     */
+    public List<OASOperation> getOperations(Filter filter) {
+        if (filter.getTags().isEmpty() && filter.getOperations().isEmpty()) {
+            return operations;
+        }
+        List<OASOperation> selectedOperations = new ArrayList<>();
+        for (OASOperation operation : operations) {
+            if (operation.isSelected(filter)) {
+                selectedOperations.add(operation);
+            }
+        }
+        return selectedOperations;
+    }
+
+    public List<OASOperation> getOperationsByTag(String tag) {
+        return operationsByTag.getOrDefault(tag, Collections.emptyList());
+    }
+
+    public Set<String> getTags() {
+        return operationsByTag.keySet();
+    }
+
+    public OASOperation getOperationById(String operationId) {
+        return operationsById.get(operationId);
+    }
+
+    /**
+     * Returns the names of the component schemas directly referred by the given component schema.
+     */
+    public Set<String> getSchemaDependencies(String schemaName) {
+        return schemaDependencies.getOrDefault(schemaName, Collections.emptySet());
+    }
+
+    /**
+     * Returns the name of the component schema the given reference refers to, as the schema is keyed in the
+     * normalized definition, or null if it is not a reference to a component schema. The name is normalized the
+     * same way as {@link GenerationContext#getReferencedTypeName(String)} does.
+     */
+    public static String getReferencedSchemaName(String reference) {
+        if (!reference.startsWith(SCHEMA_REFERENCE_PREFIX)) {
+            return null;
+        }
+        return GeneratorUtils.getValidName(reference.substring(reference.lastIndexOf('/') + 1), true);
+    }
+
+    private static void collectSchemaReferences(Schema<?> schema, Set<String> references,
+                                                Map<Schema<?>, Boolean> visited) {
+        if (schema == null || visited.put(schema, Boolean.TRUE) != null) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            String schemaName = getReferencedSchemaName(schema.get$ref());
+            if (schemaName != null) {
+                references.add(schemaName);
+            }
+            return;
+        }
+        if (schema.getProperties() != null) {
+            for (Schema<?> property : schema.getProperties().values()) {
+                collectSchemaReferences(property, references, visited);
+            }
+        }
+        if (schema instanceof ArraySchema) {
+            collectSchemaReferences(((ArraySchema) schema).getItems(), references, visited);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collectSchemaReferences((Schema<?>) schema.getAdditionalProperties(), references, visited);
+        }
+        if (schema.getNot() != null) {
+            collectSchemaReferences(schema.getNot(), references, visited);
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            collectComposedReferences(composedSchema.getAllOf(), references, visited);
+            collectComposedReferences(composedSchema.getOneOf(), references, visited);
+            collectComposedReferences(composedSchema.getAnyOf(), references, visited);
+        }
+    }
+
+    private static void collectComposedReferences(List<Schema> schemas, Set<String> references,
+                                                  Map<Schema<?>, Boolean> visited) {
+        if (schemas != null) {
+            for (Schema<?> schema : schemas) {
+                collectSchemaReferences(schema, references, visited);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An operation of the OpenAPI definition together with the path and the HTTP method it is defined for.
+ *
+ * @since 1.3.0
+ */
+public class OASOperation {
+
+    private final String path;
+    private final Map.Entry<PathItem.HttpMethod, Operation> operationEntry;
+
+    OASOperation(String path, PathItem.HttpMethod method, Operation operation) {
+        this.path = path;
+        this.operationEntry = new AbstractMap.SimpleImmutableEntry<>(method, operation);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public PathItem.HttpMethod getMethod() {
+        return operationEntry.getKey();
+    }
+
+    public Operation getOperation() {
+        return operationEntry.getValue();
+    }
+
+    /**
+     * Returns the HTTP method and the operation as a map entry, in the form the generators consume operations.
+     */
+    public Map.Entry<PathItem.HttpMethod, Operation> getOperationEntry() {
+        return operationEntry;
+    }
+
+    public List<String> getTags() {
+        List<String> tags = operationEntry.getValue().getTags();
+        return tags == null ? Collections.emptyList() : tags;
+    }
+
+    /**
+     * Check whether the operation is selected by the given tag and operation filters. All operations are selected
+     * when both filters are empty.
+     *
+     * @param filter user given tags and operations
+     * @return true if the operation has one of the filter tags or its operation id is in the operation filter
+     */
+    public boolean isSelected(Filter filter) {
+        List<String> filterTags = filter.getTags();
+        List<String> filterOperations = filter.getOperations();
+        if (filterTags.isEmpty() && filterOperations.isEmpty()) {
+            return true;
+        }
+        String operationId = operationEntry.getValue().getOperationId();
+        return !Collections.disjoint(filterTags, getTags()) ||
+                (operationId != null && filterOperations.contains(operationId.trim()));
+    }
+}
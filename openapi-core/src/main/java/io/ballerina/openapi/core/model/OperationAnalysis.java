@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analysis of an operation that the client and the service generators both depend on.
+ * <p>
+ * The parameters are partitioned by their location and the request body reference is resolved when the analysis is
+ * created. The relative resource path, which looks up the type of each path parameter, and the statements that
+ * extract the path parameters of a complex path, which are parsed from source, are created on the first use. When the
+ * client and the service of a definition are generated together, the client generator creates the analysis of each
+ * operation and hands it to the service generator, so that this work is done once per operation. The analysis is not
+ * thread safe.
+ *
+ * @since 1.3.0
+ */
+public class OperationAnalysis {
+
+    private final OASOperation operation;
+    private final List<Parameter> parameters;
+    private final List<Parameter> pathParameters = new ArrayList<>();
+    private final List<Parameter> queryParameters = new ArrayList<>();
+    private final List<Parameter> headerParameters = new ArrayList<>();
+    private final RequestBody requestBody;
+    private List<Node> relativeResourcePath;
+    private List<StatementNode> complexPathStatements;
+
+    private OperationAnalysis(OASOperation operation, RequestBody requestBody) {
+        this.operation = operation;
+        List<Parameter> operationParameters = operation.getOperation().getParameters();
+        this.parameters = operationParameters == null ? Collections.emptyList() : operationParameters;
+        for (Parameter parameter : parameters) {
+            String in = parameter.getIn().trim();
+            if (in.equals(GeneratorConstants.PATH)) {
+                pathParameters.add(parameter);
+            } else if (in.equals(GeneratorConstants.QUERY)) {
+                queryParameters.add(parameter);
+            } else if (in.equals(GeneratorConstants.HEADER)) {
+                headerParameters.add(parameter);
+            }
+        }
+        this.requestBody = requestBody;
+    }
+
+    /**
+     * Analyze the given operation of the given definition.
+     *
+     * @param operation operation to be analyzed
+     * @param openAPI   definition the operation belongs to
+     * @return analysis of the operation
+     * @throws BallerinaOpenApiException when the request body refers to a non-local component
+     */
+    public static OperationAnalysis of(OASOperation operation, OpenAPI openAPI) throws BallerinaOpenApiException {
+        return new OperationAnalysis(operation, resolveRequestBody(operation.getOperation().getRequestBody(),
+                openAPI));
+    }
+
+    /**
+     * Analyze the given operation of the given definition, which is defined for the given path and HTTP method.
+     */
+    public static OperationAnalysis of(String path, PathItem.HttpMethod method, Operation operation, OpenAPI openAPI)
+            throws BallerinaOpenApiException {
+        return of(new OASOperation(path, method, operation), openAPI);
+    }
+
+    /**
+     * Resolve the reference of the given request body, following references to references.
+     *
+     * @return the referenced request body, the given one if it is not a reference, or null if none is given
+     * @throws BallerinaOpenApiException when the request body refers to a non-local component
+     */
+    public static RequestBody resolveRequestBody(RequestBody requestBody, OpenAPI openAPI)
+            throws BallerinaOpenApiException {
+        while (requestBody != null && requestBody.get$ref() != null) {
+            String requestBodyName = GeneratorUtils.extractReferenceType(requestBody.get$ref());
+            requestBody = openAPI.getComponents().getRequestBodies().get(requestBodyName.trim());
+        }
+        return requestBody;
+    }
+
+    public OASOperation getOASOperation() {
+        return operation;
+    }
+
+    public String getPath() {
+        return operation.getPath();
+    }
+
+    public Operation getOperation() {
+        return operation.getOperation();
+    }
+
+    public Map.Entry<PathItem.HttpMethod, Operation> getOperationEntry() {
+        return operation.getOperationEntry();
+    }
+
+    /**
+     * Returns the parameters of the operation in the order of the definition.
+     */
+    public List<Parameter> getParameters() {
+        return parameters;
+    }
+
+    public List<Parameter> getPathParameters() {
+        return pathParameters;
+    }
+
+    public List<Parameter> getQueryParameters() {
+        return queryParameters;
+    }
+
+    public List<Parameter> getHeaderParameters() {
+        return headerParameters;
+    }
+
+    /**
+     * Returns the request body of the operation with its reference resolved, or null if the operation has no request
+     * body.
+     */
+    public RequestBody getRequestBody() {
+        return requestBody;
+    }
+
+    /**
+     * Returns the nodes of the relative resource path of the operation.
+     *
+     * @throws BallerinaOpenApiException when a path parameter has an unsupported type
+     */
+    public List<Node> getRelativeResourcePath() throws BallerinaOpenApiException {
+        if (relativeResourcePath == null) {
+            relativeResourcePath = GeneratorUtils.getRelativeResourcePath(operation.getPath(),
+                    operation.getOperation());
+        }
+        return relativeResourcePath;
+    }
+
+    /**
+     * Returns the statements that extract the path parameters of a path with special characters in its segments,
+     * e.g. {@code /customers/{customer_id}.json}, which are empty for other paths.
+     */
+    public List<StatementNode> getComplexPathStatements() {
+        if (complexPathStatements == null) {
+            complexPathStatements = GeneratorUtils.generateBodyStatementForComplexUrl(operation.getPath());
+        }
+        return complexPathStatements;
+    }
+}
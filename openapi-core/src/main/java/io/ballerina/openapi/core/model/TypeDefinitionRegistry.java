@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the type definitions generated for a module indexed by the type name, in the order they were registered.
+ * <p>
+ * The first definition registered for a name is kept, unless a component schema type is registered under that name
+ * later on. The type of a component schema is what the rest of the generated code refers to by its name, so it
+ * replaces an inline type of the same name, e.g. one generated for a parameter of the client, at the position of the
+ * inline type. Registering a different definition under an existing name is recorded as a conflict, while registering
+ * the same definition again is ignored. This registry is not thread safe.
+ *
+ * @since 1.3.0
+ */
+public class TypeDefinitionRegistry {
+
+    private final Map<String, TypeDefinitionNode> typeDefinitions = new LinkedHashMap<>();
+    private final Set<String> schemaTypeNames = new HashSet<>();
+    private final Set<String> conflicts = new LinkedHashSet<>();
+
+    /**
+     * Register the given type definition if there is no type definition with the same name.
+     *
+     * @param typeDefinitionNode type definition to be registered
+     * @return true if the type definition was added to the registry
+     */
+    public boolean register(TypeDefinitionNode typeDefinitionNode) {
+        String typeName = typeDefinitionNode.typeName().text();
+        TypeDefinitionNode existingNode = typeDefinitions.putIfAbsent(typeName, typeDefinitionNode);
+        if (existingNode == null) {
+            return true;
+        }
+        if (!isSameDefinition(existingNode, typeDefinitionNode)) {
+            conflicts.add(typeName);
+        }
+        return false;
+    }
+
+    /**
+     * Register the given type definitions in order.
+     */
+    public void registerAll(Collection<TypeDefinitionNode> typeDefinitionNodes) {
+        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
+            register(typeDefinitionNode);
+        }
+    }
+
+    /**
+     * Register the type definition of a component schema, replacing a type definition of the same name that was not
+     * registered as a component schema type.
+     *
+     * @param typeDefinitionNode type definition of a component schema
+     * @return true if the type definition was added to the registry
+     */
+    public boolean registerSchemaType(TypeDefinitionNode typeDefinitionNode) {
+        String typeName = typeDefinitionNode.typeName().text();
+        TypeDefinitionNode existingNode = typeDefinitions.get(typeName);
+        if (existingNode != null && schemaTypeNames.contains(typeName)) {
+            return register(typeDefinitionNode);
+        }
+        if (existingNode != null && !isSameDefinition(existingNode, typeDefinitionNode)) {
+            conflicts.add(typeName);
+        }
+        // Replacing the value keeps the position of the existing definition
+        typeDefinitions.put(typeName, typeDefinitionNode);
+        schemaTypeNames.add(typeName);
+        return true;
+    }
+
+    /**
+     * Register the given component schema type definitions in order.
+     */
+    public void registerSchemaTypes(Collection<TypeDefinitionNode> typeDefinitionNodes) {
+        for (TypeDefinitionNode typeDefinitionNode : typeDefinitionNodes) {
+            registerSchemaType(typeDefinitionNode);
+        }
+    }
+
+    public boolean contains(String typeName) {
+        return typeDefinitions.containsKey(typeName);
+    }
+
+    public boolean isEmpty() {
+        return typeDefinitions.isEmpty();
+    }
+
+    /**
+     * Returns the registered type definitions in the order they were registered.
+     */
+    public List<TypeDefinitionNode> getTypeDefinitions() {
+        return new ArrayList<>(typeDefinitions.values());
+    }
+
+    /**
+     * Returns the names that were registered with more than one distinct type definition.
+     */
+    public Set<String> getConflicts() {
+        return Collections.unmodifiableSet(conflicts);
+    }
+
+    private static boolean isSameDefinition(TypeDefinitionNode node, TypeDefinitionNode otherNode) {
+        return node == otherNode || node.toSourceCode().trim().equals(otherNode.toSourceCode().trim());
+    }
+}